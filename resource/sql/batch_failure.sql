@@ -0,0 +1,12 @@
+-- 배치 작업 재시도 실패 기록 테이블 추가 (기존 DB 마이그레이션)
+CREATE TABLE batch_failure (
+                               id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '배치 실패 기록 고유 식별자',
+                               job_name VARCHAR(100) NOT NULL COMMENT '배치 작업 이름',
+                               target_id BIGINT NOT NULL COMMENT '처리 대상 ID',
+                               attempts INT NOT NULL COMMENT '시도 횟수',
+                               error_type VARCHAR(255) NOT NULL COMMENT '마지막 예외 클래스 이름',
+                               error_message TEXT COMMENT '마지막 예외 메시지',
+                               created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '실패 기록 시간',
+                               updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '실패 기록 업데이트 시간',
+                               INDEX idx_batch_failure_job_created (job_name, created_at)
+);
@@ -0,0 +1,9 @@
+-- 차단 관계 복합 인덱스 (기존 DB 마이그레이션)
+-- (user_id, blocked_id) 단건 조회와 차단 관계 그래프의 변경분 동기화(updated_at)를 인덱스로 처리한다
+-- 외래 키는 새 복합 인덱스의 앞 컬럼을 사용하므로 단일 컬럼 인덱스는 함께 제거한다
+ALTER TABLE block
+    ADD KEY idx_block_user_blocked (user_id, blocked_id, is_block),
+    ADD KEY idx_block_blocked_user (blocked_id, user_id, is_block),
+    ADD KEY idx_block_updated_at (updated_at),
+    DROP KEY user_id,
+    DROP KEY blocked_id;
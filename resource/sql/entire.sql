@@ -16,9 +16,10 @@ CREATE TABLE user_social_account (
                                    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '소셜 계정 고유 식별자',
                                    user_id BINARY(16) NOT NULL COMMENT '연결된 사용자 ID (User 테이블 참조)',
                                    social_provider VARCHAR(20) NOT NULL COMMENT '소셜 로그인 제공자 (GOOGLE, KAKAO, NAVER 등)', -- ENUM -> VARCHAR(20)
-                                   social_provider_id VARCHAR(255) NOT NULL UNIQUE COMMENT '소셜 서비스에서 제공하는 사용자 ID',
+                                   social_provider_id VARCHAR(255) NOT NULL COMMENT '소셜 서비스에서 제공하는 사용자 ID',
                                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '소셜 계정 연결 시간',
                                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '소셜 계정 정보 업데이트 시간',
+                                   UNIQUE KEY uk_user_social_account_provider (social_provider, social_provider_id),
                                    FOREIGN KEY (user_id) REFERENCES user(id) ON DELETE CASCADE
 );
 
@@ -61,18 +62,28 @@ CREATE TABLE gathering (
                            id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '모임 고유 식별자',
                            title VARCHAR(50) NOT NULL COMMENT '모임 제목',
                            description TEXT COMMENT '모임 설명',
+                           search_text TEXT NOT NULL COMMENT '키워드 검색용 텍스트 (제목/설명의 두 글자 단위 토큰)',
 #                            application_deadline DATETIME NOT NULL COMMENT '모임 신청 마감 일시',
                            gathering_date DATETIME NOT NULL COMMENT '모임 진행 일시',
                            min_users INT NOT NULL COMMENT '모임 최소 인원',
                            max_users INT NOT NULL COMMENT '모임 최대 인원',
                            fee INT NOT NULL COMMENT '모임 참가비',
                            status VARCHAR(20) NOT NULL COMMENT '모임 상태 (RECRUITMENT, EXPIRATION, CANCELLED 등)', -- ENUM -> VARCHAR(20)
+                           approved_count INT NOT NULL DEFAULT 0 COMMENT '승인된 참가자 수 (주최자 포함)',
+                           pending_count INT NOT NULL DEFAULT 0 COMMENT '승인 대기 중인 참가 신청 수',
                            organizer_id BINARY(16) NOT NULL COMMENT '모임 주최자 ID (User 테이블 참조)',
                            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '모임 생성 시간',
                            updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '모임 정보 업데이트 시간',
                            FOREIGN KEY (organizer_id) REFERENCES user(id) ON DELETE CASCADE
 );
 
+-- 홈 피드 키셋 페이지네이션용 인덱스 (status, gathering_date, id 순 정렬)
+CREATE INDEX idx_gathering_status_date_id ON gathering (status, gathering_date, id);
+
+-- 키워드 검색용 FULLTEXT 인덱스 (MariaDB 는 ngram 파서가 없으므로 애플리케이션이 만든 bigram 토큰을 색인)
+-- 두 글자 토큰이 색인되도록 서버 옵션 innodb_ft_min_token_size=2, innodb_ft_enable_stopword=OFF 가 필요하다
+CREATE FULLTEXT INDEX ft_gathering_search_text ON gathering (search_text);
+
 -- 모임 참가자(신청, 승인, 거절)
 CREATE TABLE gathering_user (
                                id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '모임 참가자 고유 식별자',
@@ -92,10 +103,12 @@ CREATE TABLE gathering_location (
                                    gathering_id BIGINT NOT NULL COMMENT '모임 ID (Gathering 테이블 참조)',
                                    latitude DOUBLE COMMENT '위도 좌표',
                                    longitude DOUBLE COMMENT '경도 좌표',
+                                   coordinates POINT NOT NULL COMMENT '공간 인덱스용 좌표 (x: 경도, y: 위도, 좌표가 없으면 0 0)',
                                    address VARCHAR(255) COMMENT '상세 주소',
                                    place_name VARCHAR(255) COMMENT '장소명',
                                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '장소 정보 등록 시간',
                                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '장소 정보 업데이트 시간',
+                                   SPATIAL INDEX idx_gathering_location_coordinates (coordinates),
                                    FOREIGN KEY (gathering_id) REFERENCES gathering(id) ON DELETE CASCADE
 );
 
@@ -124,8 +137,50 @@ CREATE TABLE `block` (
   `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp() COMMENT '차단 정보 업데이트 시간',
   `is_block` tinyint(1) DEFAULT NULL COMMENT '차단 여부',
   PRIMARY KEY (`id`),
-  KEY `user_id` (`user_id`),
-  KEY `blocked_id` (`blocked_id`),
+  KEY `idx_block_user_blocked` (`user_id`, `blocked_id`, `is_block`),
+  KEY `idx_block_blocked_user` (`blocked_id`, `user_id`, `is_block`),
+  KEY `idx_block_updated_at` (`updated_at`),
   CONSTRAINT `block_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `user` (`id`) ON DELETE CASCADE,
   CONSTRAINT `block_ibfk_2` FOREIGN KEY (`blocked_id`) REFERENCES `user` (`id`) ON DELETE CASCADE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
\ No newline at end of file
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 배치 실패 기록
+CREATE TABLE batch_failure (
+                               id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '배치 실패 기록 고유 식별자',
+                               job_name VARCHAR(100) NOT NULL COMMENT '배치 작업 이름',
+                               target_id BIGINT NOT NULL COMMENT '처리 대상 ID',
+                               attempts INT NOT NULL COMMENT '시도 횟수',
+                               error_type VARCHAR(255) NOT NULL COMMENT '마지막 예외 클래스 이름',
+                               error_message TEXT COMMENT '마지막 예외 메시지',
+                               created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '실패 기록 시간',
+                               updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '실패 기록 업데이트 시간',
+                               INDEX idx_batch_failure_job_created (job_name, created_at)
+);
+
+
+-- 알림 아웃박스
+CREATE TABLE notification_outbox (
+                                     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '알림 고유 식별자',
+                                     channel VARCHAR(20) NOT NULL COMMENT '전송 채널 (MONEY, SERVER)',
+                                     content TEXT NOT NULL COMMENT '메시지 내용',
+                                     status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '전송 상태 (PENDING, SENDING, SENT, FAILED)',
+                                     attempts INT NOT NULL DEFAULT 0 COMMENT '전송 시도 횟수',
+                                     next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '다음 전송 시각',
+                                     sent_at TIMESTAMP NULL COMMENT '전송 완료 시각',
+                                     last_error VARCHAR(500) COMMENT '마지막 전송 오류',
+                                     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '알림 생성 시간',
+                                     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '알림 상태 업데이트 시간',
+                                     INDEX idx_notification_outbox_dispatch (channel, status, next_attempt_at, id)
+);
+
+-- 서버 간 공유 IP 차단 목록
+CREATE TABLE ip_blacklist (
+                              id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '차단 기록 고유 식별자',
+                              ip VARCHAR(45) NOT NULL UNIQUE COMMENT '차단 IP (IPv4/IPv6)',
+                              reason VARCHAR(500) COMMENT '차단 사유',
+                              expires_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '차단 만료 시각 (해제 시 해제 시각)',
+                              created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '차단 시간',
+                              updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '차단 정보 업데이트 시간',
+                              INDEX idx_ip_blacklist_updated (updated_at),
+                              INDEX idx_ip_blacklist_expires (expires_at)
+);
@@ -0,0 +1,11 @@
+-- 모임 장소 공간 인덱스 추가 (기존 DB 마이그레이션)
+-- 공간 인덱스 컬럼은 NULL 을 허용하지 않으므로 기존 행을 채운 뒤 NOT NULL 로 변경한다
+ALTER TABLE gathering_location
+    ADD COLUMN coordinates POINT NULL COMMENT '공간 인덱스용 좌표 (x: 경도, y: 위도, 좌표가 없으면 0 0)' AFTER longitude;
+
+UPDATE gathering_location
+SET coordinates = POINT(COALESCE(longitude, 0), COALESCE(latitude, 0));
+
+ALTER TABLE gathering_location
+    MODIFY coordinates POINT NOT NULL COMMENT '공간 인덱스용 좌표 (x: 경도, y: 위도, 좌표가 없으면 0 0)',
+    ADD SPATIAL INDEX idx_gathering_location_coordinates (coordinates);
@@ -0,0 +1,16 @@
+-- 모임 승인/대기 참가자 수 비정규화 컬럼 추가 (기존 DB 마이그레이션)
+ALTER TABLE gathering
+    ADD COLUMN approved_count INT NOT NULL DEFAULT 0 COMMENT '승인된 참가자 수 (주최자 포함)' AFTER status,
+    ADD COLUMN pending_count INT NOT NULL DEFAULT 0 COMMENT '승인 대기 중인 참가 신청 수' AFTER approved_count;
+
+-- 기존 참가 상태로 카운터 채우기
+UPDATE gathering g
+    LEFT JOIN (
+        SELECT gathering_id,
+               SUM(status = 'APPROVED') AS approved,
+               SUM(status = 'PENDING') AS pending
+        FROM gathering_user
+        GROUP BY gathering_id
+    ) c ON c.gathering_id = g.id
+SET g.approved_count = COALESCE(c.approved, 0),
+    g.pending_count = COALESCE(c.pending, 0);
@@ -0,0 +1,8 @@
+-- 모임 키워드 검색용 FULLTEXT 인덱스 추가 (기존 DB 마이그레이션)
+-- MariaDB 는 ngram 파서가 없으므로 애플리케이션이 제목/설명을 두 글자 단위(bigram)로 잘라 search_text 에 저장한다
+-- 서버 옵션 innodb_ft_min_token_size=2, innodb_ft_enable_stopword=OFF 를 적용한 뒤 인덱스를 만들어야 두 글자 토큰이 색인된다
+-- 기존 모임의 search_text 는 애플리케이션 시작 시 비어 있는 모임부터 채워진다 (GatheringSearchTextBackfill)
+ALTER TABLE gathering
+    ADD COLUMN search_text TEXT NOT NULL DEFAULT '' COMMENT '키워드 검색용 텍스트 (제목/설명의 두 글자 단위 토큰)' AFTER description;
+
+CREATE FULLTEXT INDEX ft_gathering_search_text ON gathering (search_text);
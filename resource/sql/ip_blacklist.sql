@@ -0,0 +1,11 @@
+-- 차단 IP 목록 테이블 추가 (기존 DB 마이그레이션)
+CREATE TABLE ip_blacklist (
+                              id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '차단 기록 고유 식별자',
+                              ip VARCHAR(45) NOT NULL UNIQUE COMMENT '차단 IP (IPv4/IPv6)',
+                              reason VARCHAR(500) COMMENT '차단 사유',
+                              expires_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '차단 만료 시각 (해제 시 해제 시각)',
+                              created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '차단 시간',
+                              updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '차단 정보 업데이트 시간',
+                              INDEX idx_ip_blacklist_updated (updated_at),
+                              INDEX idx_ip_blacklist_expires (expires_at)
+);
@@ -0,0 +1,14 @@
+-- 외부 알림 아웃박스 테이블 추가 (기존 DB 마이그레이션)
+CREATE TABLE notification_outbox (
+                                     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '알림 고유 식별자',
+                                     channel VARCHAR(20) NOT NULL COMMENT '전송 채널 (MONEY, SERVER)',
+                                     content TEXT NOT NULL COMMENT '메시지 내용',
+                                     status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '전송 상태 (PENDING, SENDING, SENT, FAILED)',
+                                     attempts INT NOT NULL DEFAULT 0 COMMENT '전송 시도 횟수',
+                                     next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '다음 전송 시각',
+                                     sent_at TIMESTAMP NULL COMMENT '전송 완료 시각',
+                                     last_error VARCHAR(500) COMMENT '마지막 전송 오류',
+                                     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '알림 생성 시간',
+                                     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '알림 상태 업데이트 시간',
+                                     INDEX idx_notification_outbox_dispatch (channel, status, next_attempt_at, id)
+);
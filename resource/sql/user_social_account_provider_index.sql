@@ -0,0 +1,5 @@
+-- 소셜 계정 조회용 (social_provider, social_provider_id) 복합 유니크 인덱스 (기존 DB 마이그레이션)
+-- 로그인 시 제공자와 제공자 ID로 조회하므로 단일 컬럼 유니크 인덱스를 복합 인덱스로 교체한다
+ALTER TABLE user_social_account
+    DROP INDEX social_provider_id,
+    ADD UNIQUE KEY uk_user_social_account_provider (social_provider, social_provider_id);
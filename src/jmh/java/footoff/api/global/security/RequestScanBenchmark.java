@@ -0,0 +1,95 @@
+package footoff.api.global.security;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 요청 검사 비용 비교 (요청 한 건당 ns, -prof gc 로 할당량 확인)
+ * legacy: 기존 필터의 정규식 스트림 + 쿼리 소문자 변환 + 모니터링 정규식 3개
+ * scanner: 키워드 오토마톤 한 번 + 키워드가 나온 규칙만 정규식 확인
+ * cached: scanner + 판정 캐시 (같은 URI 반복)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestScanBenchmark {
+
+    private static final List<Pattern> SUSPICIOUS_PATHS = Arrays.asList(
+            Pattern.compile(".+\\.php$"),
+            Pattern.compile(".+\\.sh$"),
+            Pattern.compile(".+\\.cgi$"),
+            Pattern.compile(".*/(wp|wordpress|admin|shell|cmd|powershell)/.*"),
+            Pattern.compile(".*/actuator(?!/health$).*"),
+            Pattern.compile(".*/get\\.php$"),
+            Pattern.compile(".*/download/powershell/.*"));
+
+    private static final List<Pattern> SUSPICIOUS_PARAMS = Arrays.asList(
+            Pattern.compile(".*select.*from.*"),
+            Pattern.compile(".*union.*select.*"),
+            Pattern.compile(".*exec.*"),
+            Pattern.compile(".*'.*or.*'.*'.*=.*'"),
+            Pattern.compile(".*\".*or.*\".*\".*=.*\""),
+            Pattern.compile(".*\\\\x[0-9a-fA-F]{2}.*"));
+
+    private static final Pattern SQL_INJECTION_PATTERN = Pattern.compile(
+            "(?i)('|\\s)*(OR|AND)\\s+\\d+\\s*=\\s*\\d+|UNION\\s+SELECT|INSERT\\s+INTO|UPDATE\\s+SET|"
+                    + "DELETE\\s+FROM|DROP\\s+TABLE|EXEC\\s+XP_|SELECT\\s+\\*\\s+FROM");
+    private static final Pattern XSS_PATTERN = Pattern.compile(
+            "(?i)<script[^>]*>[^<]*</script>|javascript\\s*:|on\\w+\\s*=|eval\\s*\\(|document\\.cookie|document\\.write");
+    private static final Pattern PATH_TRAVERSAL_PATTERN = Pattern.compile(
+            "(?i)(\\.\\./|\\.\\.\\\\)|/etc/passwd|c:\\\\windows|/sys/|/proc/");
+
+    @Param({"/api/gatherings/1024/users", "/api/user/3f2c9a7e-8b1d-4c55-9a0e-2d3c4b5a6f70/profile"})
+    public String path;
+
+    @Param({"page=0&size=20&sort=gatheringDate,asc"})
+    public String query;
+
+    private RequestScanner requestScanner;
+
+    @Setup
+    public void setup() {
+        requestScanner = new RequestScanner();
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(SUSPICIOUS_PATHS.stream().anyMatch(pattern -> pattern.matcher(path).matches()));
+        blackhole.consume(SUSPICIOUS_PARAMS.stream().anyMatch(pattern -> pattern.matcher(query.toLowerCase()).matches()));
+        blackhole.consume(SQL_INJECTION_PATTERN.matcher(path).find()
+                || XSS_PATTERN.matcher(path).find()
+                || PATH_TRAVERSAL_PATTERN.matcher(path).find());
+    }
+
+    @Benchmark
+    public void scanner(Blackhole blackhole) {
+        blackhole.consume(requestScanner.scanPathUncached(path));
+        blackhole.consume(requestScanner.scanQueryUncached(query));
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        blackhole.consume(requestScanner.scanPath(path));
+        blackhole.consume(requestScanner.scanQuery(query));
+    }
+}
@@ -0,0 +1,79 @@
+package footoff.api.domain.auth.component;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import footoff.api.domain.auth.entity.UserSocialAccount;
+import footoff.api.domain.auth.repository.UserSocialAccountRepository;
+import footoff.api.global.common.enums.SocialProvider;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소셜 계정(제공자, 제공자 ID)을 사용자 ID로 변환하는 컴포넌트
+ * 변환 결과를 캐시에 보관하여 재로그인 시에는 DB 조회 없이 처리한다
+ * 처음 로그인하는 계정은 별도 트랜잭션에서 생성하며, 동시에 생성하다 유니크 제약에 걸리면 먼저 생성된 계정을 사용한다
+ */
+@Slf4j
+@Component
+public class SocialAccountResolver {
+
+    public static final String CACHE_NAME = "socialAccountCache";
+
+    private final UserSocialAccountRepository userSocialAccountRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Cache cache;
+
+    public SocialAccountResolver(UserSocialAccountRepository userSocialAccountRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 CacheManager cacheManager) {
+        this.userSocialAccountRepository = userSocialAccountRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), CACHE_NAME);
+    }
+
+    /**
+     * 소셜 계정에 연결된 사용자 ID를 조회하고, 없으면 생성하는 메서드
+     *
+     * @param provider 소셜 제공자
+     * @param providerId 소셜 제공자의 사용자 ID
+     * @param registrar 계정이 없을 때 사용자와 소셜 계정을 생성하는 함수 (새 트랜잭션 안에서 실행)
+     * @return 사용자 ID
+     */
+    public UUID resolveUserId(SocialProvider provider, String providerId, Supplier<UserSocialAccount> registrar) {
+        String key = cacheKey(provider, providerId);
+        UUID cached = cache.get(key, UUID.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        UUID userId = userSocialAccountRepository.findUserIdBySocialProviderAndSocialProviderId(provider, providerId)
+                .orElseGet(() -> register(provider, providerId, registrar));
+        cache.put(key, userId);
+        return userId;
+    }
+
+    private UUID register(SocialProvider provider, String providerId, Supplier<UserSocialAccount> registrar) {
+        try {
+            return requiresNewTransaction.execute(status -> registrar.get().getUser().getId());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 계정의 첫 로그인이 동시에 들어와 다른 요청이 먼저 생성한 경우
+            log.info("소셜 계정이 이미 생성되어 기존 계정을 사용합니다: provider={}, providerId={}", provider, providerId);
+            return userSocialAccountRepository.findUserIdBySocialProviderAndSocialProviderId(provider, providerId)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private static String cacheKey(SocialProvider provider, String providerId) {
+        return provider.name() + ":" + providerId;
+    }
+}
@@ -17,7 +17,9 @@ import lombok.AccessLevel;
  * 한 명의 User는 여러 소셜 계정을 가질 수 있습니다(1:N 관계).
  */
 @Entity
-@Table(name = "user_social_account")
+@Table(name = "user_social_account",
+		uniqueConstraints = @UniqueConstraint(name = "uk_user_social_account_provider",
+				columnNames = {"social_provider", "social_provider_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserSocialAccount extends BaseEntity {
@@ -44,9 +46,9 @@ public class UserSocialAccount extends BaseEntity {
 	
 	/**
 	 * 소셜 서비스에서 제공하는 고유 사용자 ID
-	 * 각 소셜 서비스별로 고유하며, 중복 가입 방지를 위해 unique 제약 조건 적용
+	 * 각 소셜 서비스별로 고유하며, 중복 가입 방지를 위해 (social_provider, social_provider_id) unique 제약 조건 적용
 	 */
-	@Column(name = "social_provider_id", nullable = false, unique = true)
+	@Column(name = "social_provider_id", nullable = false)
 	private String socialProviderId;
 
 	/**
@@ -11,7 +11,8 @@ public enum ErrorStatus {
     _INVALID_TOKEN("유효하지 않은 토큰입니다."),
     _EXPIRED_TOKEN("만료된 토큰입니다."),
     _UNAUTHORIZED("인증되지 않은 사용자입니다."),
-    _AUTH_FAILED("인증에 실패했습니다.");
+    _AUTH_FAILED("인증에 실패했습니다."),
+    _PROVIDER_UNAVAILABLE("소셜 로그인 서버와 통신할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final String message;
 } 
\ No newline at end of file
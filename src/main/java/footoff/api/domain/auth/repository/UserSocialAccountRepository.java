@@ -1,8 +1,11 @@
 package footoff.api.domain.auth.repository;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import footoff.api.domain.auth.entity.UserSocialAccount;
@@ -26,5 +29,21 @@ public interface UserSocialAccountRepository extends JpaRepository<UserSocialAcc
      * @return 조회된 소셜 계정 (없는 경우 빈 Optional)
      */
     Optional<UserSocialAccount> findBySocialProviderAndSocialProviderId(SocialProvider provider, String providerId);
+
+    /**
+     * 소셜 제공자와 소셜 제공자 ID로 연결된 사용자 ID만 조회하는 메서드
+     * (social_provider, social_provider_id) 유니크 인덱스로 한 행을 찾은 뒤 해당 행에서 user_id 를 읽으며, 사용자 엔티티는 로딩하지 않습니다.
+     * (user_id 는 인덱스에 없으므로 인덱스만으로 처리되지는 않습니다. 로그인 경로에서는 socialAccountCache 로 반복 조회를 줄입니다.)
+     *
+     * @param provider 소셜 제공자 유형
+     * @param providerId 소셜 제공자에서 제공하는 사용자 ID
+     * @return 사용자 ID (없는 경우 빈 Optional)
+     */
+    @Query("""
+            SELECT a.user.id FROM UserSocialAccount a
+            WHERE a.socialProvider = :provider AND a.socialProviderId = :providerId
+            """)
+    Optional<UUID> findUserIdBySocialProviderAndSocialProviderId(@Param("provider") SocialProvider provider,
+                                                                 @Param("providerId") String providerId);
     
 }
@@ -6,6 +6,7 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
+import footoff.api.domain.auth.component.SocialAccountResolver;
 import footoff.api.domain.auth.dto.KaKaoLoginResponseDto;
 import footoff.api.domain.auth.dto.AppleLoginResponseDto;
 import footoff.api.domain.auth.dto.KakaoDto;
@@ -38,6 +39,7 @@ public class AuthServiceImpl implements AuthService {
     private final UserSocialAccountRepository userSocialAccountRepository;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final SocialAccountResolver socialAccountResolver;
     
     /**
      * 카카오 로그인 처리 메서드
@@ -48,13 +50,15 @@ public class AuthServiceImpl implements AuthService {
      * 4. 해당 카카오 ID로 등록된 계정이 있는지 확인하고, 없으면 새로 생성합니다.
      * 5. JWT 토큰을 생성하여 응답 헤더에 추가합니다.
      * 
+     * 재로그인 계정은 캐시에서 사용자 ID를 찾으므로 DB를 사용하지 않으며,
+     * 외부 API 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다. (계정 생성만 별도 트랜잭션)
+     * 
      * @param accessCode 카카오 인증 코드
      * @param httpServletResponse HTTP 응답 객체
      * @return 카카오 로그인 응답 DTO (사용자 ID와 토큰 정보 포함)
      * @throws RuntimeException 카카오 프로필 정보를 가져오는데 실패한 경우
      */
     @Override
-    @Transactional
     public KaKaoLoginResponseDto kakaoLogin(String accessCode, HttpServletResponse httpServletResponse) {
         // 카카오 OAuth 토큰 요청
         KakaoDto.OAuthToken oAuthToken = kakaoUtil.requestToken(accessCode);
@@ -87,16 +91,15 @@ public class AuthServiceImpl implements AuthService {
         final String finalEmail = email;
         
         // 기존 계정 찾기 또는 새로 생성
-        UserSocialAccount kakaoAccount = userSocialAccountRepository.findBySocialProviderAndSocialProviderId(
-            SocialProvider.KAKAO, finalKakaoId.toString())
-            .orElseGet(() -> createKakaoAccount(finalKakaoId, finalEmail));
+        UUID userId = socialAccountResolver.resolveUserId(SocialProvider.KAKAO, finalKakaoId.toString(),
+            () -> createKakaoAccount(finalKakaoId, finalEmail));
 
         // JWT 토큰 생성 및 헤더에 추가
-        String token = jwtUtil.createAccessToken(kakaoId, "USER");
-        httpServletResponse.setHeader("Authorization", token);
+        String token = jwtUtil.createAccessToken(userId, "USER");
+        httpServletResponse.setHeader("Authorization", "Bearer " + token);
 
         // 로그인 응답 DTO 반환
-        return new KaKaoLoginResponseDto(kakaoAccount.getUser().getId().toString(),
+        return new KaKaoLoginResponseDto(userId.toString(),
                                         oAuthToken.getAccess_token(), 
                                         oAuthToken.getRefresh_token());
     }
@@ -161,7 +164,6 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    @Transactional
     public AppleLoginResponseDto appleLogin(String code, HttpServletResponse httpServletResponse) {
         // 애플 OAuth 토큰 요청
         AppleDto.OAuthToken oAuthToken = appleUtil.requestToken(code);
@@ -184,16 +186,15 @@ public class AuthServiceImpl implements AuthService {
         String email = appleProfile.getEmail() != null ? appleProfile.getEmail() : "";
         
         // 기존 계정 찾기 또는 새로 생성
-        UserSocialAccount appleAccount = userSocialAccountRepository.findBySocialProviderAndSocialProviderId(
-            SocialProvider.APPLE, appleId)
-            .orElseGet(() -> createAppleAccount(appleId, email));
+        UUID userId = socialAccountResolver.resolveUserId(SocialProvider.APPLE, appleId,
+            () -> createAppleAccount(appleId, email));
 
         // JWT 토큰 생성 및 헤더에 추가
-        String token = jwtUtil.createAccessToken(appleId, "USER");
-        httpServletResponse.setHeader("Authorization", token);
+        String token = jwtUtil.createAccessToken(userId, "USER");
+        httpServletResponse.setHeader("Authorization", "Bearer " + token);
 
         // 로그인 응답 DTO 반환
-        return new AppleLoginResponseDto(appleAccount.getUser().getId().toString(),
+        return new AppleLoginResponseDto(userId.toString(),
                                        oAuthToken.getAccess_token(), 
                                        oAuthToken.getRefresh_token());
     }
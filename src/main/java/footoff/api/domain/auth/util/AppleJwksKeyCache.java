@@ -0,0 +1,170 @@
+package footoff.api.domain.auth.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import footoff.api.global.http.OutboundHttpClient;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플 ID 토큰 서명 검증용 공개키(JWKS) 캐시
+ * 공개키 목록을 kid 별로 메모리에 보관하여 평상시 로그인 검증은 네트워크 호출 없이 처리한다
+ * - 12시간이 지나면 기존 목록을 계속 사용하면서 백그라운드에서 다시 가져온다
+ * - 24시간이 지나면 만료되어 다음 요청에서 다시 가져온다
+ * - 모르는 kid 가 들어오면(키 교체) 즉시 다시 가져오되, 진행 중인 갱신이 있으면 그 결과를 함께 기다리고 1분에 한 번으로 제한한다
+ */
+@Slf4j
+@Component
+public class AppleJwksKeyCache {
+
+    static final Duration REFRESH_AFTER = Duration.ofHours(12);
+    static final Duration EXPIRE_AFTER = Duration.ofHours(24);
+    static final Duration MIN_FORCED_REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration FORCED_REFRESH_TIMEOUT = Duration.ofSeconds(5);
+    private static final String KEY_SET = "apple";
+
+    private final Supplier<String> jwksSource;
+    private final ObjectMapper objectMapper;
+    private final Ticker ticker;
+    private final LoadingCache<String, Map<String, PublicKey>> keySets;
+    private final AtomicLong lastForcedRefreshNanos;
+
+    /**
+     * 설정된 위치에서 공개키 목록을 가져오는 캐시를 생성한다
+     * http(s) 주소는 외부 API 공용 클라이언트로, 그 외(file:, classpath:)는 리소스로 읽는다
+     */
+    @Autowired
+    public AppleJwksKeyCache(OutboundHttpClient outboundHttpClient,
+                             ResourceLoader resourceLoader,
+                             ObjectMapper objectMapper,
+                             @Value("${apple.auth.jwks-uri:https://appleid.apple.com/auth/keys}") String jwksUri) {
+        this(jwksSource(outboundHttpClient, resourceLoader, jwksUri), objectMapper, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    AppleJwksKeyCache(Supplier<String> jwksSource, ObjectMapper objectMapper, Ticker ticker, Executor refreshExecutor) {
+        this.jwksSource = jwksSource;
+        this.objectMapper = objectMapper;
+        this.ticker = ticker;
+        this.lastForcedRefreshNanos = new AtomicLong(ticker.read() - MIN_FORCED_REFRESH_INTERVAL.toNanos());
+        this.keySets = Caffeine.newBuilder()
+                .ticker(ticker)
+                .executor(refreshExecutor)
+                .refreshAfterWrite(REFRESH_AFTER)
+                .expireAfterWrite(EXPIRE_AFTER)
+                .build(key -> load());
+    }
+
+    /**
+     * kid 에 해당하는 공개키를 조회하는 메서드
+     *
+     * @param kid ID 토큰 헤더의 키 ID
+     * @return 공개키 (다시 가져온 후에도 없으면 null)
+     */
+    public PublicKey getKey(String kid) {
+        PublicKey key = keySets.get(KEY_SET).get(kid);
+        if (key != null || kid == null || !tryAcquireForcedRefresh()) {
+            return key;
+        }
+
+        log.info("알 수 없는 애플 공개키 ID, 공개키 목록을 다시 가져옵니다: kid={}", kid);
+        try {
+            // 이미 진행 중인 갱신이 있으면 같은 결과를 기다린다
+            Map<String, PublicKey> refreshed = keySets.refresh(KEY_SET)
+                    .get(FORCED_REFRESH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            return refreshed != null ? refreshed.get(kid) : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.warn("애플 공개키 목록 갱신 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean tryAcquireForcedRefresh() {
+        long now = ticker.read();
+        long last = lastForcedRefreshNanos.get();
+        return now - last >= MIN_FORCED_REFRESH_INTERVAL.toNanos()
+                && lastForcedRefreshNanos.compareAndSet(last, now);
+    }
+
+    private Map<String, PublicKey> load() {
+        Map<String, PublicKey> keys = parse(jwksSource.get());
+        log.info("애플 공개키 목록 갱신 완료: kid={}", keys.keySet());
+        return keys;
+    }
+
+    /**
+     * JWKS JSON 에서 서명용 RSA 공개키를 kid 별로 추출하는 메서드
+     */
+    Map<String, PublicKey> parse(String json) {
+        try {
+            JsonNode root = objectMapper.readTree(json);
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            Map<String, PublicKey> keys = new HashMap<>();
+
+            for (JsonNode jwk : root.path("keys")) {
+                if (!"RSA".equals(jwk.path("kty").asText()) || !"sig".equals(jwk.path("use").asText("sig"))) {
+                    continue;
+                }
+                BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+                BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+                keys.put(jwk.path("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            }
+
+            if (keys.isEmpty()) {
+                throw new IllegalStateException("애플 공개키 목록에 서명용 RSA 키가 없습니다.");
+            }
+            return Map.copyOf(keys);
+        } catch (IOException e) {
+            throw new UncheckedIOException("애플 공개키 목록 파싱 실패", e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("애플 공개키 생성 실패", e);
+        }
+    }
+
+    private static Supplier<String> jwksSource(OutboundHttpClient outboundHttpClient, ResourceLoader resourceLoader, String jwksUri) {
+        if (jwksUri.startsWith("http://") || jwksUri.startsWith("https://")) {
+            return () -> outboundHttpClient.exchange(
+                    OutboundHttpClient.APPLE, jwksUri, HttpMethod.GET, HttpEntity.EMPTY, String.class).getBody();
+        }
+        Resource resource = resourceLoader.getResource(jwksUri);
+        return () -> {
+            try (InputStream in = resource.getInputStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("애플 공개키 목록 파일을 읽을 수 없습니다: " + jwksUri, e);
+            }
+        };
+    }
+}
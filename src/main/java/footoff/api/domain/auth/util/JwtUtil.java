@@ -1,5 +1,10 @@
 package footoff.api.domain.auth.util;
 
+import java.util.Optional;
+import java.util.UUID;
+
+import footoff.api.global.security.AuthenticatedUser;
+
 /**
  * JWT 토큰 관련 유틸리티 인터페이스
  * 
@@ -9,26 +14,25 @@ package footoff.api.domain.auth.util;
 public interface JwtUtil {
     
     /**
-     * 액세스 토큰 생성 (카카오 로그인용)
+     * 액세스 토큰 생성
      * 
-     * 사용자 인증 후 발급되는 JWT 액세스 토큰을 생성합니다.
-     * 이 토큰은 클라이언트가 보호된 리소스에 접근할 때 인증 수단으로 사용됩니다.
+     * 사용자 인증 후 발급되는 서명된 JWT 액세스 토큰을 생성합니다.
+     * 토큰에는 내부 사용자 ID와 역할이 담기며, 클라이언트가 보호된 리소스에 접근할 때 인증 수단으로 사용됩니다.
      * 
-     * @param kakaoId 카카오 사용자 고유 ID (소셜 로그인에서 제공받은 식별자)
+     * @param userId 내부 사용자 ID
      * @param role 사용자 역할 (예: "USER", "ADMIN")
-     * @return 생성된 JWT 액세스 토큰 문자열
+     * @return 생성된 JWT 액세스 토큰 문자열 ("Bearer " 접두사 제외)
      */
-    String createAccessToken(Long kakaoId, String role);
+    String createAccessToken(UUID userId, String role);
     
     /**
-     * 액세스 토큰 생성 (애플 로그인용)
+     * 액세스 토큰 검증
      * 
-     * 사용자 인증 후 발급되는 JWT 액세스 토큰을 생성합니다.
-     * 이 토큰은 클라이언트가 보호된 리소스에 접근할 때 인증 수단으로 사용됩니다.
+     * 서명, 발급자, 만료 시간을 검증하고 토큰에 담긴 사용자 정보를 반환합니다.
+     * DB를 조회하지 않으며, 최근 검증한 토큰은 다시 파싱하지 않습니다.
      * 
-     * @param appleId 애플 사용자 고유 ID (소셜 로그인에서 제공받은 식별자)
-     * @param role 사용자 역할 (예: "USER", "ADMIN")
-     * @return 생성된 JWT 액세스 토큰 문자열
+     * @param token JWT 액세스 토큰 문자열 ("Bearer " 접두사 제외)
+     * @return 인증 사용자 정보 (유효하지 않은 토큰이면 빈 Optional)
      */
-    String createAccessToken(String appleId, String role);
-} 
\ No newline at end of file
+    Optional<AuthenticatedUser> verify(String token);
+}
@@ -1,26 +1,98 @@
 package footoff.api.domain.auth.util;
 
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import footoff.api.global.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
 /**
- * JWT 토큰 관련 유틸리티 구현체
+ * JWT 토큰 관련 유틸리티 구현체 (HS256)
+ * 서명 키와 파서는 생성 시 한 번만 만들어 재사용하고, 검증에 성공한 토큰은 잠시 캐시하여 다시 파싱하지 않는다
  */
+@Slf4j
 @Component
 public class JwtUtilImpl implements JwtUtil {
 
+    static final String ISSUER = "footoff";
+    private static final String ROLE_CLAIM = "role";
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+    private static final Duration VERIFIED_TOKEN_CACHE_TTL = Duration.ofMinutes(5);
+
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final Duration accessTokenValidity;
+    private final Cache<String, AuthenticatedUser> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfterWrite(VERIFIED_TOKEN_CACHE_TTL)
+            .build();
+
+    /**
+     * @param secret Base64 로 인코딩된 서명 키 (256비트 이상)
+     * @param accessTokenValidity 액세스 토큰 유효 기간
+     */
+    public JwtUtilImpl(@Value("${jwt.secret}") String secret,
+                       @Value("${jwt.access-token-validity:1h}") Duration accessTokenValidity) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .requireIssuer(ISSUER)
+                .build();
+        this.accessTokenValidity = accessTokenValidity;
+    }
+
     @Override
-    public String createAccessToken(Long kakaoId, String role) {
-        // JWT 토큰 생성 로직 구현
-        // 실제로는 JWT 라이브러리를 사용하여 토큰을 생성해야 합니다.
-        // 여기서는 간단한 예시만 구현합니다.
-        return "Bearer " + kakaoId + "_" + role + "_token";
+    public String createAccessToken(UUID userId, String role) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setIssuer(ISSUER)
+                .setSubject(userId.toString())
+                .claim(ROLE_CLAIM, role)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(accessTokenValidity)))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
     }
-    
+
     @Override
-    public String createAccessToken(String appleId, String role) {
-        // JWT 토큰 생성 로직 구현
-        // 실제로는 JWT 라이브러리를 사용하여 토큰을 생성해야 합니다.
-        // 애플 ID는 문자열 형태이므로 그대로 사용합니다.
-        return "Bearer " + appleId + "_" + role + "_token";
+    public Optional<AuthenticatedUser> verify(String token) {
+        AuthenticatedUser cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(token);
+            return Optional.empty();
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            AuthenticatedUser user = new AuthenticatedUser(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get(ROLE_CLAIM, String.class),
+                    claims.getExpiration().toInstant());
+            verifiedTokens.put(token, user);
+            return Optional.of(user);
+        } catch (JwtException | IllegalArgumentException | NullPointerException e) {
+            log.debug("유효하지 않은 액세스 토큰: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
-} 
\ No newline at end of file
+}
@@ -6,11 +6,10 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.util.LinkedMultiValueMap;
@@ -19,21 +18,26 @@ import org.springframework.util.MultiValueMap;
 import footoff.api.domain.auth.dto.KakaoDto;
 import footoff.api.domain.auth.exception.AuthHandler;
 import footoff.api.domain.auth.exception.ErrorStatus;
+import footoff.api.global.http.OutboundHttpClient;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import java.util.Arrays;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class KakaoUtil {
 
+	private final OutboundHttpClient outboundHttpClient;
+	private final ObjectMapper objectMapper;
+
 	@Value("${kakao.auth.client}")
 	private String client;
 	@Value("${kakao.auth.redirect}")
 	private String redirect;
 
 	public KakaoDto.OAuthToken requestToken(String accessCode) {
-		RestTemplate restTemplate = new RestTemplate();
 		HttpHeaders headers = new HttpHeaders();
 		headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
 
@@ -45,13 +49,10 @@ public class KakaoUtil {
 
 		HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest = new HttpEntity<>(params, headers);
 
-		ResponseEntity<String> response = restTemplate.exchange(
+		ResponseEntity<String> response = exchange(
 				"https://kauth.kakao.com/oauth/token",
 				HttpMethod.POST,
-				kakaoTokenRequest,
-				String.class);
-
-		ObjectMapper objectMapper = new ObjectMapper();
+				kakaoTokenRequest);
 
 		KakaoDto.OAuthToken oAuthToken = null;
 
@@ -66,7 +67,6 @@ public class KakaoUtil {
 	}
 
 	public KakaoDto.KakaoProfile requestProfile(KakaoDto.OAuthToken oAuthToken){
-		RestTemplate restTemplate = new RestTemplate();
 		HttpHeaders headers = new HttpHeaders();
 
 		headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
@@ -74,15 +74,10 @@ public class KakaoUtil {
 
 		HttpEntity<MultiValueMap<String,String>> kakaoProfileRequest = new HttpEntity<>(headers);
 
-		ResponseEntity<String> response = restTemplate.exchange(
+		ResponseEntity<String> response = exchange(
 				"https://kapi.kakao.com/v2/user/me",
 				HttpMethod.GET,
-				kakaoProfileRequest,
-				String.class);
-
-		ObjectMapper objectMapper = new ObjectMapper();
-		// Configure ObjectMapper to ignore unknown properties
-		objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+				kakaoProfileRequest);
 
 		KakaoDto.KakaoProfile kakaoProfile = null;
 
@@ -90,14 +85,7 @@ public class KakaoUtil {
 			String responseBody = response.getBody();
 			log.info("Kakao API Response: {}", responseBody);
 			
-			// First check the response structure
-			JsonNode rootNode = objectMapper.readTree(responseBody);
-			if (rootNode == null) {
-				log.error("Kakao API returned null or invalid JSON");
-				throw new AuthHandler(ErrorStatus._PARSING_ERROR);
-			}
-			
-			// Try to parse directly to our DTO
+			// 응답 본문을 DTO로 한 번만 파싱 (알 수 없는 필드는 공용 ObjectMapper 설정에 따라 무시)
 			kakaoProfile = objectMapper.readValue(responseBody, KakaoDto.KakaoProfile.class);
 			
 			// Log important info for debugging
@@ -123,4 +111,24 @@ public class KakaoUtil {
 
 		return kakaoProfile;
 	}
+
+	/**
+	 * 카카오 API 호출 (공용 커넥션 풀/서킷 브레이커 사용)
+	 * 연결 실패, 타임아웃, 5xx, 429, 서킷 열림은 소셜 서버 장애로, 그 외 4xx 는 인증 실패로 변환한다
+	 */
+	private ResponseEntity<String> exchange(String url, HttpMethod method, HttpEntity<?> request) {
+		try {
+			return outboundHttpClient.exchange(OutboundHttpClient.KAKAO, url, method, request, String.class);
+		} catch (HttpClientErrorException.TooManyRequests e) {
+			log.error("Kakao API request throttled: {} {} - {}", method, url, e.getMessage());
+			throw new AuthHandler(ErrorStatus._PROVIDER_UNAVAILABLE, e);
+		} catch (HttpClientErrorException e) {
+			// 유효하지 않거나 이미 사용된 인가 코드, 만료된 액세스 토큰 등은 재시도해도 성공하지 않는다
+			log.warn("Kakao API request rejected: {} {} - {} {}", method, url, e.getStatusCode(), e.getResponseBodyAsString());
+			throw new AuthHandler(ErrorStatus._AUTH_FAILED, e);
+		} catch (RestClientException e) {
+			log.error("Kakao API request failed: {} {} - {}", method, url, e.getMessage());
+			throw new AuthHandler(ErrorStatus._PROVIDER_UNAVAILABLE, e);
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,297 @@
+package footoff.api.domain.gathering.component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import footoff.api.domain.gathering.util.GeoUtil;
+
+/**
+ * 모집중인 모임 위치의 메모리 격자 색인
+ * 위경도를 일정한 크기(1/128도, 약 0.9km)의 칸으로 나누고(geohash 와 같은 방식의 위경도 격자),
+ * 칸마다 모임 ID와 좌표를 원시 타입 배열로 보관하여 "내 주변 모집중인 모임" 조회를 DB 없이 처리한다
+ * - 반경 검색은 반경을 감싸는 사각형에 걸친 칸만 훑고 정확한 거리로 다시 거른다
+ * - 최근접 검색은 반경을 두 배씩 넓혀가며 k 개가 모일 때까지 반경 검색을 반복한다
+ * 조회는 읽기 잠금으로 동시에 처리하고, 추가/삭제(모임 변경 시)는 쓰기 잠금으로 처리한다
+ */
+@Component
+public class GatheringGeoIndex {
+
+    /** 격자 칸 크기 (도) */
+    static final double CELL_DEGREES = 1.0 / 128;
+    /** 격자 칸 세로 길이 (km) */
+    private static final double CELL_KM = Math.toRadians(CELL_DEGREES) * GeoUtil.EARTH_RADIUS_KM;
+    private static final int LONGITUDE_CELLS = (int) Math.ceil(360 / CELL_DEGREES) + 1;
+
+    private static final Comparator<Hit> NEAREST_FIRST = Comparator
+            .comparingDouble(Hit::distanceKm)
+            .thenComparingLong(Hit::gatheringId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Cell> cells = new HashMap<>();
+    private Map<Long, Long> cellByGathering = new HashMap<>();
+
+    /**
+     * 검색 결과 (모임 ID, 검색 중심으로부터의 거리)
+     */
+    public record Hit(long gatheringId, double distanceKm) {
+    }
+
+    /**
+     * 색인에 넣을 모임 위치
+     */
+    public record Entry(long gatheringId, double latitude, double longitude) {
+    }
+
+    /**
+     * 모임 위치를 추가하거나 옮기는 메서드
+     */
+    public void put(long gatheringId, double latitude, double longitude) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(gatheringId);
+            long key = cellKey(latitude, longitude);
+            cells.computeIfAbsent(key, k -> new Cell()).add(gatheringId, latitude, longitude);
+            cellByGathering.put(gatheringId, key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모임을 색인에서 제거하는 메서드 (없으면 무시)
+     */
+    public void remove(long gatheringId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(gatheringId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체를 주어진 목록으로 교체하는 메서드 (새 색인을 만든 뒤 한 번에 교체)
+     */
+    public void replaceAll(List<Entry> entries) {
+        Map<Long, Cell> rebuiltCells = new HashMap<>();
+        Map<Long, Long> rebuiltIds = new HashMap<>(Math.max(16, entries.size() * 2));
+        for (Entry entry : entries) {
+            long key = cellKey(entry.latitude(), entry.longitude());
+            Long previous = rebuiltIds.put(entry.gatheringId(), key);
+            if (previous != null) {
+                rebuiltCells.get(previous).remove(entry.gatheringId());
+            }
+            rebuiltCells.computeIfAbsent(key, k -> new Cell()).add(entry.gatheringId(), entry.latitude(), entry.longitude());
+        }
+
+        lock.writeLock().lock();
+        try {
+            cells = rebuiltCells;
+            cellByGathering = rebuiltIds;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 안의 모임을 가까운 순으로 조회하는 메서드
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @return 반경 안의 모임 (가까운 순)
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm) {
+        List<Hit> hits = new ArrayList<>();
+        GeoUtil.BoundingBox box = GeoUtil.boundingBox(latitude, longitude, radiusKm);
+
+        lock.readLock().lock();
+        try {
+            int minLat = latitudeIndex(box.minLatitude());
+            int maxLat = latitudeIndex(box.maxLatitude());
+            int minLon = longitudeIndex(box.minLongitude());
+            int maxLon = longitudeIndex(box.maxLongitude());
+            long coveredCells = (long) (maxLat - minLat + 1) * (maxLon - minLon + 1);
+
+            if (coveredCells > cells.size()) {
+                // 반경이 넓어 훑을 칸이 실제 채워진 칸보다 많으면 채워진 칸만 확인한다
+                for (Cell cell : cells.values()) {
+                    cell.collect(box, latitude, longitude, radiusKm, hits);
+                }
+            } else {
+                for (int lat = minLat; lat <= maxLat; lat++) {
+                    for (int lon = minLon; lon <= maxLon; lon++) {
+                        Cell cell = cells.get(cellKey(lat, lon));
+                        if (cell != null) {
+                            cell.collect(box, latitude, longitude, radiusKm, hits);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(NEAREST_FIRST);
+        return hits;
+    }
+
+    /**
+     * 가장 가까운 모임 k 개를 조회하는 메서드
+     * 한 칸 크기에서 시작해 k 개가 모이거나 최대 반경에 닿을 때까지 반경을 두 배씩 넓힌다
+     * (반경 안에 k 개 이상이 있으면 가장 가까운 k 개는 모두 그 반경 안에 있으므로 결과는 정확하다)
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param k 조회할 개수
+     * @param maxRadiusKm 최대 반경 (km)
+     * @return 가장 가까운 모임 최대 k 개 (가까운 순)
+     */
+    public List<Hit> nearest(double latitude, double longitude, int k, double maxRadiusKm) {
+        if (k <= 0) {
+            return List.of();
+        }
+        double radiusKm = Math.min(CELL_KM, maxRadiusKm);
+        while (true) {
+            List<Hit> hits = withinRadius(latitude, longitude, radiusKm);
+            if (hits.size() >= k || radiusKm >= maxRadiusKm) {
+                return hits.size() > k ? new ArrayList<>(hits.subList(0, k)) : hits;
+            }
+            radiusKm = Math.min(radiusKm * 2, maxRadiusKm);
+        }
+    }
+
+    /**
+     * 모임이 주어진 좌표로 색인되어 있는지 확인하는 메서드 (정합성 확인용)
+     */
+    public boolean contains(long gatheringId, double latitude, double longitude) {
+        lock.readLock().lock();
+        try {
+            Long key = cellByGathering.get(gatheringId);
+            if (key == null) {
+                return false;
+            }
+            Cell cell = cells.get(key);
+            int index = cell.indexOf(gatheringId);
+            return index >= 0 && cell.latitudes[index] == latitude && cell.longitudes[index] == longitude;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 모임 ID 전체 (정합성 확인용)
+     */
+    public long[] gatheringIds() {
+        lock.readLock().lock();
+        try {
+            return cellByGathering.keySet().stream().mapToLong(Long::longValue).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 모임 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellByGathering.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(long gatheringId) {
+        Long key = cellByGathering.remove(gatheringId);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        cell.remove(gatheringId);
+        if (cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return cellKey(latitudeIndex(latitude), longitudeIndex(longitude));
+    }
+
+    private static long cellKey(int latitudeIndex, int longitudeIndex) {
+        return (long) latitudeIndex * LONGITUDE_CELLS + longitudeIndex;
+    }
+
+    private static int latitudeIndex(double latitude) {
+        return (int) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / CELL_DEGREES);
+    }
+
+    private static int longitudeIndex(double longitude) {
+        return (int) Math.floor((Math.max(-180, Math.min(180, longitude)) + 180) / CELL_DEGREES);
+    }
+
+    /**
+     * 격자 한 칸의 모임 목록 (ID, 위도, 경도를 같은 위치에 두는 병렬 배열)
+     */
+    private static final class Cell {
+
+        private long[] ids = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private int size;
+
+        void add(long gatheringId, double latitude, double longitude) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+            }
+            ids[size] = gatheringId;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+
+        void remove(long gatheringId) {
+            int index = indexOf(gatheringId);
+            if (index < 0) {
+                return;
+            }
+            // 마지막 항목을 빈자리로 옮긴다 (칸 안의 순서는 의미가 없다)
+            size--;
+            ids[index] = ids[size];
+            latitudes[index] = latitudes[size];
+            longitudes[index] = longitudes[size];
+        }
+
+        int indexOf(long gatheringId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == gatheringId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void collect(GeoUtil.BoundingBox box, double latitude, double longitude, double radiusKm, List<Hit> hits) {
+            for (int i = 0; i < size; i++) {
+                if (!box.contains(latitudes[i], longitudes[i])) {
+                    continue;
+                }
+                double distance = GeoUtil.distanceKm(latitude, longitude, latitudes[i], longitudes[i]);
+                if (distance <= radiusKm) {
+                    hits.add(new Hit(ids[i], distance));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package footoff.api.domain.gathering.component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import footoff.api.domain.gathering.util.GeoUtil;
+import footoff.api.domain.gathering.util.SearchTokenizer;
+
+/**
+ * 모집중인 모임의 메모리 역색인 (통합 검색용)
+ * 제목, 설명, 장소명, 주소를 단어와 bigram 으로 잘라 단어별 압축 게시 목록(모임 ID, 빈도)을 두고 BM25 로 점수를 매긴다
+ * - 제목에 나온 단어는 두 번 나온 것으로 센다
+ * - 검색어 bigram 의 60% 이상이 나온 모임만 결과에 포함하고, 색인에 없는 bigram 은 한 글자만 다른 bigram 으로 대신 찾는다 (오타 허용)
+ *   한 글자만 다른 bigram 은 글자 위치별 색인에서 찾고, 자주 나오는 것부터 몇 개만 사용하며, 긴 검색어에는 적용하지 않는다
+ * - 모임 일시와 좌표를 함께 보관하여 날짜/반경 조건을 DB 조회 없이 적용한다
+ */
+@Component
+public class GatheringSearchIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    static final int TITLE_WEIGHT = 2;
+    /** 결과에 포함되기 위해 나와야 하는 검색어 bigram 비율 */
+    static final double MINIMUM_SHOULD_MATCH = 0.6;
+    /** 오타로 대신 찾은 bigram 의 점수 비율 */
+    static final double FUZZY_WEIGHT = 0.5;
+    /** 검색어 bigram 하나를 대신할 수 있는 최대 bigram 수 */
+    static final int MAX_FUZZY_EXPANSIONS = 4;
+    /** 오타 허용을 적용하는 최대 검색어 bigram 수 (더 긴 검색어는 일치 비율만으로 오타를 허용한다) */
+    static final int MAX_FUZZY_QUERY_BIGRAMS = 8;
+    private static final int MAX_QUERY_BIGRAMS = 64;
+    private static final double REJECTED = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, PostingList> postings = new HashMap<>();
+    private Map<Long, Document> documents = new HashMap<>();
+    /** 첫 글자별/둘째 글자별 색인된 bigram (오타 후보 조회용) */
+    private Map<Character, Set<String>> bigramsByFirst = new HashMap<>();
+    private Map<Character, Set<String>> bigramsBySecond = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * 색인할 모임 정보
+     *
+     * @param gatheringId 모임 ID
+     * @param title 제목
+     * @param description 설명 (null 허용)
+     * @param placeName 장소명 (null 허용)
+     * @param address 주소 (null 허용)
+     * @param gatheringDate 모임 일시
+     * @param latitude 위도 (null 허용)
+     * @param longitude 경도 (null 허용)
+     */
+    public record Source(long gatheringId, String title, String description, String placeName, String address,
+                         LocalDateTime gatheringDate, Double latitude, Double longitude) {
+    }
+
+    /**
+     * 검색 조건 (모두 선택)
+     * 날짜 범위가 없으면 현재 시각 이후의 모임만, 좌표와 반경이 모두 있으면 반경 안의 모임만 찾는다
+     *
+     * @param keyword 검색어
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param radiusKm 반경 (km)
+     * @param startDate 시작 일시
+     * @param endDate 종료 일시
+     * @param now 현재 시각
+     */
+    public record Query(String keyword, Double latitude, Double longitude, Double radiusKm,
+                        LocalDateTime startDate, LocalDateTime endDate, LocalDateTime now) {
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param gatheringId 모임 ID
+     * @param score BM25 점수 (검색어가 없으면 0)
+     * @param distanceKm 기준 좌표까지 거리 (위치 조건이 없으면 NaN)
+     */
+    public record Hit(long gatheringId, double score, double distanceKm) {
+    }
+
+    private record Document(String[] terms, int length, LocalDateTime gatheringDate, Double latitude, Double longitude) {
+    }
+
+    /**
+     * 모임을 색인에 추가하거나 갱신하는 메서드
+     */
+    public void put(Source source) {
+        Map<String, Integer> frequencies = analyze(source);
+        lock.writeLock().lock();
+        try {
+            removeLocked(source.gatheringId());
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                if (!postings.containsKey(entry.getKey())) {
+                    indexBigram(bigramsByFirst, bigramsBySecond, entry.getKey());
+                }
+                postings.merge(entry.getKey(), PostingList.EMPTY.with(source.gatheringId(), entry.getValue()),
+                        (current, ignored) -> current.with(source.gatheringId(), entry.getValue()));
+            }
+            Document document = document(source, frequencies);
+            documents.put(source.gatheringId(), document);
+            totalLength += document.length();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모임을 색인에서 제거하는 메서드
+     */
+    public void remove(long gatheringId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(gatheringId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체를 교체하는 메서드 (게시 목록을 한 번에 만들어 교체하므로 검색은 중단되지 않는다)
+     */
+    public void replaceAll(List<Source> sources) {
+        List<Source> sorted = new ArrayList<>(sources);
+        sorted.sort(Comparator.comparingLong(Source::gatheringId));
+
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        Map<Long, Document> rebuiltDocuments = new HashMap<>();
+        long rebuiltLength = 0;
+        for (Source source : sorted) {
+            Map<String, Integer> frequencies = analyze(source);
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                builders.computeIfAbsent(entry.getKey(), term -> new PostingBuilder())
+                        .add(source.gatheringId(), entry.getValue());
+            }
+            Document document = document(source, frequencies);
+            if (rebuiltDocuments.put(source.gatheringId(), document) == null) {
+                rebuiltLength += document.length();
+            }
+        }
+
+        Map<String, PostingList> rebuiltPostings = new HashMap<>(builders.size() * 2);
+        Map<Character, Set<String>> rebuiltByFirst = new HashMap<>();
+        Map<Character, Set<String>> rebuiltBySecond = new HashMap<>();
+        builders.forEach((term, builder) -> {
+            rebuiltPostings.put(term, builder.build());
+            indexBigram(rebuiltByFirst, rebuiltBySecond, term);
+        });
+
+        lock.writeLock().lock();
+        try {
+            postings = rebuiltPostings;
+            documents = rebuiltDocuments;
+            bigramsByFirst = rebuiltByFirst;
+            bigramsBySecond = rebuiltBySecond;
+            totalLength = rebuiltLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 모임을 찾는 메서드
+     * 검색어가 있으면 점수 높은 순, 없으면 위치 조건이 있을 때 가까운 순, 그 외에는 모임 일시 순으로 정렬한다
+     *
+     * @param query 검색 조건
+     * @return 정렬된 검색 결과 전체
+     */
+    public List<Hit> search(Query query) {
+        List<String> bigrams = SearchTokenizer.bigrams(query.keyword());
+        if (bigrams.size() > MAX_QUERY_BIGRAMS) {
+            bigrams = bigrams.subList(0, MAX_QUERY_BIGRAMS);
+        }
+        List<String> words = SearchTokenizer.words(query.keyword());
+        GeoUtil.BoundingBox box = hasLocation(query)
+                ? GeoUtil.boundingBox(query.latitude(), query.longitude(), query.radiusKm())
+                : null;
+
+        lock.readLock().lock();
+        try {
+            if (bigrams.isEmpty() && words.isEmpty()) {
+                return browse(query, box);
+            }
+            return match(query, box, bigrams, words);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 모임 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 단어 수
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> browse(Query query, GeoUtil.BoundingBox box) {
+        List<Hit> hits = new ArrayList<>();
+        Map<Long, LocalDateTime> dateById = new HashMap<>();
+        for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+            double distance = accept(entry.getValue(), query, box);
+            if (distance != REJECTED) {
+                hits.add(new Hit(entry.getKey(), 0, distance));
+                dateById.put(entry.getKey(), entry.getValue().gatheringDate());
+            }
+        }
+        Comparator<Hit> order = box != null
+                ? Comparator.comparingDouble(Hit::distanceKm)
+                : Comparator.comparing((Hit hit) -> dateById.get(hit.gatheringId()));
+        hits.sort(order.thenComparingLong(Hit::gatheringId));
+        return hits;
+    }
+
+    private List<Hit> match(Query query, GeoUtil.BoundingBox box, List<String> bigrams, List<String> words) {
+        int total = documents.size();
+        if (total == 0) {
+            return new ArrayList<>();
+        }
+        double averageLength = (double) totalLength / total;
+        Map<Long, Candidate> candidates = new HashMap<>();
+
+        // 1. 검색어 bigram 별 게시 목록 누적 (없는 bigram 은 한 글자 다른 bigram 으로 대체)
+        boolean fuzzy = bigrams.size() <= MAX_FUZZY_QUERY_BIGRAMS;
+        for (int i = 0; i < bigrams.size(); i++) {
+            long bit = 1L << i;
+            Map<String, Double> expansions = expand(bigrams.get(i), fuzzy);
+            for (Map.Entry<String, Double> expansion : expansions.entrySet()) {
+                accumulate(candidates, postings.get(expansion.getKey()), expansion.getValue(), bit, total, averageLength);
+            }
+        }
+        // 2. 단어가 그대로 나온 모임에 가산점 (일치 비율 계산에는 포함하지 않음)
+        for (String word : words) {
+            if (word.length() > 2 || bigrams.isEmpty()) {
+                accumulate(candidates, postings.get(word), 1.0, bigrams.isEmpty() ? 1L : 0L, total, averageLength);
+            }
+        }
+
+        // 3. 일치 비율, 날짜/위치 조건 적용
+        int required = bigrams.isEmpty() ? 1 : (int) Math.ceil(bigrams.size() * MINIMUM_SHOULD_MATCH);
+        List<Hit> hits = new ArrayList<>();
+        for (Map.Entry<Long, Candidate> entry : candidates.entrySet()) {
+            Candidate candidate = entry.getValue();
+            if (Long.bitCount(candidate.matched) < required) {
+                continue;
+            }
+            double distance = accept(documents.get(entry.getKey()), query, box);
+            if (distance != REJECTED) {
+                hits.add(new Hit(entry.getKey(), candidate.score, distance));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::gatheringId));
+        return hits;
+    }
+
+    private void accumulate(Map<Long, Candidate> candidates, PostingList postingList, double weight, long bit,
+                            int total, double averageLength) {
+        if (postingList == null) {
+            return;
+        }
+        int frequency = postingList.size();
+        double idf = Math.log(1 + (total - frequency + 0.5) / (frequency + 0.5));
+        postingList.forEach((gatheringId, tf) -> {
+            int length = documents.get(gatheringId).length();
+            double score = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+            Candidate candidate = candidates.computeIfAbsent(gatheringId, id -> new Candidate());
+            candidate.score += weight * score;
+            candidate.matched |= bit;
+        });
+    }
+
+    /**
+     * 검색어 bigram 을 색인에 있는 단어로 펼치는 메서드
+     * 색인에 있으면 그대로, 없으면 같은 위치의 한 글자만 다른 bigram 중 자주 나오는 것부터
+     * {@link #MAX_FUZZY_EXPANSIONS}개를 낮은 가중치로 사용한다
+     */
+    private Map<String, Double> expand(String bigram, boolean fuzzy) {
+        Map<String, Double> expansions = new LinkedHashMap<>();
+        if (postings.containsKey(bigram)) {
+            expansions.put(bigram, 1.0);
+            return expansions;
+        }
+        if (!fuzzy || bigram.length() != 2) {
+            return expansions;
+        }
+
+        // 두 글자가 모두 같은 bigram 은 색인에 없으므로 두 후보 집합은 겹치지 않는다
+        List<String> similar = new ArrayList<>();
+        similar.addAll(bigramsByFirst.getOrDefault(bigram.charAt(0), Set.of()));
+        similar.addAll(bigramsBySecond.getOrDefault(bigram.charAt(1), Set.of()));
+        similar.sort(Comparator.comparingInt((String term) -> postings.get(term).size()).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        for (String term : similar.subList(0, Math.min(similar.size(), MAX_FUZZY_EXPANSIONS))) {
+            expansions.put(term, FUZZY_WEIGHT);
+        }
+        return expansions;
+    }
+
+    /**
+     * 날짜/위치 조건을 확인하는 메서드
+     *
+     * @return 조건을 만족하면 거리(위치 조건이 없으면 NaN), 만족하지 않으면 {@link #REJECTED}
+     */
+    private static double accept(Document document, Query query, GeoUtil.BoundingBox box) {
+        LocalDateTime date = document.gatheringDate();
+        if (query.startDate() != null && query.endDate() != null) {
+            if (date.isBefore(query.startDate()) || date.isAfter(query.endDate())) {
+                return REJECTED;
+            }
+        } else if (!date.isAfter(query.now())) {
+            return REJECTED;
+        }
+
+        if (box == null) {
+            return Double.NaN;
+        }
+        if (document.latitude() == null || document.longitude() == null
+                || !box.contains(document.latitude(), document.longitude())) {
+            return REJECTED;
+        }
+        double distance = GeoUtil.distanceKm(query.latitude(), query.longitude(), document.latitude(), document.longitude());
+        return distance <= query.radiusKm() ? distance : REJECTED;
+    }
+
+    private void removeLocked(long gatheringId) {
+        Document document = documents.remove(gatheringId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            PostingList remaining = postings.get(term).without(gatheringId);
+            if (remaining.size() == 0) {
+                postings.remove(term);
+                unindexBigram(term);
+            } else {
+                postings.put(term, remaining);
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private static void indexBigram(Map<Character, Set<String>> byFirst, Map<Character, Set<String>> bySecond,
+                                    String term) {
+        if (term.length() == 2) {
+            byFirst.computeIfAbsent(term.charAt(0), c -> new HashSet<>()).add(term);
+            bySecond.computeIfAbsent(term.charAt(1), c -> new HashSet<>()).add(term);
+        }
+    }
+
+    private void unindexBigram(String term) {
+        if (term.length() == 2) {
+            removeFrom(bigramsByFirst, term.charAt(0), term);
+            removeFrom(bigramsBySecond, term.charAt(1), term);
+        }
+    }
+
+    private static void removeFrom(Map<Character, Set<String>> bigrams, char key, String term) {
+        Set<String> terms = bigrams.get(key);
+        if (terms != null && terms.remove(term) && terms.isEmpty()) {
+            bigrams.remove(key);
+        }
+    }
+
+    /**
+     * 모임 정보를 단어별 빈도로 바꾸는 메서드 (단어와 bigram 모두 색인, 제목은 가중치 적용)
+     */
+    static Map<String, Integer> analyze(Source source) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        count(frequencies, source.title(), TITLE_WEIGHT);
+        count(frequencies, source.description(), 1);
+        count(frequencies, source.placeName(), 1);
+        count(frequencies, source.address(), 1);
+        return frequencies;
+    }
+
+    private static void count(Map<String, Integer> frequencies, String text, int weight) {
+        for (String word : SearchTokenizer.words(text)) {
+            if (word.length() != 2) {
+                frequencies.merge(word, weight, Integer::sum);
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                frequencies.merge(word.substring(i, i + 2), weight, Integer::sum);
+            }
+        }
+    }
+
+    private static Document document(Source source, Map<String, Integer> frequencies) {
+        int length = 0;
+        for (int frequency : frequencies.values()) {
+            length += frequency;
+        }
+        return new Document(frequencies.keySet().toArray(String[]::new), length,
+                source.gatheringDate(), source.latitude(), source.longitude());
+    }
+
+    private static boolean hasLocation(Query query) {
+        return query.latitude() != null && query.longitude() != null && query.radiusKm() != null;
+    }
+
+    private static final class Candidate {
+        private double score;
+        private long matched;
+    }
+
+    /**
+     * 모임 ID 오름차순으로 들어오는 항목을 모아 게시 목록을 만드는 빌더
+     */
+    private static final class PostingBuilder {
+        private long[] ids = new long[4];
+        private int[] frequencies = new int[4];
+        private int count;
+
+        void add(long gatheringId, int frequency) {
+            if (count > 0 && ids[count - 1] == gatheringId) {
+                frequencies[count - 1] = frequency;
+                return;
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                frequencies = Arrays.copyOf(frequencies, count * 2);
+            }
+            ids[count] = gatheringId;
+            frequencies[count++] = frequency;
+        }
+
+        PostingList build() {
+            return PostingList.encode(ids, frequencies, count);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package footoff.api.domain.gathering.component;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import footoff.api.domain.gathering.repository.GatheringRepository;
+import footoff.api.domain.gathering.repository.projection.GatheringSearchSourceView;
+import footoff.api.domain.gathering.util.SearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 텍스트 컬럼 추가 전에 만들어진 모임의 검색 텍스트를 채우는 컴포넌트
+ * 서버 시작 후 비어 있는 모임만 ID 순으로 나눠 처리하며, 새로 저장되는 모임은 엔티티가 직접 채운다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatheringSearchTextBackfill {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final GatheringRepository gatheringRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int filled = 0;
+        while (true) {
+            List<GatheringSearchSourceView> chunk = gatheringRepository.findEmptySearchTextAfter(
+                    afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            // 청크마다 커밋하여 긴 트랜잭션을 피한다 (한 글자 제목 등 토큰이 없는 모임은 비어 있는 채로 건너뛴다)
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (GatheringSearchSourceView source : chunk) {
+                    String searchText = SearchTokenizer.toIndexText(source.getTitle(), source.getDescription());
+                    if (!searchText.isEmpty()) {
+                        count += gatheringRepository.updateSearchText(source.getId(), searchText);
+                    }
+                }
+                return count;
+            });
+            filled += updated != null ? updated : 0;
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+
+        if (filled > 0) {
+            log.info("모임 검색 텍스트 채우기 완료: {}건", filled);
+        }
+    }
+}
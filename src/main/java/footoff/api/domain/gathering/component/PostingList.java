@@ -0,0 +1,145 @@
+package footoff.api.domain.gathering.component;
+
+import java.util.Arrays;
+
+/**
+ * 압축된 역색인 게시 목록 (불변)
+ * 모임 ID 오름차순으로 (이전 ID와의 차이, 단어 빈도)를 가변 길이 정수(varint)로 이어 붙여 저장한다
+ * ID 가 촘촘할수록 차이가 작아져 항목당 2~3바이트 정도만 사용한다
+ */
+final class PostingList {
+
+    static final PostingList EMPTY = new PostingList(new byte[0], 0);
+
+    private final byte[] data;
+    private final int size;
+
+    private PostingList(byte[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    /**
+     * 게시 항목을 차례로 받는 콜백
+     */
+    @FunctionalInterface
+    interface Visitor {
+        void accept(long gatheringId, int frequency);
+    }
+
+    /**
+     * 정렬된 ID 와 빈도 배열로 게시 목록을 만드는 메서드
+     *
+     * @param ids 모임 ID (오름차순, 중복 없음)
+     * @param frequencies 모임별 단어 빈도
+     * @param count 사용할 항목 수
+     */
+    static PostingList encode(long[] ids, int[] frequencies, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        byte[] buffer = new byte[count * 12];
+        int position = 0;
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            position = writeVarLong(buffer, position, ids[i] - previous);
+            position = writeVarLong(buffer, position, frequencies[i]);
+            previous = ids[i];
+        }
+        return new PostingList(Arrays.copyOf(buffer, position), count);
+    }
+
+    /**
+     * 모든 항목을 ID 오름차순으로 방문하는 메서드
+     */
+    void forEach(Visitor visitor) {
+        int position = 0;
+        long id = 0;
+        while (position < data.length) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            id += delta;
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            visitor.accept(id, frequency);
+        }
+    }
+
+    /**
+     * 모임을 추가하거나 빈도를 바꾼 새 게시 목록을 반환하는 메서드
+     */
+    PostingList with(long gatheringId, int frequency) {
+        long[] ids = new long[size + 1];
+        int[] frequencies = new int[size + 1];
+        int[] count = {0};
+        boolean[] inserted = {false};
+        forEach((id, tf) -> {
+            if (!inserted[0] && gatheringId <= id) {
+                ids[count[0]] = gatheringId;
+                frequencies[count[0]++] = frequency;
+                inserted[0] = true;
+                if (gatheringId == id) {
+                    return;
+                }
+            }
+            ids[count[0]] = id;
+            frequencies[count[0]++] = tf;
+        });
+        if (!inserted[0]) {
+            ids[count[0]] = gatheringId;
+            frequencies[count[0]++] = frequency;
+        }
+        return encode(ids, frequencies, count[0]);
+    }
+
+    /**
+     * 모임을 뺀 새 게시 목록을 반환하는 메서드
+     */
+    PostingList without(long gatheringId) {
+        long[] ids = new long[size];
+        int[] frequencies = new int[size];
+        int[] count = {0};
+        forEach((id, tf) -> {
+            if (id != gatheringId) {
+                ids[count[0]] = id;
+                frequencies[count[0]++] = tf;
+            }
+        });
+        return count[0] == size ? this : encode(ids, frequencies, count[0]);
+    }
+
+    /**
+     * 게시 항목 수 (단어가 나오는 모임 수)
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 압축된 크기 (바이트)
+     */
+    int byteSize() {
+        return data.length;
+    }
+
+    private static int writeVarLong(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+}
@@ -4,6 +4,7 @@ import footoff.api.domain.gathering.dto.*;
 import footoff.api.domain.gathering.repository.GatheringUserRepository;
 import footoff.api.domain.gathering.service.GatheringService;
 import footoff.api.global.common.BaseResponse;
+import footoff.api.global.security.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,6 +16,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -36,7 +38,7 @@ public class GatheringController {
      * 새로운 모임을 생성하는 엔드포인트
      *
      * @param requestDto  모임 생성 요청 데이터
-     * @param organizerId 모임 주최자 ID (임시 UUID)
+     * @param organizer 인증된 사용자 (모임 주최자)
      * @return 생성된 모임 정보
      */
     @Operation(summary = "모임 생성", description = "새로운 모임을 생성합니다. 모임 생성자는 자동으로 모임의 주최자가 됩니다.")
@@ -48,8 +50,8 @@ public class GatheringController {
     @PostMapping
     public ResponseEntity<BaseResponse<GatheringDto>> createGathering(
             @Parameter(description = "모임 생성 정보", required = true) @Valid @RequestBody GatheringRequestDto requestDto,
-            @Parameter(description = "모임 주최자 ID", required = true) @RequestHeader("X-User-Id") UUID organizerId) {
-        GatheringDto createdGathering = gatheringService.createGathering(requestDto, organizerId);
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser organizer) {
+        GatheringDto createdGathering = gatheringService.createGathering(requestDto, organizer.userId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(BaseResponse.onSuccess(createdGathering));
     }
@@ -59,7 +61,7 @@ public class GatheringController {
      *
      * @param id 모임 ID
      * @param requestDto 모임 업데이트 요청 데이터
-     * @param userId 요청한 사용자 ID
+     * @param user 인증된 사용자 (요청자)
      * @return 업데이트된 모임 정보
      */
     @Operation(summary = "모임 정보 수정", description = "기존 모임의 정보를 업데이트합니다. 모임 주최자만 수정할 수 있습니다.")
@@ -73,7 +75,7 @@ public class GatheringController {
     public ResponseEntity<BaseResponse<GatheringDto>> updateGathering(
             @Parameter(description = "수정할 모임 ID", required = true) @PathVariable Long id,
             @Parameter(description = "수정할 모임 정보", required = true) @Valid @RequestBody GatheringRequestDto requestDto,
-            @Parameter(description = "요청자 ID", required = true) @RequestHeader("X-User-Id") UUID userId) {
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
 
         int usersCount = gatheringUserRepository.countByGatheringId(id);
         if (usersCount > 1) {
@@ -81,7 +83,7 @@ public class GatheringController {
                     .status(HttpStatus.FORBIDDEN)
                     .body(BaseResponse.onFailure("GATHERING_MODIFICATION_FORBIDDEN", "모임원이 있는 모임은 수정할 수 없습니다."));
         } else {
-            GatheringDto updatedGathering = gatheringService.updateGathering(id, requestDto, userId);
+            GatheringDto updatedGathering = gatheringService.updateGathering(id, requestDto, user.userId());
             return ResponseEntity.ok(BaseResponse.onSuccess(updatedGathering));
         }
     }
@@ -109,7 +111,7 @@ public class GatheringController {
      * ID로 모임의 상세 정보를 조회하는 엔드포인트
      *
      * @param id 모임 ID
-     * @param userId 현재 사용자 ID (선택적)
+     * @param user 인증된 사용자 (로그인하지 않은 경우 null)
      * @return 조회된 모임 상세 정보
      */
     @Operation(summary = "모임 상세 정보 조회", description = "모임 ID로 모임의 상세 정보를 조회합니다. 현재 사용자의 참가 상태도 포함됩니다.")
@@ -121,8 +123,8 @@ public class GatheringController {
     @GetMapping("/{id}/detail")
     public ResponseEntity<BaseResponse<GatheringDetailResponseDto>> getGatheringDetail(
             @Parameter(description = "조회할 모임 ID", required = true) @PathVariable Long id,
-            @Parameter(description = "현재 사용자 ID (선택사항)") @RequestHeader(value = "X-User-Id", required = false) UUID userId) {
-        GatheringDetailResponseDto gathering = gatheringService.getGatheringDetail(id, userId);
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        GatheringDetailResponseDto gathering = gatheringService.getGatheringDetail(id, user != null ? user.userId() : null);
         return ResponseEntity.ok(BaseResponse.onSuccess(gathering));
     }
 
@@ -138,11 +140,34 @@ public class GatheringController {
     })
     @GetMapping
     public ResponseEntity<BaseResponse<List<GatheringUsersWithStatusDto>>> getAllGatherings(
-            @Parameter(description = "현재 사용자 ID") @RequestHeader(value = "X-User-Id", required = true) UUID userId) {
-        List<GatheringUsersWithStatusDto> gatherings = gatheringService.getAllGatherings(userId);
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        List<GatheringUsersWithStatusDto> gatherings = gatheringService.getAllGatherings(user.userId());
         return ResponseEntity.ok(BaseResponse.onSuccess(gatherings));
     }
 
+    /**
+     * 홈 피드를 커서 기반으로 페이지 단위 조회하는 엔드포인트
+     *
+     * @param user 인증된 사용자
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 한 페이지 분량의 모임 목록과 다음 커서
+     */
+    @Operation(summary = "홈 피드 조회 (커서 페이지네이션)", description = "모집중인 모임을 모임 날짜순으로 페이지 단위 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "홈 피드 조회 성공",
+            content = @Content(schema = @Schema(implementation = GatheringFeedResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<BaseResponse<GatheringFeedResponseDto>> getGatheringFeed(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size) {
+        GatheringFeedResponseDto feed = gatheringService.getGatheringFeed(user.userId(), cursor, size);
+        return ResponseEntity.ok(BaseResponse.onSuccess(feed));
+    }
+
     /**
      * 현재 시간 이후의 모임을 조회하는 엔드포인트
      *
@@ -199,7 +224,7 @@ public class GatheringController {
      * 모임 참가 신청을 처리하는 엔드포인트
      *
      * @param gatheringId 모임 ID
-     * @param userId    사용자 ID (임시 UUID)
+     * @param user      인증된 사용자 (참가 신청자)
      * @return 생성된 gathering 정보
      */
     @Operation(summary = "모임 참가 신청", description = "특정 모임에 참가 신청을 합니다.")
@@ -211,8 +236,8 @@ public class GatheringController {
     @PostMapping("/{gatheringId}/join")
     public ResponseEntity<BaseResponse<GatheringUserDto>> joinGathering(
             @Parameter(description = "참가할 모임 ID", required = true) @PathVariable Long gatheringId,
-            @Parameter(description = "참가 신청자 ID", required = true) @RequestHeader("X-User-Id") UUID userId) {
-        GatheringUserDto gatheringUser = gatheringService.joinGathering(gatheringId, userId);
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        GatheringUserDto gatheringUser = gatheringService.joinGathering(gatheringId, user.userId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(BaseResponse.onSuccess(gatheringUser));
     }
@@ -221,7 +246,8 @@ public class GatheringController {
      * 모임 참가 신청을 승인하는 엔드포인트
      *
      * @param gatheringId 모임 ID
-     * @param userId    사용자 ID (임시 UUID)
+     * @param userId    승인할 사용자 ID
+     * @param user      인증된 사용자 (모임 주최자)
      * @return 승인된 gathering 정보
      */
     @Operation(summary = "모임 참가 신청 승인", description = "모임 참가 신청을 승인합니다. 모임 주최자만 승인할 수 있습니다.")
@@ -233,8 +259,9 @@ public class GatheringController {
     @PostMapping("/{gatheringId}/approve/{userId}")
     public ResponseEntity<BaseResponse<GatheringUserDto>> approveUser(
             @Parameter(description = "모임 ID", required = true) @PathVariable Long gatheringId,
-            @Parameter(description = "승인할 사용자 ID", required = true) @PathVariable UUID userId) {
-        GatheringUserDto gatheringUser = gatheringService.approveUser(gatheringId, userId);
+            @Parameter(description = "승인할 사용자 ID", required = true) @PathVariable UUID userId,
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        GatheringUserDto gatheringUser = gatheringService.approveUser(gatheringId, userId, user.userId());
         return ResponseEntity.ok(BaseResponse.onSuccess(gatheringUser));
     }
 
@@ -242,7 +269,8 @@ public class GatheringController {
      * 모임 참가 신청을 거부하는 엔드포인트
      *
      * @param gatheringId 모임 ID
-     * @param userId    사용자 ID (임시 UUID)
+     * @param userId    거부할 사용자 ID
+     * @param user      인증된 사용자 (모임 주최자)
      * @return 거부된 gathering 정보
      */
     @Operation(summary = "모임 참가 신청 거부", description = "모임 참가 신청을 거부합니다. 모임 주최자만 거부할 수 있습니다.")
@@ -254,8 +282,9 @@ public class GatheringController {
     @PostMapping("/{gatheringId}/reject/{userId}")
     public ResponseEntity<BaseResponse<GatheringUserDto>> rejectUser(
             @Parameter(description = "모임 ID", required = true) @PathVariable Long gatheringId,
-            @Parameter(description = "거부할 사용자 ID", required = true) @PathVariable UUID userId) {
-        GatheringUserDto gatheringUser = gatheringService.rejectUser(gatheringId, userId);
+            @Parameter(description = "거부할 사용자 ID", required = true) @PathVariable UUID userId,
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        GatheringUserDto gatheringUser = gatheringService.rejectUser(gatheringId, userId, user.userId());
         return ResponseEntity.ok(BaseResponse.onSuccess(gatheringUser));
     }
     
@@ -263,7 +292,7 @@ public class GatheringController {
      * 모임 참가를 취소하는 엔드포인트
      *
      * @param gatheringId 모임 ID
-     * @param userId    사용자 ID (임시 UUID)
+     * @param user      인증된 사용자 (취소하는 참가자)
      * @return 성공 여부 메시지
      */
     @Operation(summary = "모임 참가 취소", description = "모임 참가 신청을 취소합니다.")
@@ -274,8 +303,8 @@ public class GatheringController {
     @PostMapping("/{gatheringId}/cancel")
     public ResponseEntity<BaseResponse<String>> cancelGathering(
             @Parameter(description = "모임 ID", required = true) @PathVariable Long gatheringId,
-            @Parameter(description = "취소할 사용자 ID", required = true) @RequestHeader("X-User-Id") UUID userId) {
-        gatheringService.cancelGatheringByUser(gatheringId, userId);
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        gatheringService.cancelGatheringByUser(gatheringId, user.userId());
         return ResponseEntity.ok(BaseResponse.onSuccess("모임 참가가 취소되었습니다."));
     }
     
@@ -283,7 +312,7 @@ public class GatheringController {
      * 모임 참가자가 모임을 나가는 엔드포인트
      *
      * @param gatheringId 모임 ID
-     * @param userId 사용자 ID (임시 UUID)
+     * @param user 인증된 사용자 (나가려는 참가자)
      * @return 성공 여부 메시지
      */
     @Operation(summary = "모임 나가기", description = "모임에서 나갑니다. 이미 승인된 참가자만 나갈 수 있습니다.")
@@ -294,8 +323,8 @@ public class GatheringController {
     @PostMapping("/{gatheringId}/leave")
     public ResponseEntity<BaseResponse<String>> leaveGathering(
             @Parameter(description = "모임 ID", required = true) @PathVariable Long gatheringId,
-            @Parameter(description = "나가려는 사용자 ID", required = true) @RequestHeader("X-User-Id") UUID userId) {
-        gatheringService.leaveGathering(gatheringId, userId);
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        gatheringService.leaveGathering(gatheringId, user.userId());
         return ResponseEntity.ok(BaseResponse.onSuccess("모임에서 나갔습니다."));
     }
     
@@ -303,7 +332,7 @@ public class GatheringController {
      * 모임을 삭제하는 엔드포인트
      *
      * @param id 모임 ID
-     * @param userId 요청한 사용자 ID (임시 UUID)
+     * @param user 인증된 사용자 (요청자)
      * @return 성공 여부 메시지
      */
     @Operation(summary = "모임 삭제", description = "모임을 삭제합니다. 모임 주최자만 삭제할 수 있습니다.")
@@ -315,8 +344,8 @@ public class GatheringController {
     @PostMapping("/{id}")
     public ResponseEntity<BaseResponse<String>> deleteGathering(
             @Parameter(description = "삭제할 모임 ID", required = true) @PathVariable Long id,
-            @Parameter(description = "요청자 ID", required = true) @RequestHeader("X-User-Id") UUID userId) {
-        gatheringService.deleteGathering(id, userId);
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        gatheringService.deleteGathering(id, user.userId());
         return ResponseEntity.ok(BaseResponse.onSuccess("모임이 삭제되었습니다."));
     }
     
@@ -324,6 +353,7 @@ public class GatheringController {
      * 모임의 참가자 목록을 조회하는 엔드포인트
      *
      * @param gatheringId 모임 ID
+     * @param user 인증된 사용자 (로그인한 경우 차단 관계에 있는 참가자 제외)
      * @return 모임 참가자 목록
      */
     @Operation(summary = "모임 참가자 목록 조회", description = "특정 모임의 모든 참가자 목록을 조회합니다.")
@@ -334,8 +364,9 @@ public class GatheringController {
     })
     @GetMapping("/{gatheringId}/users")
     public ResponseEntity<BaseResponse<List<GatheringUserDto>>> getGatheringUsers(
-            @Parameter(description = "조회할 모임 ID", required = true) @PathVariable Long gatheringId) {
-        List<GatheringUserDto> users = gatheringService.getGatheringUsers(gatheringId);
+            @Parameter(description = "조회할 모임 ID", required = true) @PathVariable Long gatheringId,
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        List<GatheringUserDto> users = gatheringService.getGatheringUsers(gatheringId, user != null ? user.userId() : null);
         return ResponseEntity.ok(BaseResponse.onSuccess(users));
     }
 
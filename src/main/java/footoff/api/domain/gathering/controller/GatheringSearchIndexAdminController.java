@@ -0,0 +1,59 @@
+package footoff.api.domain.gathering.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import footoff.api.domain.gathering.event.GatheringSearchIndexUpdater;
+import footoff.api.global.common.BaseResponse;
+import footoff.api.global.common.enums.ErrorCode;
+import footoff.api.global.security.AdminKeyVerifier;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모임 검색 색인 관리를 위한 관리자 컨트롤러
+ * 모든 요청은 X-Admin-Key 헤더가 설정값(admin.api-key)과 일치해야 한다
+ */
+@RestController
+@RequestMapping("/api/management/search-index")
+@RequiredArgsConstructor
+@Tag(name = "검색 색인 관리 API", description = "모임 검색 색인 재구성 기능을 제공하는 관리자 API")
+public class GatheringSearchIndexAdminController {
+
+    private final GatheringSearchIndexUpdater gatheringSearchIndexUpdater;
+    private final AdminKeyVerifier adminKeyVerifier;
+
+    /**
+     * 모집중인 모임 전체를 다시 색인하는 엔드포인트
+     *
+     * @param adminKey 관리자 키
+     * @return 색인된 모임 수
+     */
+    @Operation(summary = "검색 색인 재구성", description = "모집중인 모임 전체를 DB에서 다시 읽어 검색 색인을 새로 만듭니다. 재구성 중에도 기존 색인으로 검색할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "검색 색인 재구성 성공"),
+        @ApiResponse(responseCode = "403", description = "관리자 키 불일치")
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<BaseResponse<Integer>> rebuild(
+            @Parameter(description = "관리자 키") @RequestHeader(value = AdminKeyVerifier.ADMIN_KEY_HEADER, required = false) String adminKey) {
+        if (!adminKeyVerifier.isAdmin(adminKey)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(BaseResponse.onSuccess(gatheringSearchIndexUpdater.rebuild()));
+    }
+
+    private <T> ResponseEntity<BaseResponse<T>> forbidden() {
+        return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .body(BaseResponse.onFailure(ErrorCode.FORBIDDEN.getCode(), "관리자 권한이 필요합니다."));
+    }
+}
@@ -2,10 +2,11 @@ package footoff.api.domain.gathering.dto;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import footoff.api.domain.gathering.entity.Gathering;
-import footoff.api.global.common.enums.GatheringUserStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -56,7 +57,7 @@ public class GatheringDetailResponseDto {
     @Schema(description = "모임 정보 마지막 수정 시간")
     private final LocalDateTime updatedAt;
     
-    @Schema(description = "전체 참가자 수", example = "8")
+    @Schema(description = "승인 및 대기 중인 참가자 수 (거절/취소 제외)", example = "8")
     private final int userCount;
     
     @Schema(description = "대기 중인 참가자 수", example = "3")
@@ -97,7 +98,7 @@ public class GatheringDetailResponseDto {
      * @param organizerProfileImage 주최자 프로필 이미지
      * @param createdAt 모임 생성 시간
      * @param updatedAt 모임 정보 업데이트 시간
-     * @param userCount 전체 참가자 수
+     * @param userCount 승인 및 대기 중인 참가자 수
      * @param pendingUserCount 대기 중인 사용자 수
      * @param approvedUserCount 승인된 사용자 수
      * @param location 모임 장소 정보
@@ -144,21 +145,28 @@ public class GatheringDetailResponseDto {
      * @return 생성된 GatheringDetailResponseDto 객체
      */
     public static GatheringDetailResponseDto fromEntity(Gathering gathering, String currentUserId) {
+        return fromEntity(gathering, currentUserId, userId -> false);
+    }
+
+    /**
+     * Gathering 엔티티로부터 GatheringDetailResponseDto를 생성하는 정적 팩토리 메서드 (참가자 목록에서 일부 사용자 제외)
+     * 
+     * @param gathering 모임 엔티티
+     * @param currentUserId 현재 요청한 사용자의 ID
+     * @param hiddenUser 참가자 목록에서 제외할 사용자인지 판단하는 조건 (차단 관계 등)
+     * @return 생성된 GatheringDetailResponseDto 객체
+     */
+    public static GatheringDetailResponseDto fromEntity(Gathering gathering, String currentUserId, Predicate<UUID> hiddenUser) {
         GatheringLocationDto locationDto = GatheringLocationDto.fromEntity(gathering.getLocation());
         
         List<ParticipantDto> participants = gathering.getUsers().stream()
+                .filter(gu -> !hiddenUser.test(gu.getUser().getId()))
                 .map(ParticipantDto::fromGatheringUser)
                 .collect(Collectors.toList());
         
-        // 승인된 사용자 수 계산
-        long approvedCount = gathering.getUsers().stream()
-                .filter(gu -> GatheringUserStatus.APPROVED.equals(gu.getStatus()))
-                .count();
-        
-        // 대기 중인 사용자 수 계산
-        long pendingCount = gathering.getUsers().stream()
-                .filter(gu -> GatheringUserStatus.PENDING.equals(gu.getStatus()))
-                .count();
+        // 승인/대기 중인 사용자 수 (비정규화된 카운터)
+        long approvedCount = gathering.getApprovedCount();
+        long pendingCount = gathering.getPendingCount();
         
         // 현재 사용자의 참가 상태 확인
         boolean isJoined = false;
@@ -191,7 +199,7 @@ public class GatheringDetailResponseDto {
                 .organizerProfileImage(gathering.getOrganizer().getProfileImageUrl())
                 .createdAt(gathering.getCreatedAt())
                 .updatedAt(gathering.getUpdatedAt())
-                .userCount(gathering.getUsers().size())
+                .userCount((int) (approvedCount + pendingCount))
                 .pendingUserCount((int) pendingCount)
                 .approvedUserCount((int) approvedCount)
                 .location(locationDto)
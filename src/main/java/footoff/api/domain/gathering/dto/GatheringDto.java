@@ -3,6 +3,7 @@ package footoff.api.domain.gathering.dto;
 import java.time.LocalDateTime;
 
 import footoff.api.domain.gathering.entity.Gathering;
+import footoff.api.domain.gathering.repository.projection.GatheringSummaryView;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -50,7 +51,7 @@ public class GatheringDto {
     @Schema(description = "모임 정보 마지막 수정 시간")
     private final LocalDateTime updatedAt;
     
-    @Schema(description = "현재 참가자 수", example = "5")
+    @Schema(description = "승인 및 대기 중인 참가자 수 (거절/취소 제외)", example = "5")
     private final int userCount;
 
     /**
@@ -68,7 +69,7 @@ public class GatheringDto {
      * @param organizerEmail 모임 주최자 이메일
      * @param createdAt 모임 생성 시간
      * @param updatedAt 모임 정보 마지막 수정 시간
-     * @param userCount 현재 참가자 수
+     * @param userCount 승인 및 대기 중인 참가자 수
      */
     @Builder
     public GatheringDto(Long id, String title, String description, String address,
@@ -112,7 +113,31 @@ public class GatheringDto {
                 .organizerEmail(gathering.getOrganizer().getEmail())
                 .createdAt(gathering.getCreatedAt())
                 .updatedAt(gathering.getUpdatedAt())
-                .userCount(gathering.getUsers().size())
+                .userCount(gathering.getApprovedCount() + gathering.getPendingCount())
                 .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 모임 요약 프로젝션을 GatheringDto로 변환하는 메서드
+     *
+     * @param view 변환할 모임 요약 프로젝션
+     * @return 변환된 GatheringDto 객체
+     */
+    public static GatheringDto fromView(GatheringSummaryView view) {
+        return GatheringDto.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .description(view.getDescription())
+                .address(view.getAddress())
+                .gatheringDate(view.getGatheringDate())
+                .minUsers(view.getMinUsers())
+                .maxUsers(view.getMaxUsers())
+                .fee(view.getFee())
+                .organizerId(view.getOrganizerId().toString())
+                .organizerEmail(view.getOrganizerEmail())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .userCount(view.getApprovedCount() + view.getPendingCount())
+                .build();
+    }
+}
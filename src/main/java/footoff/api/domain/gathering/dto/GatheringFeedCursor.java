@@ -0,0 +1,59 @@
+package footoff.api.domain.gathering.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import footoff.api.global.exception.InvalidOperationException;
+import lombok.Getter;
+
+/**
+ * 홈 피드 키셋 페이지네이션 커서
+ * (모임 날짜, 모임 ID) 쌍을 클라이언트에게는 불투명한 토큰으로 전달한다
+ */
+@Getter
+public class GatheringFeedCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime gatheringDate;
+    private final Long id;
+
+    public GatheringFeedCursor(LocalDateTime gatheringDate, Long id) {
+        this.gatheringDate = gatheringDate;
+        this.id = id;
+    }
+
+    /**
+     * 커서를 URL-safe Base64 토큰으로 인코딩하는 메서드
+     *
+     * @return 인코딩된 커서 토큰
+     */
+    public String encode() {
+        String raw = gatheringDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 디코딩하는 메서드
+     *
+     * @param token 클라이언트가 전달한 커서 토큰
+     * @return 디코딩된 커서
+     * @throws InvalidOperationException 토큰 형식이 올바르지 않은 경우
+     */
+    public static GatheringFeedCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new InvalidOperationException("유효하지 않은 커서입니다.");
+            }
+            LocalDateTime gatheringDate = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.valueOf(raw.substring(separatorIndex + 1));
+            return new GatheringFeedCursor(gatheringDate, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidOperationException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package footoff.api.domain.gathering.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 홈 피드 페이지 응답 DTO 클래스
+ * 한 페이지 분량의 모임 목록과 다음 페이지를 조회하기 위한 커서를 포함합니다.
+ */
+@Getter
+@Schema(description = "홈 피드 페이지 응답")
+public class GatheringFeedResponseDto {
+
+    @Schema(description = "현재 페이지의 모임 목록")
+    private final List<GatheringUsersWithStatusDto> gatherings;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지이면 null)", example = "MjAyNS0wNi0wMVQxNDowMHw0Mg")
+    private final String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    /**
+     * GatheringFeedResponseDto 생성자
+     *
+     * @param gatherings 현재 페이지의 모임 목록
+     * @param nextCursor 다음 페이지 조회용 커서
+     * @param hasNext 다음 페이지 존재 여부
+     */
+    @Builder
+    public GatheringFeedResponseDto(List<GatheringUsersWithStatusDto> gatherings, String nextCursor, boolean hasNext) {
+        this.gatherings = gatherings;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -1,6 +1,7 @@
 package footoff.api.domain.gathering.dto;
 
 import footoff.api.domain.gathering.entity.GatheringUser;
+import footoff.api.domain.gathering.repository.projection.GatheringParticipantView;
 import footoff.api.global.common.enums.GatheringUserRole;
 import footoff.api.global.common.enums.GatheringUserStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -65,4 +66,20 @@ public class GatheringUserSimpleDto {
                         : null)
                 .build();
     }
+
+    /**
+     * 참가자 프로젝션을 GatheringUserSimpleDto로 변환하는 메서드
+     *
+     * @param view 변환할 참가자 프로젝션
+     * @return 변환된 GatheringUserSimpleDto 객체
+     */
+    public static GatheringUserSimpleDto fromView(GatheringParticipantView view) {
+        return GatheringUserSimpleDto.builder()
+                .userId(view.getUserId().toString())
+                .status(view.getStatus())
+                .role(view.getRole())
+                .nickName(view.getNickname())
+                .profileImage(view.getProfileImage())
+                .build();
+    }
 }
@@ -1,6 +1,7 @@
 package footoff.api.domain.gathering.dto;
 
 import footoff.api.domain.gathering.entity.Gathering;
+import footoff.api.domain.gathering.repository.projection.GatheringSummaryView;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -52,7 +53,7 @@ public class GatheringUsersWithStatusDto {
     @Schema(description = "모임 정보 마지막 수정 시간")
     private final LocalDateTime updatedAt;
 
-    @Schema(description = "현재 참가자 수", example = "5")
+    @Schema(description = "승인 및 대기 중인 참가자 수 (거절/취소 제외)", example = "5")
     private final int userCount;
 
     @Schema(description = "모임 상태")
@@ -76,7 +77,7 @@ public class GatheringUsersWithStatusDto {
      * @param organizerEmail 모임 주최자 이메일
      * @param createdAt 모임 생성 시간
      * @param updatedAt 모임 정보 마지막 수정 시간
-     * @param userCount 현재 참가자 수
+     * @param userCount 승인 및 대기 중인 참가자 수
      * @param gatheringStatus 모임 상태
      */
     @Builder
@@ -123,9 +124,36 @@ public class GatheringUsersWithStatusDto {
                 .organizerEmail(gathering.getOrganizer().getEmail())
                 .createdAt(gathering.getCreatedAt())
                 .updatedAt(gathering.getUpdatedAt())
-                .userCount(gathering.getUsers().size())
+                .userCount(gathering.getApprovedCount() + gathering.getPendingCount())
                 .gatheringStatus(gathering.getStatus() != null ? gathering.getStatus().name() : null)
                 .users(gathering.getUsers().stream().map(GatheringUserSimpleDto::fromEntity).collect(Collectors.toList()))
                 .build();
     }
+
+    /**
+     * 모임 요약 프로젝션과 참가자 목록을 GatheringUsersWithStatusDto로 변환하는 메서드
+     *
+     * @param view 변환할 모임 요약 프로젝션
+     * @param users 모임 참가자 목록
+     * @return 변환된 GatheringUsersWithStatusDto 객체
+     */
+    public static GatheringUsersWithStatusDto fromView(GatheringSummaryView view, List<GatheringUserSimpleDto> users) {
+        return GatheringUsersWithStatusDto.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .description(view.getDescription())
+                .address(view.getAddress())
+                .gatheringDate(view.getGatheringDate())
+                .minUsers(view.getMinUsers())
+                .maxUsers(view.getMaxUsers())
+                .fee(view.getFee())
+                .organizerId(view.getOrganizerId().toString())
+                .organizerEmail(view.getOrganizerEmail())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .userCount(view.getApprovedCount() + view.getPendingCount())
+                .gatheringStatus(view.getStatus() != null ? view.getStatus().name() : null)
+                .users(users)
+                .build();
+    }
 }
@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import footoff.api.domain.gathering.util.SearchTokenizer;
 import footoff.api.domain.user.entity.User;
 import footoff.api.global.common.entity.BaseEntity;
 import footoff.api.global.common.enums.GatheringStatus;
@@ -16,12 +17,39 @@ import lombok.NoArgsConstructor;
 
 /**
  * 모임 정보를 담는 엔티티 클래스
+ * 조회 용도별 연관관계 로딩 범위는 엔티티 그래프로 정의한다
+ * (주최자 프로필, 장소는 연관관계 주인이 아닌 일대일이라 지연 로딩되지 않으므로 그래프에 포함한다)
  */
 @Entity
 @Table(name = "gathering")
+@NamedEntityGraph(
+        name = Gathering.GRAPH_SUMMARY,
+        attributeNodes = {
+                @NamedAttributeNode(value = "organizer", subgraph = "organizerProfile"),
+                @NamedAttributeNode("location")
+        },
+        subgraphs = @NamedSubgraph(name = "organizerProfile", attributeNodes = @NamedAttributeNode("profile")))
+@NamedEntityGraph(
+        name = Gathering.GRAPH_DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode(value = "organizer", subgraph = "organizerProfile"),
+                @NamedAttributeNode("location"),
+                @NamedAttributeNode(value = "users", subgraph = "participants")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "organizerProfile", attributeNodes = @NamedAttributeNode("profile")),
+                @NamedSubgraph(name = "participants", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "participantProfile")),
+                @NamedSubgraph(name = "participantProfile", attributeNodes = @NamedAttributeNode("profile"))
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Gathering extends BaseEntity {
+
+    /** 주최자(프로필 포함)와 장소를 함께 로딩하는 그래프 */
+    public static final String GRAPH_SUMMARY = "Gathering.summary";
+
+    /** 주최자, 장소, 참가자(프로필 포함)를 모두 함께 로딩하는 그래프 */
+    public static final String GRAPH_DETAIL = "Gathering.detail";
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +60,13 @@ public class Gathering extends BaseEntity {
     
     @Column(columnDefinition = "TEXT")
     private String description;
+
+    /**
+     * 키워드 검색용 FULLTEXT 색인 텍스트 (제목과 설명의 bigram, {@link SearchTokenizer#toIndexText})
+     * 제목/설명이 바뀔 때 함께 갱신한다
+     */
+    @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+    private String searchText;
     
     @Column(name = "gathering_date", nullable = false)
     private LocalDateTime gatheringDate;
@@ -49,6 +84,20 @@ public class Gathering extends BaseEntity {
     @Column(nullable = false)
     private GatheringStatus status = GatheringStatus.RECRUITMENT;
     
+    /**
+     * 승인된 참가자 수 (주최자 포함)
+     * 동시 변경 시 유실을 막기 위해 원자적 UPDATE 쿼리로만 증감하며, 엔티티 변경 감지로는 갱신하지 않는다
+     */
+    @Column(name = "approved_count", nullable = false, updatable = false)
+    private int approvedCount;
+
+    /**
+     * 승인 대기 중인 참가 신청 수
+     * 동시 변경 시 유실을 막기 위해 원자적 UPDATE 쿼리로만 증감하며, 엔티티 변경 감지로는 갱신하지 않는다
+     */
+    @Column(name = "pending_count", nullable = false, updatable = false)
+    private int pendingCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organizer_id", nullable = false)
     private User organizer;
@@ -78,6 +127,7 @@ public class Gathering extends BaseEntity {
         this.id = id;
         this.title = title;
         this.description = description;
+        this.searchText = SearchTokenizer.toIndexText(title, description);
         this.gatheringDate = gatheringDate;
         this.minUsers = minUsers;
         this.maxUsers = maxUsers;
@@ -100,6 +150,7 @@ public class Gathering extends BaseEntity {
                             Integer minUsers, Integer maxUsers, Integer fee) {
         this.title = title;
         this.description = description;
+        this.searchText = SearchTokenizer.toIndexText(title, description);
         this.gatheringDate = gatheringDate;
         this.minUsers = minUsers;
         this.maxUsers = maxUsers;
@@ -129,6 +180,27 @@ public class Gathering extends BaseEntity {
         this.status = GatheringStatus.DELETED;
     }
     
+    /**
+     * 참가자 수 변화를 현재 영속성 컨텍스트의 엔티티에 반영하는 메소드
+     * DB 값은 GatheringRepository 의 원자적 UPDATE 쿼리로 변경되므로, 같은 트랜잭션에서 읽는 값을 맞추기 위해 사용한다
+     * 저장 전의 새 엔티티에서는 최초 INSERT 값을 설정한다
+     *
+     * @param approvedDelta 승인된 참가자 수 변화량
+     * @param pendingDelta 대기 중인 참가 신청 수 변화량
+     */
+    public void applyParticipantCountDelta(int approvedDelta, int pendingDelta) {
+        this.approvedCount = Math.max(0, this.approvedCount + approvedDelta);
+        this.pendingCount = Math.max(0, this.pendingCount + pendingDelta);
+    }
+
+    /**
+     * 참가자 수를 초기화하는 메소드 (모든 참가자가 취소된 경우)
+     */
+    public void resetParticipantCounts() {
+        this.approvedCount = 0;
+        this.pendingCount = 0;
+    }
+
     /**
      * 모임에 새로운 user를 추가하는 메소드 (양방향 관계 설정)
      * 
@@ -9,9 +9,14 @@ import lombok.AccessLevel;
 
 import java.util.Objects;
 
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
 /**
  * 모임 장소 정보를 담는 엔티티 클래스
  * 모임의 위치 정보(위도, 경도, 주소 등)를 관리한다
+ * 반경 검색은 위경도와 함께 저장하는 POINT(경도, 위도) 컬럼의 공간 인덱스를 사용한다
  */
 @Entity
 @Table(name = "gathering_location")
@@ -19,6 +24,8 @@ import java.util.Objects;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class GatheringLocation extends BaseEntity {
     
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,6 +40,13 @@ public class GatheringLocation extends BaseEntity {
     @Column
     private Double longitude;
     
+    /**
+     * 공간 인덱스용 좌표 (x = 경도, y = 위도)
+     * 공간 인덱스 컬럼은 NULL 을 허용하지 않으므로 좌표가 없으면 (0, 0)을 저장하고 검색에서는 위도 NULL 로 제외한다
+     */
+    @Column(nullable = false, columnDefinition = "POINT")
+    private Point coordinates;
+    
     @Column
     private String address;
     
@@ -56,6 +70,7 @@ public class GatheringLocation extends BaseEntity {
         this.gathering = gathering;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.coordinates = toPoint(latitude, longitude);
         this.address = address;
         this.placeName = placeName;
     }
@@ -71,10 +86,18 @@ public class GatheringLocation extends BaseEntity {
     public void updateLocation(Double latitude, Double longitude, String address, String placeName) {
         this.latitude = latitude;
         this.longitude = longitude;
+        this.coordinates = toPoint(latitude, longitude);
         this.address = address;
         this.placeName = placeName;
     }
     
+    private static Point toPoint(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return GEOMETRY_FACTORY.createPoint(new Coordinate(0, 0));
+        }
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude));
+    }
+    
     /**
      * 모임 설정 메서드 (양방향 관계 설정)
      * 
@@ -19,9 +19,26 @@ import java.util.Objects;
 @Entity
 @Table(name = "gathering_user",
        uniqueConstraints = @UniqueConstraint(columnNames = {"gathering_id", "user_id"}))
+@NamedEntityGraph(
+        name = GatheringUser.GRAPH_USER_PROFILE,
+        attributeNodes = @NamedAttributeNode(value = "user", subgraph = "userProfile"),
+        subgraphs = @NamedSubgraph(name = "userProfile", attributeNodes = @NamedAttributeNode("profile")))
+@NamedEntityGraph(
+        name = GatheringUser.GRAPH_GATHERING_AND_USER,
+        attributeNodes = {
+                @NamedAttributeNode("gathering"),
+                @NamedAttributeNode(value = "user", subgraph = "userProfile")
+        },
+        subgraphs = @NamedSubgraph(name = "userProfile", attributeNodes = @NamedAttributeNode("profile")))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class GatheringUser extends BaseEntity {
+
+    /** 참가자(프로필 포함)를 함께 로딩하는 그래프 */
+    public static final String GRAPH_USER_PROFILE = "GatheringUser.userProfile";
+
+    /** 모임과 참가자(프로필 포함)를 함께 로딩하는 그래프 */
+    public static final String GRAPH_GATHERING_AND_USER = "GatheringUser.gatheringAndUser";
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
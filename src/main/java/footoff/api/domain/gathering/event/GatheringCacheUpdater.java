@@ -0,0 +1,138 @@
+package footoff.api.domain.gathering.event;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import footoff.api.domain.gathering.dto.GatheringUsersWithStatusDto;
+import footoff.api.domain.gathering.entity.Gathering;
+import footoff.api.domain.gathering.repository.GatheringRepository;
+import footoff.api.domain.gathering.service.GatheringFeedReader;
+import footoff.api.global.cache.component.GatheringCacheIndex;
+import footoff.api.global.common.enums.GatheringStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 변경 이벤트를 받아 영향을 받는 캐시 항목만 갱신하는 리스너
+ * 공유 홈 피드는 변경된 모임만 교체하고, 예정 모임 목록은 항목을 무효화해 다음 조회에서 다시 적재하며,
+ * 사용자별 목록은 역색인으로 찾은 항목과 참가 목록이 바뀐 사용자의 항목만 무효화한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatheringCacheUpdater {
+
+    static final String UPCOMING_CACHE = "upcomingGatheringsCache";
+    static final String USER_GATHERINGS_CACHE = "userGatheringsCache";
+    static final String ORGANIZER_GATHERINGS_CACHE = "organizerGatheringsCache";
+
+    private static final Comparator<GatheringUsersWithStatusDto> FEED_ORDER = Comparator
+            .comparing(GatheringUsersWithStatusDto::getGatheringDate)
+            .thenComparing(GatheringUsersWithStatusDto::getId);
+
+    private final CacheManager cacheManager;
+    private final GatheringCacheIndex gatheringCacheIndex;
+    private final GatheringRepository gatheringRepository;
+
+    /**
+     * 트랜잭션 커밋 후 변경된 모임에 해당하는 캐시 항목을 갱신하는 메서드
+     *
+     * @param event 모임 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onGatheringChanged(GatheringChangedEvent event) {
+        Map<Long, Gathering> changed = new HashMap<>();
+        for (Gathering gathering : gatheringRepository.findDetailsByIdIn(event.getGatheringIds())) {
+            changed.put(gathering.getId(), gathering);
+        }
+
+        patchFeed(event.getGatheringIds(), changed);
+        evictUpcoming();
+        evictUserEntries(event.getGatheringIds(), event.getAffectedUserIds());
+    }
+
+    /**
+     * 공유 홈 피드에서 변경된 모임만 교체/삭제/삽입하는 메서드
+     */
+    private synchronized void patchFeed(Set<Long> gatheringIds, Map<Long, Gathering> changed) {
+        Cache cache = cacheManager.getCache(GatheringFeedReader.FEED_CACHE);
+        Cache.ValueWrapper wrapper = cache != null ? cache.get(GatheringFeedReader.FEED_CACHE_KEY) : null;
+        if (wrapper == null || !(wrapper.get() instanceof List<?> cached)) {
+            // 커밋 이전 스냅샷으로 진행 중인 적재가 있으면 완료를 기다린 뒤 버린다
+            if (cache != null) {
+                cache.evict(GatheringFeedReader.FEED_CACHE_KEY);
+            }
+            return;
+        }
+
+        List<GatheringUsersWithStatusDto> feed = new ArrayList<>(cached.size() + gatheringIds.size());
+        for (Object element : cached) {
+            GatheringUsersWithStatusDto gathering = (GatheringUsersWithStatusDto) element;
+            if (!gatheringIds.contains(gathering.getId())) {
+                feed.add(gathering);
+            }
+        }
+        for (Gathering gathering : changed.values()) {
+            if (gathering.getStatus() == GatheringStatus.RECRUITMENT) {
+                feed.add(GatheringUsersWithStatusDto.fromEntity(gathering));
+            }
+        }
+        feed.sort(FEED_ORDER);
+
+        cache.put(GatheringFeedReader.FEED_CACHE_KEY, List.copyOf(feed));
+    }
+
+    /**
+     * 예정된 모임 목록 항목을 무효화하는 메서드
+     * 목록은 상태와 무관하게 날짜 조건만으로 조회되고 정렬 순서도 쿼리 결과를 따르므로 제자리 패치 대신 다시 적재한다
+     * 조회는 sync 모드로 적재되어 커밋 이전 스냅샷을 읽고 있는 적재가 있으면 무효화가 그 완료를 기다린 뒤 제거한다
+     */
+    private void evictUpcoming() {
+        Cache cache = cacheManager.getCache(UPCOMING_CACHE);
+        if (cache != null) {
+            cache.evict(SimpleKey.EMPTY);
+        }
+    }
+
+    /**
+     * 사용자별 참가/주최 목록 중 변경된 모임을 담고 있거나 참가 목록이 바뀐 사용자의 항목만 무효화하는 메서드
+     */
+    private void evictUserEntries(Set<Long> gatheringIds, Set<UUID> affectedUserIds) {
+        Cache userCache = cacheManager.getCache(USER_GATHERINGS_CACHE);
+        Cache organizerCache = cacheManager.getCache(ORGANIZER_GATHERINGS_CACHE);
+
+        for (Long gatheringId : gatheringIds) {
+            for (GatheringCacheIndex.EntryRef entry : gatheringCacheIndex.entriesContaining(gatheringId)) {
+                if (entry.cacheName().equals(USER_GATHERINGS_CACHE) && userCache != null) {
+                    userCache.evict(entry.key());
+                } else if (entry.cacheName().equals(ORGANIZER_GATHERINGS_CACHE) && organizerCache != null) {
+                    organizerCache.evict(entry.key());
+                }
+            }
+        }
+        for (UUID userId : affectedUserIds) {
+            if (userCache != null) {
+                userCache.evict(userId);
+            }
+            if (organizerCache != null) {
+                organizerCache.evict(userId);
+            }
+        }
+
+        log.debug("모임 캐시 선택 갱신 - 모임 ID: {}, 영향 사용자 수: {}", gatheringIds, affectedUserIds.size());
+    }
+}
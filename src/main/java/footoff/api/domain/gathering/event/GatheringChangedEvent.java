@@ -0,0 +1,42 @@
+package footoff.api.domain.gathering.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.Getter;
+
+/**
+ * 모임 정보 또는 참가 상태가 변경되었음을 알리는 이벤트
+ * 트랜잭션 커밋 후 캐시 항목을 선택적으로 갱신하는 데 사용된다
+ */
+@Getter
+public class GatheringChangedEvent {
+
+    /**
+     * 변경된 모임 ID 목록
+     */
+    private final Set<Long> gatheringIds;
+
+    /**
+     * 참가 목록이나 주최 목록이 바뀐 사용자 ID 목록
+     */
+    private final Set<UUID> affectedUserIds;
+
+    public GatheringChangedEvent(Collection<Long> gatheringIds, Collection<UUID> affectedUserIds) {
+        this.gatheringIds = Set.copyOf(gatheringIds);
+        this.affectedUserIds = Set.copyOf(affectedUserIds);
+    }
+
+    /**
+     * 단일 모임 변경 이벤트를 생성하는 메서드
+     *
+     * @param gatheringId 변경된 모임 ID
+     * @param affectedUserIds 참가/주최 목록이 바뀐 사용자 ID
+     * @return 모임 변경 이벤트
+     */
+    public static GatheringChangedEvent of(Long gatheringId, UUID... affectedUserIds) {
+        return new GatheringChangedEvent(List.of(gatheringId), List.of(affectedUserIds));
+    }
+}
@@ -0,0 +1,112 @@
+package footoff.api.domain.gathering.event;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import footoff.api.domain.gathering.component.GatheringGeoIndex;
+import footoff.api.domain.gathering.repository.GatheringRepository;
+import footoff.api.domain.gathering.repository.projection.GatheringPointView;
+import footoff.api.global.common.enums.GatheringStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 위치 색인을 DB와 맞추는 컴포넌트
+ * - 서버 시작 시 모집중인 모임 좌표 전체를 적재한다
+ * - 모임 변경 이벤트(생성, 수정, 취소, 삭제, 만료)가 커밋되면 변경된 모임의 현재 상태를 다시 읽어 색인에 반영한다
+ * - 주기적으로 DB와 비교하여 누락/불일치 항목을 바로잡는다 (전체 적재 중 커밋된 변경 등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatheringGeoIndexUpdater {
+
+    private final GatheringGeoIndex gatheringGeoIndex;
+    private final GatheringRepository gatheringRepository;
+
+    /**
+     * 서버 시작 시 색인을 DB에서 다시 만든다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<GatheringPointView> points = gatheringRepository.findPointsByStatus(GatheringStatus.RECRUITMENT);
+        gatheringGeoIndex.replaceAll(points.stream()
+                .map(point -> new GatheringGeoIndex.Entry(point.getId(), point.getLatitude(), point.getLongitude()))
+                .toList());
+        log.info("모임 위치 색인 적재 완료: {}건", points.size());
+    }
+
+    /**
+     * 트랜잭션 커밋 후 변경된 모임을 색인에 반영하는 메서드
+     * 이벤트 내용이 아닌 커밋된 현재 상태를 읽으므로 이벤트 처리 순서와 관계없이 결과가 같다
+     *
+     * @param event 모임 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onGatheringChanged(GatheringChangedEvent event) {
+        Map<Long, GatheringPointView> current = new HashMap<>();
+        for (GatheringPointView point : gatheringRepository.findPointsByIdIn(event.getGatheringIds())) {
+            current.put(point.getId(), point);
+        }
+
+        for (Long gatheringId : event.getGatheringIds()) {
+            apply(gatheringId, current.get(gatheringId));
+        }
+    }
+
+    /**
+     * 색인과 DB의 모집중인 모임 좌표를 비교하여 다른 항목을 바로잡는 정합성 확인
+     * 10분마다 실행
+     */
+    @Scheduled(fixedDelayString = "${gathering.geo-index.verify-interval-ms:600000}",
+            initialDelayString = "${gathering.geo-index.verify-interval-ms:600000}")
+    public void verify() {
+        List<GatheringPointView> points = gatheringRepository.findPointsByStatus(GatheringStatus.RECRUITMENT);
+        Set<Long> expected = new HashSet<>();
+        int repaired = 0;
+
+        for (GatheringPointView point : points) {
+            expected.add(point.getId());
+            if (!gatheringGeoIndex.contains(point.getId(), point.getLatitude(), point.getLongitude())) {
+                gatheringGeoIndex.put(point.getId(), point.getLatitude(), point.getLongitude());
+                repaired++;
+            }
+        }
+
+        int rechecked = 0;
+        for (long gatheringId : gatheringGeoIndex.gatheringIds()) {
+            if (!expected.contains(gatheringId)) {
+                // 비교 중에 새로 모집을 시작한 모임일 수 있으므로 현재 상태를 다시 확인한다
+                List<GatheringPointView> latest = gatheringRepository.findPointsByIdIn(List.of(gatheringId));
+                apply(gatheringId, latest.isEmpty() ? null : latest.get(0));
+                rechecked++;
+            }
+        }
+
+        if (repaired > 0 || rechecked > 0) {
+            log.warn("모임 위치 색인 불일치 수정: 추가/이동 {}건, 재확인 {}건 (색인 크기 {})",
+                    repaired, rechecked, gatheringGeoIndex.size());
+        }
+    }
+
+    private void apply(Long gatheringId, GatheringPointView point) {
+        if (point != null && point.getStatus() == GatheringStatus.RECRUITMENT
+                && point.getLatitude() != null && point.getLongitude() != null) {
+            gatheringGeoIndex.put(gatheringId, point.getLatitude(), point.getLongitude());
+        } else {
+            gatheringGeoIndex.remove(gatheringId);
+        }
+    }
+}
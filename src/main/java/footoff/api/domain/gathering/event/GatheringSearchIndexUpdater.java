@@ -0,0 +1,114 @@
+package footoff.api.domain.gathering.event;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import footoff.api.domain.gathering.component.GatheringSearchIndex;
+import footoff.api.domain.gathering.repository.GatheringRepository;
+import footoff.api.domain.gathering.repository.projection.GatheringSearchDocumentView;
+import footoff.api.global.common.enums.GatheringStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 검색 색인을 DB와 맞추는 컴포넌트
+ * - 서버 시작 시와 관리자 요청 시 모집중인 모임 전체를 다시 색인한다
+ * - 모임 변경 이벤트(생성, 수정, 취소, 삭제, 만료)가 커밋되면 변경된 모임의 현재 상태를 다시 읽어 색인에 반영한다
+ * - 전체 재색인 중 반영된 변경은 교체될 이전 색인에만 적용되므로, 해당 모임을 기록해 두었다가 교체 후 다시 반영한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatheringSearchIndexUpdater {
+
+    private final GatheringSearchIndex gatheringSearchIndex;
+    private final GatheringRepository gatheringRepository;
+
+    /** 전체 재색인 중 변경된 모임 ID (재색인 중이 아니면 null) */
+    private volatile Set<Long> changedDuringRebuild;
+
+    /**
+     * 서버 시작 시 색인을 DB에서 다시 만든다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 모집중인 모임 전체를 다시 색인하는 메서드
+     * 목록 조회와 교체 사이에 반영된 변경은 교체 후 현재 상태를 다시 읽어 반영한다
+     * (교체 후 조회가 목록 조회와 같은 스냅샷을 보지 않도록 트랜잭션으로 묶지 않는다)
+     *
+     * @return 색인된 모임 수
+     */
+    public synchronized int rebuild() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            List<GatheringSearchDocumentView> documents =
+                    gatheringRepository.findSearchDocumentsByStatus(GatheringStatus.RECRUITMENT);
+            gatheringSearchIndex.replaceAll(documents.stream().map(GatheringSearchIndexUpdater::toSource).toList());
+            changedDuringRebuild = null;
+
+            if (!changed.isEmpty()) {
+                apply(changed);
+            }
+            log.info("모임 검색 색인 적재 완료: 모임 {}건, 단어 {}개, 재적재 중 변경 {}건",
+                    documents.size(), gatheringSearchIndex.termCount(), changed.size());
+            return documents.size();
+        } finally {
+            changedDuringRebuild = null;
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 변경된 모임을 색인에 반영하는 메서드
+     * 이벤트 내용이 아닌 커밋된 현재 상태를 읽으므로 이벤트 처리 순서와 관계없이 결과가 같다
+     *
+     * @param event 모임 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onGatheringChanged(GatheringChangedEvent event) {
+        // 색인에 반영하기 전에 기록해야 교체 전 이전 색인에만 반영된 변경을 놓치지 않는다
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.addAll(event.getGatheringIds());
+        }
+        apply(event.getGatheringIds());
+    }
+
+    private void apply(Collection<Long> gatheringIds) {
+        Map<Long, GatheringSearchDocumentView> current = new HashMap<>();
+        for (GatheringSearchDocumentView document : gatheringRepository.findSearchDocumentsByIdIn(gatheringIds)) {
+            current.put(document.getId(), document);
+        }
+
+        for (Long gatheringId : gatheringIds) {
+            GatheringSearchDocumentView document = current.get(gatheringId);
+            if (document != null && document.getStatus() == GatheringStatus.RECRUITMENT) {
+                gatheringSearchIndex.put(toSource(document));
+            } else {
+                gatheringSearchIndex.remove(gatheringId);
+            }
+        }
+    }
+
+    private static GatheringSearchIndex.Source toSource(GatheringSearchDocumentView document) {
+        return new GatheringSearchIndex.Source(document.getId(), document.getTitle(), document.getDescription(),
+                document.getPlaceName(), document.getAddress(), document.getGatheringDate(),
+                document.getLatitude(), document.getLongitude());
+    }
+}
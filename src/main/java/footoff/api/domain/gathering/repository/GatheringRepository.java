@@ -1,21 +1,33 @@
 package footoff.api.domain.gathering.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import footoff.api.global.common.enums.GatheringStatus;
-import footoff.api.global.common.enums.GatheringUserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import footoff.api.domain.gathering.entity.Gathering;
+import footoff.api.domain.gathering.repository.projection.GatheringDistanceView;
+import footoff.api.domain.gathering.repository.projection.GatheringKeywordMatchView;
+import footoff.api.domain.gathering.repository.projection.GatheringPointView;
+import footoff.api.domain.gathering.repository.projection.GatheringSearchDocumentView;
+import footoff.api.domain.gathering.repository.projection.GatheringSearchSourceView;
+import footoff.api.domain.gathering.repository.projection.GatheringSummaryView;
 import footoff.api.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface GatheringRepository extends JpaRepository<Gathering, Long>, JpaSpecificationExecutor<Gathering> {
@@ -27,30 +39,160 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long>, Jpa
 
 
     /**
-     * 모집중인 모임 목록 조회(차단된 인원을 제외, 승인된 인원만 포함)
-     * 성능 최적화: DISTINCT 사용, 불필요한 LEFT JOIN 제거, 필요한 엔티티만 JOIN FETCH
+     * 목록 조회용 요약 프로젝션의 공통 SELECT 절
+     */
+    String SUMMARY_SELECT = """
+            SELECT g.id AS id, g.title AS title, g.description AS description, l.address AS address,
+                   g.gatheringDate AS gatheringDate, g.minUsers AS minUsers, g.maxUsers AS maxUsers,
+                   g.fee AS fee, g.status AS status, o.id AS organizerId, o.email AS organizerEmail,
+                   g.createdAt AS createdAt, g.updatedAt AS updatedAt,
+                   g.approvedCount AS approvedCount, g.pendingCount AS pendingCount
+            FROM Gathering g
+            JOIN g.organizer o
+            LEFT JOIN g.location l
+            """;
+
+    /**
+     * 모집중인 모임 요약 목록 조회(차단 필터링 전, 모든 사용자가 공유하는 피드용)
+     * 차단 관계는 조회 후 사용자별로 애플리케이션에서 필터링한다
+     */
+    @Query(SUMMARY_SELECT + """
+            WHERE g.status = :status
+            ORDER BY g.gatheringDate ASC, g.id ASC
+            """)
+    List<GatheringSummaryView> findRecruitmentFeed(@Param("status") GatheringStatus status);
+
+    /**
+     * 홈 피드 첫 페이지 조회 (키셋 페이지네이션)
+     * (gathering_date, id) 순으로 정렬하며 COUNT 쿼리를 실행하지 않는다
+     * 차단 관계는 조회 후 사용자별로 애플리케이션에서 필터링한다
+     */
+    @Query(SUMMARY_SELECT + """
+            WHERE g.status = :status
+            ORDER BY g.gatheringDate ASC, g.id ASC
+            """)
+    List<GatheringSummaryView> findFeedFirstPage(@Param("status") GatheringStatus status, Pageable pageable);
+
+    /**
+     * 홈 피드 다음 페이지 조회 (키셋 페이지네이션)
+     * 커서로 전달된 (gathering_date, id) 이후의 모임만 조회한다
+     */
+    @Query(SUMMARY_SELECT + """
+            WHERE g.status = :status
+            AND (g.gatheringDate > :cursorDate
+                OR (g.gatheringDate = :cursorDate AND g.id > :cursorId))
+            ORDER BY g.gatheringDate ASC, g.id ASC
+            """)
+    List<GatheringSummaryView> findFeedAfterCursor(
+            @Param("status") GatheringStatus status,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 특정 날짜 이후의 모임 요약 목록 조회 (예정된 모임 목록용)
+     */
+    @Query(SUMMARY_SELECT + "WHERE g.gatheringDate > :date")
+    List<GatheringSummaryView> findSummariesByGatheringDateAfter(@Param("date") LocalDateTime date);
+
+    /**
+     * 특정 사용자가 참가한 모임 요약 목록 조회(특정 상태만)
+     */
+    @Query(SUMMARY_SELECT + """
+            JOIN GatheringUser gu ON gu.gathering = g
+            WHERE gu.user.id = :userId AND g.status IN :statusList
+            """)
+    List<GatheringSummaryView> findSummariesByParticipant(
+            @Param("userId") UUID userId,
+            @Param("statusList") List<GatheringStatus> statusList);
+
+    /**
+     * 특정 사용자가 주최한 모임 요약 목록 조회(특정 상태만)
+     */
+    @Query(SUMMARY_SELECT + "WHERE o.id = :organizerId AND g.status IN :statusList")
+    List<GatheringSummaryView> findSummariesByOrganizer(
+            @Param("organizerId") UUID organizerId,
+            @Param("statusList") List<GatheringStatus> statusList);
+
+    /**
+     * 모임 단건 조회 (주최자/장소 함께 로딩, 기본 정보 응답용)
+     */
+    @EntityGraph(Gathering.GRAPH_SUMMARY)
+    Optional<Gathering> findSummaryById(Long id);
+
+    /**
+     * 모임 단건 조회 (주최자/장소/참가자 함께 로딩, 상세 응답용)
+     */
+    @EntityGraph(Gathering.GRAPH_DETAIL)
+    Optional<Gathering> findDetailById(Long id);
+
+    /**
+     * 여러 모임 조회 (주최자/장소/참가자 함께 로딩, 캐시 갱신용)
+     */
+    @EntityGraph(Gathering.GRAPH_DETAIL)
+    @Query("SELECT DISTINCT g FROM Gathering g WHERE g.id IN :ids")
+    List<Gathering> findDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 특정 상태이면서 좌표가 있는 모임의 좌표 목록 조회 (위치 색인 전체 적재/정합성 확인용)
      */
     @Query("""
-            SELECT DISTINCT g FROM Gathering g
-            JOIN FETCH g.organizer
-            LEFT JOIN FETCH g.location
-            LEFT JOIN g.users gu
+            SELECT g.id AS id, g.status AS status, l.latitude AS latitude, l.longitude AS longitude
+            FROM Gathering g
+            JOIN g.location l
             WHERE g.status = :status
-            AND (gu IS NULL OR gu.status = :gatheringUserStatus)
-            AND g.organizer.id NOT IN (
-                SELECT b.blocked.id FROM Block b
-                WHERE b.user.id = :userId AND b.isBlock = true
-            )
-            AND g.organizer.id NOT IN (
-                SELECT b.user.id FROM Block b
-                WHERE b.blocked.id = :userId AND b.isBlock = true
-            )
+            AND l.latitude IS NOT NULL AND l.longitude IS NOT NULL
+            """)
+    List<GatheringPointView> findPointsByStatus(@Param("status") GatheringStatus status);
+
+    /**
+     * 여러 모임의 상태와 좌표 조회 (위치 색인 갱신용, 장소가 없는 모임은 좌표가 null)
+     */
+    @Query("""
+            SELECT g.id AS id, g.status AS status, l.latitude AS latitude, l.longitude AS longitude
+            FROM Gathering g
+            LEFT JOIN g.location l
+            WHERE g.id IN :ids
+            """)
+    List<GatheringPointView> findPointsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 특정 상태인 모임의 검색 색인용 정보 조회 (검색 색인 전체 적재용)
+     */
+    @Query("""
+            SELECT g.id AS id, g.status AS status, g.title AS title, g.description AS description,
+                   g.gatheringDate AS gatheringDate, l.placeName AS placeName, l.address AS address,
+                   l.latitude AS latitude, l.longitude AS longitude
+            FROM Gathering g
+            LEFT JOIN g.location l
+            WHERE g.status = :status
+            """)
+    List<GatheringSearchDocumentView> findSearchDocumentsByStatus(@Param("status") GatheringStatus status);
+
+    /**
+     * 여러 모임의 검색 색인용 정보 조회 (검색 색인 갱신용)
+     */
+    @Query("""
+            SELECT g.id AS id, g.status AS status, g.title AS title, g.description AS description,
+                   g.gatheringDate AS gatheringDate, l.placeName AS placeName, l.address AS address,
+                   l.latitude AS latitude, l.longitude AS longitude
+            FROM Gathering g
+            LEFT JOIN g.location l
+            WHERE g.id IN :ids
             """)
-    List<Gathering> findAllGatherings(@Param("status") GatheringStatus status, @Param("gatheringUserStatus") GatheringUserStatus gatheringUserStatus, @Param("userId") UUID userId);
+    List<GatheringSearchDocumentView> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 모임 조회 (주최자/장소 함께 로딩, 검색 결과 응답용)
+     */
+    @EntityGraph(Gathering.GRAPH_SUMMARY)
+    @Query("SELECT g FROM Gathering g WHERE g.id IN :ids")
+    List<Gathering> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * 특정 날짜 이후의 모임 목록 조회
      */
+    @EntityGraph(Gathering.GRAPH_SUMMARY)
     List<Gathering> findByGatheringDateAfter(LocalDateTime date);
     
     /**
@@ -63,6 +205,49 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long>, Jpa
      */
     @Query("SELECT g FROM Gathering g WHERE g.gatheringDate < :date AND g.status = :status")
     List<Gathering> findByGatheringDateBeforeAndStatus(@Param("date") LocalDateTime date, @Param("status") GatheringStatus status);
+
+    /**
+     * 특정 날짜 이전이면서 특정 상태인 모임 ID를 최대 limit 건까지 잠금 조회 (만료 처리 청크용)
+     * (status, gathering_date, id) 인덱스 순서로 읽고, 같은 트랜잭션에서 상태를 변경할 때까지 행을 잠근다
+     *
+     * @param status 모임 상태
+     * @param date 기준 일시
+     * @param limit 최대 조회 건수
+     * @return 모임 ID 목록
+     */
+    @Query(value = """
+            SELECT g.id FROM gathering g
+            WHERE g.status = :status AND g.gathering_date < :date
+            ORDER BY g.gathering_date, g.id
+            LIMIT :limit
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockIdsByGatheringDateBeforeAndStatus(
+            @Param("status") String status,
+            @Param("date") LocalDateTime date,
+            @Param("limit") int limit);
+
+    /**
+     * 여러 모임의 상태를 한번에 변경 (영속성 컨텍스트를 거치지 않는 일괄 UPDATE)
+     * 조회 이후 다른 요청으로 상태가 바뀐 모임은 변경하지 않는다
+     *
+     * @param gatheringIds 변경할 모임 ID 목록
+     * @param fromStatus 현재 상태
+     * @param toStatus 변경할 상태
+     * @param updatedAt 수정 시간
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("""
+            UPDATE Gathering g
+            SET g.status = :toStatus, g.updatedAt = :updatedAt
+            WHERE g.id IN :gatheringIds AND g.status = :fromStatus
+            """)
+    int updateStatusByIds(
+            @Param("gatheringIds") List<Long> gatheringIds,
+            @Param("fromStatus") GatheringStatus fromStatus,
+            @Param("toStatus") GatheringStatus toStatus,
+            @Param("updatedAt") LocalDateTime updatedAt);
     
     /**
      * 특정 날짜 범위 내이면서 특정 상태인 모임 목록 조회 (최소 인원 미달 자동 취소용)
@@ -74,30 +259,124 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long>, Jpa
             @Param("status") GatheringStatus status);
     
     /**
-     * 특정 날짜 범위 내이면서 승인된 참가자 수가 최소 인원보다 적은 모임 목록 조회 (최소 인원 미달 자동 취소용)
+     * 특정 날짜 범위 내이면서 승인된 참가자 수가 최소 인원보다 적은 모임 ID 목록 조회 (최소 인원 미달 자동 취소용)
+     * 비정규화된 approved_count 컬럼을 사용하므로 모임마다 COUNT 서브쿼리를 실행하지 않는다
      * 
      * @param startDate 시작 날짜
      * @param endDate 종료 날짜
      * @param status 모임 상태
-     * @param userStatus 참가자 상태 (APPROVED)
-     * @return 최소 인원 미달 모임 목록
+     * @return 최소 인원 미달 모임 ID 목록
      */
     @Query("""
-            SELECT DISTINCT g FROM Gathering g 
-            LEFT JOIN FETCH g.users gu 
-            WHERE g.gatheringDate BETWEEN :startDate AND :endDate 
-            AND g.status = :status 
-            AND g.minUsers > (
-                SELECT COUNT(gu2) FROM GatheringUser gu2 
-                WHERE gu2.gathering = g 
-                AND gu2.status = :userStatus
-            )
+            SELECT g.id FROM Gathering g
+            WHERE g.gatheringDate BETWEEN :startDate AND :endDate
+            AND g.status = :status
+            AND g.approvedCount < g.minUsers
             """)
-    List<Gathering> findGatheringsUnderMinUsers(
+    List<Long> findIdsUnderMinUsers(
             @Param("startDate") LocalDateTime startDate, 
             @Param("endDate") LocalDateTime endDate, 
-            @Param("status") GatheringStatus status,
-            @Param("userStatus") GatheringUserStatus userStatus);
+            @Param("status") GatheringStatus status);
+
+    /**
+     * 모임을 쓰기 잠금으로 조회 (최소 인원 미달 자동 취소용)
+     * 참가 승인의 카운터 UPDATE 와 같은 행 잠금을 사용하므로, 잠금을 얻은 뒤 읽은 참가자 수는 최신 커밋 값이다
+     *
+     * @param gatheringId 모임 ID
+     * @return 모임
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Gathering g WHERE g.id = :gatheringId")
+    Optional<Gathering> findByIdForUpdate(@Param("gatheringId") Long gatheringId);
+
+    /**
+     * 승인/대기 참가자 수를 원자적으로 증감
+     *
+     * @param gatheringId 모임 ID
+     * @param approvedDelta 승인된 참가자 수 변화량
+     * @param pendingDelta 대기 중인 참가 신청 수 변화량
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Gathering g
+            SET g.approvedCount = g.approvedCount + :approvedDelta,
+                g.pendingCount = g.pendingCount + :pendingDelta
+            WHERE g.id = :gatheringId
+            """)
+    int adjustParticipantCounts(
+            @Param("gatheringId") Long gatheringId,
+            @Param("approvedDelta") int approvedDelta,
+            @Param("pendingDelta") int pendingDelta);
+
+    /**
+     * 정원이 남아 있는 경우에만 승인된 참가자 수를 1 증가 (참가 승인용)
+     * 정원 확인과 증가가 하나의 UPDATE 문으로 실행되므로 동시 승인으로 정원을 초과하지 않는다
+     *
+     * @param gatheringId 모임 ID
+     * @param pendingDelta 대기 중인 참가 신청 수 변화량 (대기 상태에서 승인되면 -1)
+     * @return 변경된 행 수 (정원이 찼으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Gathering g
+            SET g.approvedCount = g.approvedCount + 1,
+                g.pendingCount = g.pendingCount + :pendingDelta
+            WHERE g.id = :gatheringId
+            AND g.approvedCount < g.maxUsers
+            """)
+    int incrementApprovedCountIfNotFull(
+            @Param("gatheringId") Long gatheringId,
+            @Param("pendingDelta") int pendingDelta);
+
+    /**
+     * 승인/대기 참가자 수를 0으로 초기화 (모임 삭제/취소로 모든 참가자가 취소된 경우)
+     *
+     * @param gatheringId 모임 ID
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Gathering g SET g.approvedCount = 0, g.pendingCount = 0 WHERE g.id = :gatheringId")
+    int resetParticipantCounts(@Param("gatheringId") Long gatheringId);
+
+    /**
+     * 참가자 카운터가 실제 참가 상태와 어긋난 모임 ID 목록 조회 (카운터 보정 배치용)
+     *
+     * @param status 모임 상태
+     * @return 카운터 보정이 필요한 모임 ID 목록
+     */
+    @Query(value = """
+            SELECT g.id FROM gathering g
+            LEFT JOIN (
+                SELECT gu.gathering_id,
+                       SUM(gu.status = 'APPROVED') AS approved,
+                       SUM(gu.status = 'PENDING') AS pending
+                FROM gathering_user gu
+                GROUP BY gu.gathering_id
+            ) c ON c.gathering_id = g.id
+            WHERE g.status = :status
+            AND (g.approved_count <> COALESCE(c.approved, 0) OR g.pending_count <> COALESCE(c.pending, 0))
+            """, nativeQuery = true)
+    List<Long> findIdsWithParticipantCountDrift(@Param("status") String status);
+
+    /**
+     * 참가 상태를 다시 집계하여 참가자 카운터를 보정
+     *
+     * @param gatheringIds 보정할 모임 ID 목록
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("""
+            UPDATE Gathering g
+            SET g.approvedCount = (
+                    SELECT COUNT(gu) FROM GatheringUser gu
+                    WHERE gu.gathering = g AND gu.status = footoff.api.global.common.enums.GatheringUserStatus.APPROVED),
+                g.pendingCount = (
+                    SELECT COUNT(gu) FROM GatheringUser gu
+                    WHERE gu.gathering = g AND gu.status = footoff.api.global.common.enums.GatheringUserStatus.PENDING)
+            WHERE g.id IN :gatheringIds
+            """)
+    int recalculateParticipantCounts(@Param("gatheringIds") List<Long> gatheringIds);
     
     /**
      * 특정 사용자가 주최한 모임 목록 조회
@@ -122,25 +401,69 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long>, Jpa
     List<Gathering> findByTitleContaining(String keyword);
     
     /**
-     * 제목 또는 설명에 특정 키워드가 포함된 모임 목록 조회 (페이징 적용)
+     * 제목 또는 설명에 키워드가 포함된 모임 ID 조회 (관련도 순, 다음 페이지 여부만 확인)
+     * search_text 컬럼(제목/설명의 bigram)의 FULLTEXT 색인으로 키워드의 모든 bigram 을 포함하는 모임만 찾는다
+     *
+     * @param booleanQuery BOOLEAN MODE 검색식 ({@link footoff.api.domain.gathering.util.SearchTokenizer#toBooleanQuery})
      */
-    @Query("SELECT g FROM Gathering g WHERE LOWER(g.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(g.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Gathering> findByTitleOrDescriptionContaining(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = """
+            SELECT g.id AS gatheringId,
+                   MATCH(g.search_text) AGAINST(:booleanQuery IN BOOLEAN MODE) AS score
+            FROM gathering g
+            WHERE MATCH(g.search_text) AGAINST(:booleanQuery IN BOOLEAN MODE)
+            AND g.gathering_date > :after
+            ORDER BY score DESC, g.id DESC
+            """, nativeQuery = true)
+    Slice<GatheringKeywordMatchView> findIdsByKeyword(
+            @Param("booleanQuery") String booleanQuery,
+            @Param("after") LocalDateTime after,
+            Pageable pageable);
+
+    /**
+     * 검색 텍스트가 비어 있는 모임 조회 (기존 모임 검색 텍스트 채우기용, ID 순)
+     */
+    @Query("""
+            SELECT g.id AS id, g.title AS title, g.description AS description
+            FROM Gathering g
+            WHERE g.searchText = '' AND g.id > :afterId
+            ORDER BY g.id ASC
+            """)
+    List<GatheringSearchSourceView> findEmptySearchTextAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 모임의 검색 텍스트만 갱신 (수정 시간은 바꾸지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Gathering g SET g.searchText = :searchText WHERE g.id = :id")
+    int updateSearchText(@Param("id") Long id, @Param("searchText") String searchText);
     
     /**
-     * 특정 위치 반경 내의 모임 목록 조회 (페이징 적용)
-     * 
-     * Haversine 공식을 사용하여 거리 계산
-     * 6371 = 지구 반지름 (km)
-     */
-    @Query("SELECT g FROM Gathering g JOIN g.location l WHERE " +
-           "(6371 * acos(cos(radians(:latitude)) * cos(radians(l.latitude)) * " +
-           "cos(radians(l.longitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(l.latitude)))) <= :radius")
-    Page<Gathering> findByLocationWithinRadius(
-            @Param("latitude") Double latitude,
-            @Param("longitude") Double longitude,
-            @Param("radius") Double radiusInKm,
+     * 특정 위치 반경 내의 모임 ID 조회 (가까운 순, 페이징 적용)
+     * 1. 반경을 감싸는 사각형(MBR)으로 공간 인덱스에서 후보만 찾고
+     * 2. 후보에 대해서만 구면 거리를 계산해 반경 밖의 모임을 제외한다
+     * 좌표가 없는 장소(위도 NULL)는 제외하며, COUNT 쿼리는 실행하지 않는다
+     */
+    @Query(value = """
+            SELECT gl.gathering_id AS gatheringId,
+                   ST_Distance_Sphere(gl.coordinates, POINT(:longitude, :latitude), 6371000) AS distance
+            FROM gathering_location gl
+            JOIN gathering g ON g.id = gl.gathering_id
+            WHERE MBRContains(ENVELOPE(LINESTRING(POINT(:minLongitude, :minLatitude), POINT(:maxLongitude, :maxLatitude))),
+                              gl.coordinates)
+            AND gl.latitude IS NOT NULL
+            AND ST_Distance_Sphere(gl.coordinates, POINT(:longitude, :latitude), 6371000) <= :radiusMeters
+            AND g.gathering_date > :after
+            ORDER BY distance ASC, gl.gathering_id ASC
+            """, nativeQuery = true)
+    List<GatheringDistanceView> findIdsWithinRadius(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("radiusMeters") double radiusMeters,
+            @Param("minLatitude") double minLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("after") LocalDateTime after,
             Pageable pageable);
     
     /**
@@ -153,7 +476,6 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long>, Jpa
     /**
      * 참가 가능한(최대 인원에 도달하지 않은) 모임 목록 조회 (페이징 적용)
      */
-    @Query("SELECT g FROM Gathering g WHERE " +
-           "(SELECT COUNT(gu) FROM GatheringUser gu WHERE gu.gathering = g AND gu.status = 'APPROVED') < g.maxUsers")
+    @Query("SELECT g FROM Gathering g WHERE g.approvedCount < g.maxUsers")
     Page<Gathering> findAvailableGatherings(Pageable pageable);
 } 
@@ -1,9 +1,11 @@
 package footoff.api.domain.gathering.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Repository;
 import footoff.api.domain.gathering.dto.GatheringUserDto;
 import footoff.api.domain.gathering.entity.Gathering;
 import footoff.api.domain.gathering.entity.GatheringUser;
+import footoff.api.domain.gathering.repository.projection.GatheringParticipantView;
 import footoff.api.domain.user.entity.User;
 import footoff.api.global.common.enums.GatheringUserStatus;
 import footoff.api.global.common.enums.GatheringStatus;
@@ -28,9 +31,27 @@ public interface GatheringUserRepository extends JpaRepository<GatheringUser, Lo
      * @param gathering 조회할 모임
      * @return 모임 참가자 목록
      */
-    @Query("SELECT gu FROM GatheringUser gu JOIN FETCH gu.user WHERE gu.gathering = :gathering")
+    @EntityGraph(GatheringUser.GRAPH_USER_PROFILE)
+    @Query("SELECT gu FROM GatheringUser gu WHERE gu.gathering = :gathering")
     List<GatheringUser> findByGathering(@Param("gathering") Gathering gathering);
     
+    /**
+     * 여러 모임의 참가자 정보를 프로젝션으로 한번에 조회 (목록 조회용)
+     * 사용자/프로필 엔티티를 로딩하지 않고 필요한 컬럼만 조회한다
+     *
+     * @param gatheringIds 조회할 모임 ID 목록
+     * @return 모임별 참가자 정보
+     */
+    @Query("""
+            SELECT gu.gathering.id AS gatheringId, u.id AS userId, gu.status AS status, gu.role AS role,
+                   p.nickname AS nickname, p.profileImage AS profileImage
+            FROM GatheringUser gu
+            JOIN gu.user u
+            LEFT JOIN UserProfile p ON p.user = u
+            WHERE gu.gathering.id IN :gatheringIds
+            """)
+    List<GatheringParticipantView> findParticipantViewsByGatheringIds(@Param("gatheringIds") Collection<Long> gatheringIds);
+
     /**
      * 특정 사용자가 참가한 모든 모임 정보를 조회 (연관관계 미리 로딩)
      * 
@@ -63,7 +84,8 @@ public interface GatheringUserRepository extends JpaRepository<GatheringUser, Lo
      * @param status 조회할 참가 상태
      * @return 해당 상태의 참가자 목록
      */
-    @Query("SELECT gu FROM GatheringUser gu JOIN FETCH gu.user WHERE gu.gathering = :gathering AND gu.status = :status")
+    @EntityGraph(GatheringUser.GRAPH_GATHERING_AND_USER)
+    @Query("SELECT gu FROM GatheringUser gu WHERE gu.gathering = :gathering AND gu.status = :status")
     List<GatheringUser> findByGatheringAndStatus(@Param("gathering") Gathering gathering, @Param("status") GatheringUserStatus status);
     
     /**
@@ -73,6 +95,7 @@ public interface GatheringUserRepository extends JpaRepository<GatheringUser, Lo
      * @param user 조회할 사용자
      * @return 해당 사용자의 모임 참가 정보
      */
+    @EntityGraph(GatheringUser.GRAPH_GATHERING_AND_USER)
     Optional<GatheringUser> findByGatheringAndUser(Gathering gathering, User user);
     
     /**
@@ -115,8 +138,9 @@ public interface GatheringUserRepository extends JpaRepository<GatheringUser, Lo
 	 * @param userId 사용자 ID
 	 * @return 사용자 참여 모임 정보 (삭제되지 않은 모임)
 	 */
+	@EntityGraph(GatheringUser.GRAPH_GATHERING_AND_USER)
 	@Query("SELECT gu FROM GatheringUser gu " +
-		   "JOIN FETCH gu.gathering g " +
+		   "JOIN gu.gathering g " +
 		   "WHERE gu.user.id = :userId " +
 		   "AND gu.role = 'PARTICIPANT' " +
 		   "AND g.status != 'DELETED'")
@@ -0,0 +1,13 @@
+package footoff.api.domain.gathering.repository.projection;
+
+/**
+ * 위치 기반 검색 결과 프로젝션
+ * 반경 안에 있는 모임 ID와 검색 중심으로부터의 거리만 조회한다
+ */
+public interface GatheringDistanceView {
+
+    Long getGatheringId();
+
+    /** 검색 중심으로부터의 거리 (m) */
+    Double getDistance();
+}
@@ -0,0 +1,12 @@
+package footoff.api.domain.gathering.repository.projection;
+
+/**
+ * 키워드 검색 결과 프로젝션
+ * 검색어와 일치하는 모임 ID와 관련도 점수만 조회한다
+ */
+public interface GatheringKeywordMatchView {
+
+    Long getGatheringId();
+
+    Double getScore();
+}
@@ -0,0 +1,25 @@
+package footoff.api.domain.gathering.repository.projection;
+
+import java.util.UUID;
+
+import footoff.api.global.common.enums.GatheringUserRole;
+import footoff.api.global.common.enums.GatheringUserStatus;
+
+/**
+ * 목록 조회용 모임 참가자 프로젝션
+ * 참가자의 사용자/프로필 엔티티를 로딩하지 않고 화면에 필요한 값만 조회한다
+ */
+public interface GatheringParticipantView {
+
+    Long getGatheringId();
+
+    UUID getUserId();
+
+    GatheringUserStatus getStatus();
+
+    GatheringUserRole getRole();
+
+    String getNickname();
+
+    String getProfileImage();
+}
@@ -0,0 +1,18 @@
+package footoff.api.domain.gathering.repository.projection;
+
+import footoff.api.global.common.enums.GatheringStatus;
+
+/**
+ * 위치 색인용 모임 좌표 프로젝션
+ * 모임 상태와 장소 좌표만 조회한다
+ */
+public interface GatheringPointView {
+
+    Long getId();
+
+    GatheringStatus getStatus();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
@@ -0,0 +1,30 @@
+package footoff.api.domain.gathering.repository.projection;
+
+import java.time.LocalDateTime;
+
+import footoff.api.global.common.enums.GatheringStatus;
+
+/**
+ * 검색 색인용 모임 프로젝션
+ * 색인할 텍스트(제목, 설명, 장소명, 주소)와 검색 조건에 쓰는 모임 일시, 좌표만 조회한다
+ */
+public interface GatheringSearchDocumentView {
+
+    Long getId();
+
+    GatheringStatus getStatus();
+
+    String getTitle();
+
+    String getDescription();
+
+    LocalDateTime getGatheringDate();
+
+    String getPlaceName();
+
+    String getAddress();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
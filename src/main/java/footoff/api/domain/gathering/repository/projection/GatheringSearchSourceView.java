@@ -0,0 +1,14 @@
+package footoff.api.domain.gathering.repository.projection;
+
+/**
+ * 검색 텍스트 생성용 프로젝션
+ * 검색 텍스트의 원본인 제목과 설명만 조회한다
+ */
+public interface GatheringSearchSourceView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+}
@@ -0,0 +1,43 @@
+package footoff.api.domain.gathering.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import footoff.api.global.common.enums.GatheringStatus;
+
+/**
+ * 목록 조회용 모임 요약 프로젝션
+ * 목록 DTO에 필요한 컬럼만 조회하여 엔티티 로딩과 연관 객체 지연 로딩을 피한다
+ */
+public interface GatheringSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getAddress();
+
+    LocalDateTime getGatheringDate();
+
+    Integer getMinUsers();
+
+    Integer getMaxUsers();
+
+    Integer getFee();
+
+    GatheringStatus getStatus();
+
+    UUID getOrganizerId();
+
+    String getOrganizerEmail();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    int getApprovedCount();
+
+    int getPendingCount();
+}
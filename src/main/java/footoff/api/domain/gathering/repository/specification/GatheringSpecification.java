@@ -5,8 +5,6 @@ import java.time.LocalDateTime;
 import org.springframework.data.jpa.domain.Specification;
 
 import footoff.api.domain.gathering.entity.Gathering;
-import footoff.api.domain.gathering.entity.GatheringLocation;
-import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
@@ -16,22 +14,6 @@ import jakarta.persistence.criteria.Subquery;
  */
 public class GatheringSpecification {
     
-    /**
-     * 제목 또는 설명에 키워드가 포함된 모임 조회 Specification
-     * 
-     * @param keyword 검색 키워드
-     * @return 검색 조건 Specification
-     */
-    public static Specification<Gathering> titleOrDescriptionContains(String keyword) {
-        return (root, query, criteriaBuilder) -> {
-            String pattern = "%" + keyword.toLowerCase() + "%";
-            return criteriaBuilder.or(
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), pattern),
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), pattern)
-            );
-        };
-    }
-    
     /**
      * 특정 날짜 이후의 모임 조회 Specification
      * 
@@ -55,38 +37,6 @@ public class GatheringSpecification {
             criteriaBuilder.between(root.get("gatheringDate"), startDate, endDate);
     }
     
-    /**
-     * 특정 위치 반경 내의 모임 조회 Specification
-     * 
-     * @param latitude 위도
-     * @param longitude 경도
-     * @param radiusInKm 반경 (km)
-     * @return 검색 조건 Specification
-     */
-    public static Specification<Gathering> locationWithinRadius(Double latitude, Double longitude, Double radiusInKm) {
-        return (root, query, criteriaBuilder) -> {
-            if (latitude == null || longitude == null) {
-                return criteriaBuilder.conjunction();
-            }
-
-            // GatheringLocation과 조인
-            Join<Gathering, GatheringLocation> locationJoin = root.join("location");
-            
-            // Haversine 공식을 사용하여 거리 계산 (MySQL 기준)
-            // 6371 = 지구 반지름 (km)
-            String distanceFormula = 
-                    "6371 * acos(cos(radians(" + latitude + ")) * cos(radians(latitude)) * " + 
-                    "cos(radians(longitude) - radians(" + longitude + ")) + " + 
-                    "sin(radians(" + latitude + ")) * sin(radians(latitude)))";
-            
-            return criteriaBuilder.lessThanOrEqualTo(
-                    criteriaBuilder.function("", Double.class, 
-                            criteriaBuilder.literal(distanceFormula)),
-                    radiusInKm
-            );
-        };
-    }
-    
     /**
      * 승인된 참가자 수가 최소 인원 이상인 모임 조회 Specification
      * 
@@ -94,21 +44,8 @@ public class GatheringSpecification {
      * @return 검색 조건 Specification
      */
     public static Specification<Gathering> approvedUsersCountGreaterThan(int minUsers) {
-        return (root, query, criteriaBuilder) -> {
-            // 중복 카운트를 방지하기 위해 distinct 설정
-            query.distinct(true);
-            
-            // 승인된 참가자 수를 카운트하는 서브쿼리
-            Subquery<Long> subquery = query.subquery(Long.class);
-            Root<Gathering> subRoot = subquery.from(Gathering.class);
-            subquery.select(criteriaBuilder.count(subRoot.get("users")));
-            subquery.where(
-                    criteriaBuilder.equal(subRoot.get("id"), root.get("id")),
-                    criteriaBuilder.equal(subRoot.join("users").get("status"), "APPROVED")
-            );
-            
-            return criteriaBuilder.greaterThanOrEqualTo(subquery, (long) minUsers);
-        };
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.greaterThanOrEqualTo(root.get("approvedCount"), minUsers);
     }
     
     /**
@@ -117,21 +54,8 @@ public class GatheringSpecification {
      * @return 검색 조건 Specification
      */
     public static Specification<Gathering> hasAvailableSpots() {
-        return (root, query, criteriaBuilder) -> {
-            // 중복 카운트를 방지하기 위해 distinct 설정
-            query.distinct(true);
-            
-            // 승인된 참가자 수를 카운트하는 서브쿼리
-            Subquery<Long> subquery = query.subquery(Long.class);
-            Root<Gathering> subRoot = subquery.from(Gathering.class);
-            subquery.select(criteriaBuilder.count(subRoot.get("users")));
-            subquery.where(
-                    criteriaBuilder.equal(subRoot.get("id"), root.get("id")),
-                    criteriaBuilder.equal(subRoot.join("users").get("status"), "APPROVED")
-            );
-            
-            return criteriaBuilder.lessThan(subquery, root.get("maxUsers"));
-        };
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.lessThan(root.get("approvedCount"), root.get("maxUsers"));
     }
     
     /**
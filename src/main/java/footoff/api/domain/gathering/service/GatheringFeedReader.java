@@ -0,0 +1,45 @@
+package footoff.api.domain.gathering.service;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import footoff.api.domain.gathering.dto.GatheringUsersWithStatusDto;
+import footoff.api.domain.gathering.repository.GatheringRepository;
+import footoff.api.domain.gathering.repository.projection.GatheringSummaryView;
+import footoff.api.global.common.enums.GatheringStatus;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모든 사용자가 공유하는 홈 피드 조회 컴포넌트
+ * 차단 필터링 전의 모집중 모임 목록을 캐시 항목 하나로 보관한다
+ * 사용자별 차단 필터는 호출하는 쪽에서 요청마다 적용한다
+ */
+@Component
+@RequiredArgsConstructor
+public class GatheringFeedReader {
+
+    public static final String FEED_CACHE = "gatheringsCache";
+    public static final String FEED_CACHE_KEY = "feed";
+    public static final String FEED_KEY = "'" + FEED_CACHE_KEY + "'";
+
+    private final GatheringRepository gatheringRepository;
+    private final GatheringSummaryAssembler gatheringSummaryAssembler;
+
+    /**
+     * 차단 필터링 전의 모집중 모임 목록을 조회하는 메소드
+     * 반환된 목록은 캐시된 공유 객체이므로 변경할 수 없다
+     * 캐시 미적중 시 동시 요청 중 하나만 DB에서 다시 적재한다
+     *
+     * @return 모임 날짜순으로 정렬된 모집중 모임 목록
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = FEED_CACHE, key = FEED_KEY, sync = true)
+    public List<GatheringUsersWithStatusDto> getSharedFeed() {
+        List<GatheringSummaryView> gatherings = gatheringRepository.findRecruitmentFeed(GatheringStatus.RECRUITMENT);
+        return Collections.unmodifiableList(gatheringSummaryAssembler.withParticipants(gatherings));
+    }
+}
@@ -1,71 +1,185 @@
-//package footoff.api.domain.gathering.service;
-//
-//import java.time.LocalDateTime;
-//import java.util.ArrayList;
-//import java.util.List;
-//import java.util.stream.Collectors;
-//
-//import org.springframework.data.domain.PageRequest;
-//import org.springframework.data.domain.Pageable;
-//import org.springframework.data.jpa.domain.Specification;
-//import org.springframework.stereotype.Service;
-//import org.springframework.transaction.annotation.Transactional;
-//
-//import footoff.api.domain.gathering.dto.GatheringDto;
-//import footoff.api.domain.gathering.entity.Gathering;
-//import footoff.api.domain.gathering.entity.GatheringLocation;
-//import footoff.api.domain.gathering.repository.GatheringRepository;
-//import footoff.api.domain.gathering.repository.specification.GatheringSpecification;
-//import lombok.RequiredArgsConstructor;
-//
-//@Service
-//@RequiredArgsConstructor
-//public class GatheringSearchServiceImpl implements GatheringSearchService {
-//
-//    private final GatheringRepository gatheringRepository;
-//
-//    @Override
-//    @Transactional(readOnly = true)
-//    public List<GatheringDto> searchByKeyword(String keyword, int page, int size) {
-//        Pageable pageable = PageRequest.of(page, size);
-//
-//        Specification<Gathering> spec = Specification.where(null);
-//
-//        // 키워드 검색 조건 추가
-//        if (keyword != null && !keyword.trim().isEmpty()) {
-//            spec = spec.and(GatheringSpecification.titleOrDescriptionContains(keyword));
-//        }
-//
-//        // 현재 시간 이후의 모임만 검색
-//        spec = spec.and(GatheringSpecification.gatheringDateAfter(LocalDateTime.now()));
-//
-//        return gatheringRepository.findAll(spec, pageable).stream()
-//                .map(GatheringDto::fromEntity)
-//                .collect(Collectors.toList());
-//    }
-//
-//    @Override
-//    @Transactional(readOnly = true)
-//    public List<GatheringDto> searchByLocation(Double latitude, Double longitude, Double radius, int page, int size) {
-//        if (latitude == null || longitude == null) {
-//            return new ArrayList<>();
-//        }
-//
-//        Pageable pageable = PageRequest.of(page, size);
-//
-//        Specification<Gathering> spec = Specification.where(null);
-//
-//        // 위치 기반 검색 조건 추가
-//        spec = spec.and(GatheringSpecification.locationWithinRadius(latitude, longitude, radius));
-//
-//        // 현재 시간 이후의 모임만 검색
-//        spec = spec.and(GatheringSpecification.gatheringDateAfter(LocalDateTime.now()));
-//
-//        return gatheringRepository.findAll(spec, pageable).stream()
-//                .map(GatheringDto::fromEntity)
-//                .collect(Collectors.toList());
-//    }
-//
+package footoff.api.domain.gathering.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import footoff.api.domain.gathering.component.GatheringGeoIndex;
+import footoff.api.domain.gathering.component.GatheringSearchIndex;
+import footoff.api.domain.gathering.dto.GatheringDto;
+import footoff.api.domain.gathering.entity.Gathering;
+import footoff.api.domain.gathering.repository.GatheringRepository;
+import footoff.api.domain.gathering.repository.projection.GatheringDistanceView;
+import footoff.api.domain.gathering.repository.projection.GatheringKeywordMatchView;
+import footoff.api.domain.gathering.util.GeoUtil;
+import footoff.api.domain.gathering.util.SearchTokenizer;
+import footoff.api.global.common.dto.SliceResponseDto;
+import footoff.api.global.exception.InvalidOperationException;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class GatheringSearchServiceImpl implements GatheringSearchService {
+
+    /** 위치 검색 최대 반경 (km) */
+    private static final double MAX_RADIUS_KM = 50.0;
+
+    /** 한 번에 조회할 수 있는 최대 모임 수 */
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final GatheringRepository gatheringRepository;
+    private final GatheringGeoIndex gatheringGeoIndex;
+    private final GatheringSearchIndex gatheringSearchIndex;
+
+    /**
+     * 키워드 모임 검색
+     * FULLTEXT 색인으로 키워드의 모든 bigram 을 포함하는 모임 ID를 관련도 순으로 찾은 뒤 해당 모임만 조회한다
+     * 전체 개수를 세지 않으므로 설명이 쌓여도 한 페이지 조회 비용이 일정하다
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDto<GatheringDto> searchByKeyword(String keyword, int page, int size) {
+        String booleanQuery = SearchTokenizer.toBooleanQuery(keyword);
+        if (booleanQuery.isEmpty()) {
+            throw new InvalidOperationException("검색어는 공백 없이 두 글자 이상 입력해야 합니다.");
+        }
+        int pageSize = validatePage(page, size);
+
+        // 현재 시간 이후의 모임만 검색
+        Slice<GatheringKeywordMatchView> matches = gatheringRepository.findIdsByKeyword(
+                booleanQuery, LocalDateTime.now(), PageRequest.of(page, pageSize));
+
+        List<GatheringDto> gatherings = matches.isEmpty()
+                ? new ArrayList<>()
+                : loadInOrder(matches.getContent().stream().map(GatheringKeywordMatchView::getGatheringId).toList());
+        return SliceResponseDto.<GatheringDto>builder()
+                .content(gatherings)
+                .page(page)
+                .size(pageSize)
+                .hasNext(matches.hasNext())
+                .build();
+    }
+
+    /**
+     * 위치 기반 모임 검색
+     * 공간 인덱스로 반경 안의 모임 ID를 가까운 순으로 한 페이지만 찾은 뒤, 해당 모임만 주최자/장소와 함께 조회한다
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<GatheringDto> searchByLocation(Double latitude, Double longitude, Double radius, int page, int size) {
+        if (latitude == null || longitude == null) {
+            return new ArrayList<>();
+        }
+        validateLocation(latitude, longitude, radius);
+        int pageSize = validatePage(page, size);
+
+        // 현재 시간 이후의 모임만 검색
+        GeoUtil.BoundingBox box = GeoUtil.boundingBox(latitude, longitude, radius);
+        List<GatheringDistanceView> nearby = gatheringRepository.findIdsWithinRadius(
+                latitude, longitude, radius * 1000,
+                box.minLatitude(), box.minLongitude(), box.maxLatitude(), box.maxLongitude(),
+                LocalDateTime.now(), PageRequest.of(page, pageSize));
+        if (nearby.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return loadInOrder(nearby.stream().map(GatheringDistanceView::getGatheringId).toList());
+    }
+
+    /**
+     * 주변 모집중인 모임 검색
+     * 가까운 모임 ID는 메모리 위치 색인에서 찾고, 응답에 필요한 모임 정보만 ID로 조회한다
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<GatheringDto> searchRecruitingNearby(Double latitude, Double longitude, Double radius, int size) {
+        if (latitude == null || longitude == null) {
+            return new ArrayList<>();
+        }
+        validateLocation(latitude, longitude, radius);
+        int pageSize = validatePage(0, size);
+
+        List<GatheringGeoIndex.Hit> nearby = gatheringGeoIndex.nearest(latitude, longitude, pageSize, radius);
+        if (nearby.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return loadInOrder(nearby.stream().map(GatheringGeoIndex.Hit::gatheringId).toList());
+    }
+
+    /**
+     * 통합 검색 (키워드, 위치, 날짜 범위 조합)
+     * 메모리 검색 색인에서 키워드 게시 목록과 날짜/반경 조건을 함께 적용해 모임 ID를 정렬하고, 요청한 페이지의 모임만 조회한다
+     * 키워드가 있으면 관련도 순, 없으면 위치 조건이 있을 때 가까운 순, 그 외에는 모임 일시 순으로 정렬한다
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<GatheringDto> search(String keyword, Double latitude, Double longitude, Double radius,
+                                     LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
+        if (latitude != null && longitude != null) {
+            validateLocation(latitude, longitude, radius);
+        }
+        int pageSize = validatePage(page, size);
+        long offset = PageRequest.of(page, pageSize).getOffset();
+
+        // 날짜 범위가 지정되지 않은 경우 현재 시간 이후의 모임만 검색
+        List<GatheringSearchIndex.Hit> hits = gatheringSearchIndex.search(new GatheringSearchIndex.Query(
+                keyword, latitude, longitude, radius, startDate, endDate, LocalDateTime.now()));
+        if (offset >= hits.size()) {
+            return new ArrayList<>();
+        }
+
+        return loadInOrder(hits.subList((int) offset, (int) Math.min(hits.size(), offset + pageSize)).stream()
+                .map(GatheringSearchIndex.Hit::gatheringId)
+                .toList());
+    }
+
+    /**
+     * 모임 ID 목록의 모임을 조회하여 주어진 순서대로 반환하는 메서드
+     */
+    private List<GatheringDto> loadInOrder(List<Long> gatheringIds) {
+        Map<Long, Gathering> gatherings = gatheringRepository.findSummariesByIdIn(gatheringIds).stream()
+                .collect(Collectors.toMap(Gathering::getId, Function.identity()));
+
+        return gatheringIds.stream()
+                .map(gatherings::get)
+                .filter(Objects::nonNull)
+                .map(GatheringDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 페이지 번호와 크기를 검증하고 최대 크기를 넘는 요청은 최대 크기로 줄이는 메서드
+     *
+     * @return 실제 조회할 페이지 크기
+     */
+    private static int validatePage(int page, int size) {
+        if (page < 0) {
+            throw new InvalidOperationException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (size < 1) {
+            throw new InvalidOperationException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private static void validateLocation(Double latitude, Double longitude, Double radius) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new InvalidOperationException("위도는 -90~90, 경도는 -180~180 범위여야 합니다.");
+        }
+        if (radius == null || radius <= 0 || radius > MAX_RADIUS_KM) {
+            throw new InvalidOperationException("검색 반경은 0km 초과 " + MAX_RADIUS_KM + "km 이하여야 합니다.");
+        }
+    }
+
 //    @Override
 //    @Transactional(readOnly = true)
 //    public List<GatheringDto> searchByDateRange(LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
@@ -85,34 +199,4 @@
 //                .collect(Collectors.toList());
 //    }
 //
-//    @Override
-//    @Transactional(readOnly = true)
-//    public List<GatheringDto> search(String keyword, Double latitude, Double longitude, Double radius,
-//                                    LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
-//        Pageable pageable = PageRequest.of(page, size);
-//
-//        Specification<Gathering> spec = Specification.where(null);
-//
-//        // 키워드 검색 조건 추가
-//        if (keyword != null && !keyword.trim().isEmpty()) {
-//            spec = spec.and(GatheringSpecification.titleOrDescriptionContains(keyword));
-//        }
-//
-//        // 위치 기반 검색 조건 추가
-//        if (latitude != null && longitude != null && radius != null) {
-//            spec = spec.and(GatheringSpecification.locationWithinRadius(latitude, longitude, radius));
-//        }
-//
-//        // 날짜 범위 검색 조건 추가
-//        if (startDate != null && endDate != null) {
-//            spec = spec.and(GatheringSpecification.gatheringDateBetween(startDate, endDate));
-//        } else {
-//            // 시작 날짜/종료 날짜가 지정되지 않은 경우, 현재 시간 이후의 모임만 검색
-//            spec = spec.and(GatheringSpecification.gatheringDateAfter(LocalDateTime.now()));
-//        }
-//
-//        return gatheringRepository.findAll(spec, pageable).stream()
-//                .map(GatheringDto::fromEntity)
-//                .collect(Collectors.toList());
-//    }
-//}
\ No newline at end of file
+}
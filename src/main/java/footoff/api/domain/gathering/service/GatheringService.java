@@ -68,6 +68,17 @@ public interface GatheringService {
      * @return 모임 목록
      */
     List<GatheringUsersWithStatusDto> getAllGatherings(UUID userId);
+
+    /**
+     * 홈 피드를 커서 기반(키셋)으로 페이지 단위 조회하는 메소드
+     *
+     * @param userId 현재 사용자 ID (차단한 사용자 필터링용)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 50)
+     * @return 한 페이지 분량의 모임 목록과 다음 커서
+     * @throws InvalidOperationException 커서 형식이 올바르지 않은 경우
+     */
+    GatheringFeedResponseDto getGatheringFeed(UUID userId, String cursor, int size);
     
     /**
      * 현재 시간 이후의 모임을 조회하는 메소드
@@ -110,20 +121,24 @@ public interface GatheringService {
      * 
      * @param gatheringId 모임 ID
      * @param userId 사용자 ID
+     * @param requesterId 요청한 사용자 ID (모임 주최자여야 함)
      * @return 승인된 gathering 정보
      * @throws EntityNotFoundException 해당 gathering을 찾을 수 없는 경우
+     * @throws InvalidOperationException 모임 주최자가 아닌 경우
      */
-    GatheringUserDto approveUser(Long gatheringId, UUID userId);
+    GatheringUserDto approveUser(Long gatheringId, UUID userId, UUID requesterId);
     
     /**
      * 모임 참가 신청을 거부하는 메소드
      * 
      * @param gatheringId 모임 ID
      * @param userId 사용자 ID
+     * @param requesterId 요청한 사용자 ID (모임 주최자여야 함)
      * @return 거부된 gathering 정보
      * @throws EntityNotFoundException 해당 gathering을 찾을 수 없는 경우
+     * @throws InvalidOperationException 모임 주최자가 아닌 경우
      */
-    GatheringUserDto rejectUser(Long gatheringId, UUID userId);
+    GatheringUserDto rejectUser(Long gatheringId, UUID userId, UUID requesterId);
     
     /**
      * 모임 참가를 취소하는 메소드 (참가 신청 전 상태)
@@ -149,10 +164,11 @@ public interface GatheringService {
      * 모임의 user 목록을 조회하는 메소드
      * 
      * @param gatheringId 모임 ID
+     * @param userId 현재 사용자 ID (차단 관계에 있는 참가자를 제외하기 위함, null 허용)
      * @return 모임 user 목록
      * @throws EntityNotFoundException 해당 모임을 찾을 수 없는 경우
      */
-    List<GatheringUserDto> getGatheringUsers(Long gatheringId);
+    List<GatheringUserDto> getGatheringUsers(Long gatheringId, UUID userId);
     
     /**
      * 시스템에 의해 모임을 취소하는 메소드 (최소 인원 미달 등의 자동 취소 조건)
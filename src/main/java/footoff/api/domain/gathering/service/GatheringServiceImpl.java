@@ -11,17 +11,20 @@ import java.util.Optional;
 
 import footoff.api.domain.gathering.dto.*;
 import footoff.api.domain.gathering.entity.GatheringLocation;
+import footoff.api.domain.gathering.event.GatheringChangedEvent;
 import footoff.api.global.common.enums.GatheringStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 
 import footoff.api.domain.gathering.entity.Gathering;
 import footoff.api.domain.gathering.entity.GatheringUser;
 import footoff.api.domain.gathering.repository.GatheringUserRepository;
 import footoff.api.domain.gathering.repository.GatheringRepository;
+import footoff.api.domain.gathering.repository.projection.GatheringSummaryView;
 import footoff.api.domain.user.entity.User;
 import footoff.api.domain.user.repository.UserRepository;
 import footoff.api.global.common.enums.GatheringUserStatus;
@@ -30,10 +33,10 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import footoff.api.global.exception.InvalidOperationException;
 import footoff.api.global.validator.GatheringValidator;
-import footoff.api.global.common.component.DiscordNotifier;
+import footoff.api.global.common.service.NotificationOutboxService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import footoff.api.domain.user.repository.BlockRepository;
+import footoff.api.domain.user.component.BlockGraph;
 
 /**
  * 모임 관련 서비스 구현체
@@ -45,10 +48,18 @@ public class GatheringServiceImpl implements GatheringService {
     private final GatheringRepository gatheringRepository;
     private final GatheringUserRepository gatheringUserRepository;
     private final UserRepository userRepository;
-    private final DiscordNotifier discordNotifier;
-    private final BlockRepository blockRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final BlockGraph blockGraph;
+    private final GatheringFeedReader gatheringFeedReader;
+    private final GatheringSummaryAssembler gatheringSummaryAssembler;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Logger log = LoggerFactory.getLogger(GatheringServiceImpl.class);
 
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 50;
+    /** 한 번의 피드 요청에서 조회할 최대 구간 수 (차단된 모임이 몰려 있어도 요청당 조회량을 제한) */
+    private static final int MAX_FEED_BATCHES = 3;
+
     /**
      * 새로운 모임을 생성하는 메소드
      *
@@ -59,7 +70,6 @@ public class GatheringServiceImpl implements GatheringService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = {"gatheringsCache", "upcomingGatheringsCache"}, allEntries = true)
     public GatheringDto createGathering(GatheringRequestDto requestDto, UUID organizerId) {
         User organizer = userRepository.findById(organizerId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + organizerId));
@@ -75,6 +85,9 @@ public class GatheringServiceImpl implements GatheringService {
                 .status(GatheringStatus.RECRUITMENT)
                 .build();
 
+        // 주최자는 승인된 참가자로 자동 추가되므로 승인 인원 1명으로 시작
+        gathering.applyParticipantCountDelta(1, 0);
+
         Gathering savedGathering = gatheringRepository.save(gathering);
 
         if (requestDto.getLocation() != null) {
@@ -99,6 +112,8 @@ public class GatheringServiceImpl implements GatheringService {
 
         savedGathering.addUser(gatheringUser);
 
+        eventPublisher.publishEvent(GatheringChangedEvent.of(savedGathering.getId(), organizerId));
+
         return GatheringDto.fromEntity(savedGathering);
     }
 
@@ -112,31 +127,104 @@ public class GatheringServiceImpl implements GatheringService {
     @Override
     @Transactional(readOnly = true)
     public GatheringDto getGathering(Long id) {
-        Gathering gathering = gatheringRepository.findById(id)
+        Gathering gathering = gatheringRepository.findSummaryById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + id));
         return GatheringDto.fromEntity(gathering);
     }
 
     /**
      * 모집중인 모든 모임을 조회하는 메소드 (성능 최적화)
+     * 모든 사용자가 공유하는 피드 캐시에서 차단 관계에 있는 주최자의 모임만 요청마다 제외한다 (메모리 차단 관계 그래프 사용)
      *
      * @param userId 현재 사용자 ID (차단한 모임 주최자의 모임을 필터링하기 위함)
      * @return 모집중인 모임 목록 조회 (차단된 사용자가 주최한 모임은 제외)
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "gatheringsCache", key = "#userId", condition = "#userId != null", unless = "#result.isEmpty()")
     public List<GatheringUsersWithStatusDto> getAllGatherings(UUID userId) {
-        List<Gathering> gatherings = gatheringRepository.findAllGatherings(GatheringStatus.RECRUITMENT, GatheringUserStatus.APPROVED, userId);
-        List<GatheringUsersWithStatusDto> result = new ArrayList<>(gatherings.size());
-        
-        for (Gathering gathering : gatherings) {
-            result.add(GatheringUsersWithStatusDto.fromEntity(gathering));
+        List<GatheringUsersWithStatusDto> feed = gatheringFeedReader.getSharedFeed();
+        if (userId == null) {
+            return feed;
         }
-        
+
+        BlockGraph.HiddenUsers hidden = blockGraph.hiddenFor(userId);
+        if (hidden.isEmpty()) {
+            return feed;
+        }
+
+        List<GatheringUsersWithStatusDto> result = new ArrayList<>(feed.size());
+        for (GatheringUsersWithStatusDto gathering : feed) {
+            if (!hidden.contains(gathering.getOrganizerId())) {
+                result.add(gathering);
+            }
+        }
+
         return result;
     }
 
+    /**
+     * 홈 피드를 커서 기반(키셋)으로 페이지 단위 조회하는 메소드
+     * (gathering_date, id) 순서로 size + 1 건을 조회하여 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 필요 없다
+     * 차단 관계에 있는 주최자의 모임은 메모리 차단 관계 그래프로 제외하고, 제외된 만큼 다음 구간을 이어서 조회한다
+     * 구간 조회는 요청당 최대 3회로 제한하며, 그 안에 페이지를 채우지 못하면 size 보다 짧은 페이지와 다음 커서를 반환한다
+     *
+     * @param userId 현재 사용자 ID (차단한 모임 주최자의 모임을 필터링하기 위함)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 50, 범위를 벗어나면 보정)
+     * @return 한 페이지 분량의 모임 목록과 다음 커서
+     * @throws InvalidOperationException 커서 형식이 올바르지 않은 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public GatheringFeedResponseDto getGatheringFeed(UUID userId, String cursor, int size) {
+        int pageSize = size <= 0 ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        BlockGraph.HiddenUsers hidden = blockGraph.hiddenFor(userId);
+
+        GatheringFeedCursor position = cursor == null || cursor.isBlank() ? null : GatheringFeedCursor.decode(cursor);
+        List<GatheringSummaryView> gatherings = new ArrayList<>(pageSize + 1);
+        boolean exhausted = false;
+        for (int batches = 0; batches < MAX_FEED_BATCHES && gatherings.size() <= pageSize; batches++) {
+            List<GatheringSummaryView> batch = position == null
+                    ? gatheringRepository.findFeedFirstPage(GatheringStatus.RECRUITMENT, limit)
+                    : gatheringRepository.findFeedAfterCursor(
+                            GatheringStatus.RECRUITMENT, position.getGatheringDate(), position.getId(), limit);
+
+            for (GatheringSummaryView gathering : batch) {
+                if (!hidden.contains(gathering.getOrganizerId()) && gatherings.size() <= pageSize) {
+                    gatherings.add(gathering);
+                }
+            }
+            if (batch.size() < limit.getPageSize()) {
+                exhausted = true;
+                break;
+            }
+            GatheringSummaryView last = batch.get(batch.size() - 1);
+            position = new GatheringFeedCursor(last.getGatheringDate(), last.getId());
+        }
+
+        // 한 페이지를 채우지 못한 채 구간 수 제한에 도달하면 마지막으로 조회한 위치부터 이어서 조회하도록 짧은 페이지를 반환한다
+        boolean filled = gatherings.size() > pageSize;
+        boolean hasNext = filled || !exhausted;
+        List<GatheringSummaryView> page = filled ? gatherings.subList(0, pageSize) : gatherings;
+
+        List<GatheringUsersWithStatusDto> result = gatheringSummaryAssembler.withParticipants(page);
+
+        String nextCursor = null;
+        if (filled) {
+            GatheringSummaryView last = page.get(page.size() - 1);
+            nextCursor = new GatheringFeedCursor(last.getGatheringDate(), last.getId()).encode();
+        } else if (hasNext) {
+            nextCursor = position.encode();
+        }
+
+        return GatheringFeedResponseDto.builder()
+                .gatherings(result)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     /**
      * 현재 시간 이후의 모임을 조회하는 메소드 (성능 최적화)
      *
@@ -144,14 +232,14 @@ public class GatheringServiceImpl implements GatheringService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "upcomingGatheringsCache", unless = "#result.isEmpty()")
+    @Cacheable(value = "upcomingGatheringsCache", sync = true)
     public List<GatheringDto> getUpcomingGatherings() {
         LocalDateTime now = LocalDateTime.now();
-        List<Gathering> gatherings = gatheringRepository.findByGatheringDateAfter(now);
+        List<GatheringSummaryView> gatherings = gatheringRepository.findSummariesByGatheringDateAfter(now);
         List<GatheringDto> result = new ArrayList<>(gatherings.size());
         
-        for (Gathering gathering : gatherings) {
-            result.add(GatheringDto.fromEntity(gathering));
+        for (GatheringSummaryView gathering : gatherings) {
+            result.add(GatheringDto.fromView(gathering));
         }
         
         return result;
@@ -166,9 +254,11 @@ public class GatheringServiceImpl implements GatheringService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "userGatheringsCache", key = "#userId")
     public List<GatheringDto> getUserGatherings(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found with id: " + userId);
+        }
 
         // RECRUITMENT, CANCELLED, DELETED 상태의 모임만 조회
         List<GatheringStatus> statusList = List.of(
@@ -177,11 +267,11 @@ public class GatheringServiceImpl implements GatheringService {
             GatheringStatus.DELETED
         );
         
-        List<GatheringUser> gatheringUsers = gatheringUserRepository.findByUserAndGatheringStatusIn(user, statusList);
-        List<GatheringDto> result = new ArrayList<>(gatheringUsers.size());
+        List<GatheringSummaryView> gatherings = gatheringRepository.findSummariesByParticipant(userId, statusList);
+        List<GatheringDto> result = new ArrayList<>(gatherings.size());
         
-        for (GatheringUser gatheringUser : gatheringUsers) {
-            result.add(GatheringDto.fromEntity(gatheringUser.getGathering()));
+        for (GatheringSummaryView gathering : gatherings) {
+            result.add(GatheringDto.fromView(gathering));
         }
         
         return result;
@@ -196,20 +286,17 @@ public class GatheringServiceImpl implements GatheringService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "organizerGatheringsCache", key = "#organizerId")
     public List<GatheringUsersWithStatusDto> getOrganizerGatherings(UUID organizerId) {
-        User organizer = userRepository.findById(organizerId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + organizerId));
+        if (!userRepository.existsById(organizerId)) {
+            throw new EntityNotFoundException("User not found with id: " + organizerId);
+        }
 
         // RECRUITMENT, CANCELLED 상태만 조회
         List<GatheringStatus> statusList = List.of(GatheringStatus.RECRUITMENT, GatheringStatus.CANCELLED);
-        List<Gathering> gatherings = gatheringRepository.findWithUsersAndProfilesByOrganizer(organizer, statusList);
-        List<GatheringUsersWithStatusDto> result = new ArrayList<>(gatherings.size());
-        
-        for (Gathering gathering : gatherings) {
-            result.add(GatheringUsersWithStatusDto.fromEntity(gathering));
-        }
-        
-        return result;
+        List<GatheringSummaryView> gatherings = gatheringRepository.findSummariesByOrganizer(organizerId, statusList);
+
+        return gatheringSummaryAssembler.withParticipants(gatherings);
     }
 
     /**
@@ -223,7 +310,6 @@ public class GatheringServiceImpl implements GatheringService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "gatheringsCache", key = "#userId", condition = "#userId != null")
     public GatheringUserDto joinGathering(Long gatheringId, UUID userId) {
         Gathering gathering = gatheringRepository.findById(gatheringId)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + gatheringId));
@@ -240,7 +326,8 @@ public class GatheringServiceImpl implements GatheringService {
                 throw new InvalidOperationException("이미 참가 신청한 모임입니다.");
             }
             // 취소된 상태라면 PENDING으로 변경
-            gatheringUser.setStatus(GatheringUserStatus.PENDING);
+            changeParticipantStatus(gathering, gatheringUser, GatheringUserStatus.PENDING);
+            eventPublisher.publishEvent(GatheringChangedEvent.of(gatheringId, userId));
             return GatheringUserDto.fromEntity(gatheringUser);
         } else {
             // 모임 참가 유효성 검증
@@ -255,6 +342,8 @@ public class GatheringServiceImpl implements GatheringService {
 
             gathering.addUser(gatheringUser);
             gatheringUserRepository.save(gatheringUser);
+            adjustParticipantCounts(gathering, 0, 1);
+            eventPublisher.publishEvent(GatheringChangedEvent.of(gatheringId, userId));
 
             return GatheringUserDto.fromEntity(gatheringUser);
         }
@@ -265,19 +354,22 @@ public class GatheringServiceImpl implements GatheringService {
      *
      * @param gatheringId 모임 ID
      * @param userId 사용자 ID
+     * @param requesterId 요청한 사용자 ID (모임 주최자여야 함)
      * @return 승인된 gathering 정보
      * @throws EntityNotFoundException 해당 gathering을 찾을 수 없는 경우
+     * @throws InvalidOperationException 모임 주최자가 아닌 경우
      */
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "gatheringsCache", allEntries = true),
-        @CacheEvict(value = "upcomingGatheringsCache", allEntries = true)
-    })
-    public GatheringUserDto approveUser(Long gatheringId, UUID userId) {
+    public GatheringUserDto approveUser(Long gatheringId, UUID userId, UUID requesterId) {
         Gathering gathering = gatheringRepository.findById(gatheringId)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + gatheringId));
 
+        // 요청자가 주최자인지 확인
+        if (!gathering.getOrganizer().getId().equals(requesterId)) {
+            throw new InvalidOperationException("모임 주최자만 참가 신청을 승인할 수 있습니다.");
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
 
@@ -287,7 +379,14 @@ public class GatheringServiceImpl implements GatheringService {
         // 참가 승인 유효성 검증
         GatheringValidator.validateApproveUser(gathering, gatheringUser);
 
+        // 정원 확인과 승인 인원 증가를 하나의 UPDATE 문으로 처리하여 동시 승인 시 정원 초과를 막는다
+        int pendingDelta = GatheringUserStatus.PENDING.equals(gatheringUser.getStatus()) ? -1 : 0;
+        if (gatheringRepository.incrementApprovedCountIfNotFull(gathering.getId(), pendingDelta) == 0) {
+            throw new InvalidOperationException("모임 최대 인원에 도달했습니다.");
+        }
+        gathering.applyParticipantCountDelta(1, pendingDelta);
         gatheringUser.approve();
+        eventPublisher.publishEvent(GatheringChangedEvent.of(gatheringId, userId));
         return GatheringUserDto.fromEntity(gatheringUser);
     }
 
@@ -296,16 +395,22 @@ public class GatheringServiceImpl implements GatheringService {
      *
      * @param gatheringId 모임 ID
      * @param userId 사용자 ID
+     * @param requesterId 요청한 사용자 ID (모임 주최자여야 함)
      * @return 거부된 gathering 정보
      * @throws EntityNotFoundException 해당 gathering을 찾을 수 없는 경우
+     * @throws InvalidOperationException 모임 주최자가 아닌 경우
      */
     @Override
     @Transactional
-    @CacheEvict(value = "gatheringsCache", allEntries = true)
-    public GatheringUserDto rejectUser(Long gatheringId, UUID userId) {
+    public GatheringUserDto rejectUser(Long gatheringId, UUID userId, UUID requesterId) {
         Gathering gathering = gatheringRepository.findById(gatheringId)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + gatheringId));
 
+        // 요청자가 주최자인지 확인
+        if (!gathering.getOrganizer().getId().equals(requesterId)) {
+            throw new InvalidOperationException("모임 주최자만 참가 신청을 거부할 수 있습니다.");
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
 
@@ -315,7 +420,8 @@ public class GatheringServiceImpl implements GatheringService {
         // 참가 거부 유효성 검증
         GatheringValidator.validateRejectUser(gatheringUser);
 
-        gatheringUser.reject();
+        changeParticipantStatus(gathering, gatheringUser, GatheringUserStatus.REJECTED);
+        eventPublisher.publishEvent(GatheringChangedEvent.of(gatheringId, userId));
 
         // Discord 알림 전송
         sendRefundNotification(user, gathering);
@@ -327,20 +433,24 @@ public class GatheringServiceImpl implements GatheringService {
      * 모임의 user 목록을 조회하는 메소드 (성능 최적화)
      *
      * @param gatheringId 모임 ID
+     * @param userId 현재 사용자 ID (차단 관계에 있는 참가자를 제외하기 위함, null 허용)
      * @return 모임 user 목록
      * @throws EntityNotFoundException 해당 모임을 찾을 수 없는 경우
      */
     @Override
     @Transactional(readOnly = true)
-    public List<GatheringUserDto> getGatheringUsers(Long gatheringId) {
+    public List<GatheringUserDto> getGatheringUsers(Long gatheringId, UUID userId) {
         Gathering gathering = gatheringRepository.findById(gatheringId)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + gatheringId));
 
         List<GatheringUser> approvedUsers = gatheringUserRepository.findByGatheringAndStatus(gathering, GatheringUserStatus.APPROVED);
+        BlockGraph.HiddenUsers hidden = blockGraph.hiddenFor(userId);
         List<GatheringUserDto> result = new ArrayList<>(approvedUsers.size());
         
         for (GatheringUser user : approvedUsers) {
-            result.add(GatheringUserDto.fromEntity(user));
+            if (!hidden.contains(user.getUser().getId())) {
+                result.add(GatheringUserDto.fromEntity(user));
+            }
         }
         
         return result;
@@ -348,20 +458,23 @@ public class GatheringServiceImpl implements GatheringService {
 
     /**
      * 모임의 user 목록을 조회하는 메소드
+     * 참가자 목록에서 현재 사용자와 차단 관계에 있는 사용자는 제외한다
      *
      * @param id 모임 ID,
+     * @param userId 현재 사용자 ID (null 허용)
      * @return 모임 상세 조회
      * @throws EntityNotFoundException 해당 모임을 찾을 수 없는 경우
      */
     @Override
     @Transactional(readOnly = true)
     public GatheringDetailResponseDto getGatheringDetail(Long id, UUID userId) {
-        Gathering gathering = gatheringRepository.findById(id)
+        Gathering gathering = gatheringRepository.findDetailById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + id));
 
         String currentUserId = userId != null ? userId.toString() : null;
+        BlockGraph.HiddenUsers hidden = blockGraph.hiddenFor(userId);
 
-        return GatheringDetailResponseDto.fromEntity(gathering, currentUserId);
+        return GatheringDetailResponseDto.fromEntity(gathering, currentUserId, hidden::contains);
     }
 
     /**
@@ -374,10 +487,6 @@ public class GatheringServiceImpl implements GatheringService {
      */
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "gatheringsCache", allEntries = true),
-        @CacheEvict(value = "upcomingGatheringsCache", allEntries = true)
-    })
     public void cancelGatheringByUser(Long gatheringId, UUID userId) {
         Gathering gathering = gatheringRepository.findById(gatheringId)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + gatheringId));
@@ -392,7 +501,8 @@ public class GatheringServiceImpl implements GatheringService {
         GatheringValidator.validateCancelUser(gathering, gatheringUser);
 
         // 데이터를 삭제하지 않고 상태를 CANCELLED로 변경
-        gatheringUser.cancel();
+        changeParticipantStatus(gathering, gatheringUser, GatheringUserStatus.CANCELLED);
+        eventPublisher.publishEvent(GatheringChangedEvent.of(gatheringId, userId));
 
         // Discord 알림 전송
         sendRefundNotification(user, gathering);
@@ -407,10 +517,6 @@ public class GatheringServiceImpl implements GatheringService {
      */
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "gatheringsCache", allEntries = true),
-        @CacheEvict(value = "upcomingGatheringsCache", allEntries = true)
-    })
     public void leaveGathering(Long gatheringId, UUID userId) {
         Gathering gathering = gatheringRepository.findById(gatheringId)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + gatheringId));
@@ -425,7 +531,8 @@ public class GatheringServiceImpl implements GatheringService {
         GatheringValidator.validateLeaveGathering(gathering, gatheringUser);
 
         // 데이터를 삭제하지 않고 상태를 CANCELLED로 변경
-        gatheringUser.cancel();
+        changeParticipantStatus(gathering, gatheringUser, GatheringUserStatus.CANCELLED);
+        eventPublisher.publishEvent(GatheringChangedEvent.of(gatheringId, userId));
 
         // Discord 알림 전송
         sendRefundNotification(user, gathering);
@@ -443,10 +550,6 @@ public class GatheringServiceImpl implements GatheringService {
      */
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "gatheringsCache", allEntries = true),
-        @CacheEvict(value = "upcomingGatheringsCache", allEntries = true)
-    })
     public GatheringDto updateGathering(Long id, GatheringRequestDto requestDto, UUID userId) {
         Gathering gathering = gatheringRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + id));
@@ -492,6 +595,8 @@ public class GatheringServiceImpl implements GatheringService {
             }
         }
 
+        eventPublisher.publishEvent(GatheringChangedEvent.of(gathering.getId()));
+
         return GatheringDto.fromEntity(gathering);
     }
 
@@ -505,10 +610,6 @@ public class GatheringServiceImpl implements GatheringService {
      */
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "gatheringsCache", allEntries = true),
-        @CacheEvict(value = "upcomingGatheringsCache", allEntries = true)
-    })
     public void deleteGathering(Long id, UUID userId) {
         Gathering gathering = gatheringRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + id));
@@ -546,26 +647,28 @@ public class GatheringServiceImpl implements GatheringService {
             
             // 배치로 저장
             gatheringUserRepository.saveAll(usersToUpdate);
+
+            // 모든 참가자가 취소되었으므로 참가자 수 초기화
+            gatheringRepository.resetParticipantCounts(gathering.getId());
+            gathering.resetParticipantCounts();
         }
 
         // 모임 삭제
         gathering.delete();
+        eventPublisher.publishEvent(GatheringChangedEvent.of(gathering.getId()));
     }
 
     /**
      * 시스템에 의해 모임을 취소하는 메소드 (최소 인원 미달 등의 자동 취소 조건)
+     * 대상 선정 이후 참가가 승인되었을 수 있으므로, 모임 행을 잠근 뒤 비정규화된 참가자 수로 최소 인원 미달을 다시 확인한다
      *
      * @param gatheringId 취소할 모임 ID
      * @throws EntityNotFoundException 해당 모임을 찾을 수 없는 경우
      */
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "gatheringsCache", allEntries = true),
-        @CacheEvict(value = "upcomingGatheringsCache", allEntries = true)
-    })
     public void cancelGatheringBySystem(Long gatheringId) {
-        Gathering gathering = gatheringRepository.findById(gatheringId)
+        Gathering gathering = gatheringRepository.findByIdForUpdate(gatheringId)
                 .orElseThrow(() -> new EntityNotFoundException("Gathering not found with id: " + gatheringId));
 
         // 이미 취소되었거나 만료된 모임은 처리하지 않음
@@ -575,11 +678,15 @@ public class GatheringServiceImpl implements GatheringService {
             return;
         }
 
-        // 참가자가 있는지 확인 (카운트 쿼리)
-        // 기본값 1 (주최자는 항상 존재)
-        int usersCount = gatheringUserRepository.countByGatheringId(gathering.getId());
+        // 대상 선정 이후 최소 인원을 채운 모임은 취소하지 않음
+        if (gathering.getApprovedCount() >= gathering.getMinUsers()) {
+            log.info("최소 인원을 채운 모임으로 자동 취소하지 않습니다. 모임 ID: {}, 승인 인원: {}, 최소 인원: {}",
+                    gathering.getId(), gathering.getApprovedCount(), gathering.getMinUsers());
+            return;
+        }
 
-        if (usersCount > 1) {
+        // 주최자 외 승인/대기 중인 참가자가 있는지 확인 (승인 인원은 주최자 포함)
+        if (gathering.getApprovedCount() + gathering.getPendingCount() > 1) {
             // 모든 참가자의 상태를 취소로 변경
             List<GatheringUser> gatheringUsers = gatheringUserRepository.findByGathering(gathering);
 
@@ -594,6 +701,10 @@ public class GatheringServiceImpl implements GatheringService {
                 }
             });
 
+            // 모든 참가자가 취소되었으므로 참가자 수 초기화
+            gatheringRepository.resetParticipantCounts(gathering.getId());
+            gathering.resetParticipantCounts();
+
             // 모임 상태 취소로 변경
             gathering.cancel();
 
@@ -601,12 +712,48 @@ public class GatheringServiceImpl implements GatheringService {
             // 모임 상태 취소로 변경
             gathering.cancel();
         }
+        eventPublisher.publishEvent(GatheringChangedEvent.of(gathering.getId()));
         log.info("시스템에 의한 모임 취소 처리 완료 - 모임 ID: {}, 제목: {}, 취소 이유: {}",
                 gathering.getId(), gathering.getTitle(), "최소 인원 미달에 따른 자동 취소");
     }
     
     /**
-     * 환불 알림을 디스코드로 전송하는 공통 메서드
+     * 참가 상태를 변경하고 모임의 승인/대기 참가자 수를 함께 갱신하는 메서드
+     *
+     * @param gathering 모임
+     * @param gatheringUser 모임 참가자
+     * @param newStatus 변경할 참가 상태
+     */
+    private void changeParticipantStatus(Gathering gathering, GatheringUser gatheringUser, GatheringUserStatus newStatus) {
+        GatheringUserStatus oldStatus = gatheringUser.getStatus();
+        int approvedDelta = countDelta(GatheringUserStatus.APPROVED, oldStatus, newStatus);
+        int pendingDelta = countDelta(GatheringUserStatus.PENDING, oldStatus, newStatus);
+
+        gatheringUser.setStatus(newStatus);
+        adjustParticipantCounts(gathering, approvedDelta, pendingDelta);
+    }
+
+    /**
+     * 참가자 수 변화량을 DB에 원자적으로 반영하고 현재 엔티티에도 적용하는 메서드
+     *
+     * @param gathering 모임
+     * @param approvedDelta 승인된 참가자 수 변화량
+     * @param pendingDelta 대기 중인 참가 신청 수 변화량
+     */
+    private void adjustParticipantCounts(Gathering gathering, int approvedDelta, int pendingDelta) {
+        if (approvedDelta == 0 && pendingDelta == 0) {
+            return;
+        }
+        gatheringRepository.adjustParticipantCounts(gathering.getId(), approvedDelta, pendingDelta);
+        gathering.applyParticipantCountDelta(approvedDelta, pendingDelta);
+    }
+
+    private static int countDelta(GatheringUserStatus counted, GatheringUserStatus oldStatus, GatheringUserStatus newStatus) {
+        return (newStatus == counted ? 1 : 0) - (oldStatus == counted ? 1 : 0);
+    }
+
+    /**
+     * 환불 알림을 아웃박스에 저장하는 공통 메서드 (커밋 후 디스코드로 일괄 전송됨)
      * 
      * @param user 사용자 객체
      * @param gathering 모임 객체
@@ -625,7 +772,7 @@ public class GatheringServiceImpl implements GatheringService {
         }
         data.put("account", accountInfo);
         
-        discordNotifier.sendDiscordMoneyMessage(data);
+        notificationOutboxService.enqueueRefund(data);
     }
 
 	/**
@@ -0,0 +1,58 @@
+package footoff.api.domain.gathering.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import footoff.api.domain.gathering.dto.GatheringUserSimpleDto;
+import footoff.api.domain.gathering.dto.GatheringUsersWithStatusDto;
+import footoff.api.domain.gathering.repository.GatheringUserRepository;
+import footoff.api.domain.gathering.repository.projection.GatheringParticipantView;
+import footoff.api.domain.gathering.repository.projection.GatheringSummaryView;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모임 요약 프로젝션에 참가자 목록을 붙여 목록 DTO를 만드는 컴포넌트
+ * 모임 목록 1회 + 참가자 목록 1회, 총 2번의 쿼리로 목록 응답을 구성한다
+ */
+@Component
+@RequiredArgsConstructor
+public class GatheringSummaryAssembler {
+
+    private final GatheringUserRepository gatheringUserRepository;
+
+    /**
+     * 모임 요약 목록을 참가자 정보가 포함된 DTO 목록으로 변환하는 메서드
+     *
+     * @param views 모임 요약 프로젝션 목록
+     * @return 참가자 정보가 포함된 모임 목록 (입력 순서 유지)
+     */
+    public List<GatheringUsersWithStatusDto> withParticipants(List<GatheringSummaryView> views) {
+        if (views.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> gatheringIds = new ArrayList<>(views.size());
+        for (GatheringSummaryView view : views) {
+            gatheringIds.add(view.getId());
+        }
+
+        Map<Long, List<GatheringUserSimpleDto>> participantsByGathering = new HashMap<>();
+        for (GatheringParticipantView participant : gatheringUserRepository.findParticipantViewsByGatheringIds(gatheringIds)) {
+            participantsByGathering
+                    .computeIfAbsent(participant.getGatheringId(), id -> new ArrayList<>())
+                    .add(GatheringUserSimpleDto.fromView(participant));
+        }
+
+        List<GatheringUsersWithStatusDto> result = new ArrayList<>(views.size());
+        for (GatheringSummaryView view : views) {
+            List<GatheringUserSimpleDto> participants = participantsByGathering.getOrDefault(view.getId(), Collections.emptyList());
+            result.add(GatheringUsersWithStatusDto.fromView(view, participants));
+        }
+        return result;
+    }
+}
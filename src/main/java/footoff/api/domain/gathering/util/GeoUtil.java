@@ -0,0 +1,67 @@
+package footoff.api.domain.gathering.util;
+
+/**
+ * 위경도 좌표 계산 유틸리티
+ * 거리는 구면 지구(반지름 6371km) 기준의 대원 거리로 계산한다
+ */
+public final class GeoUtil {
+
+    /** 지구 반지름 (km) */
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoUtil() {
+    }
+
+    /**
+     * 두 좌표 사이의 거리를 계산하는 메서드 (Haversine 공식)
+     *
+     * @return 거리 (km)
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 중심에서 반경 안의 모든 좌표를 포함하는 위경도 사각형을 계산하는 메서드
+     * 반경이 극점에 닿거나 날짜 변경선을 넘으면 경도 전체 범위를 사용한다 (후보가 늘어날 뿐 누락은 없다)
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @return 반경을 감싸는 사각형
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double dLat = Math.toDegrees(angular);
+        double minLat = latitude - dLat;
+        double maxLat = latitude + dLat;
+
+        if (minLat <= -90 || maxLat >= 90) {
+            return new BoundingBox(Math.max(minLat, -90), -180, Math.min(maxLat, 90), 180);
+        }
+
+        double dLon = Math.toDegrees(Math.asin(Math.min(1.0, Math.sin(angular) / Math.cos(Math.toRadians(latitude)))));
+        double minLon = longitude - dLon;
+        double maxLon = longitude + dLon;
+        if (minLon < -180 || maxLon > 180) {
+            return new BoundingBox(minLat, -180, maxLat, 180);
+        }
+        return new BoundingBox(minLat, minLon, maxLat, maxLon);
+    }
+
+    /**
+     * 위경도 사각형
+     */
+    public record BoundingBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+
+        public boolean contains(double latitude, double longitude) {
+            return latitude >= minLatitude && latitude <= maxLatitude
+                    && longitude >= minLongitude && longitude <= maxLongitude;
+        }
+    }
+}
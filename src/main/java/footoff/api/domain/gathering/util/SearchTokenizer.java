@@ -0,0 +1,95 @@
+package footoff.api.domain.gathering.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 모임 검색어 토큰화 유틸리티
+ * 한국어는 조사/어미가 붙어 공백 단위 단어로는 부분 일치를 찾을 수 없으므로, 단어를 두 글자씩 겹쳐 자른 bigram 을 토큰으로 사용한다
+ * 예) "축구모임을" -> 축구, 구모, 모임, 임을
+ * 검색어의 bigram 이 모두 들어 있는 문서는 대부분 검색어를 그대로 포함한다 (MySQL ngram 파서와 같은 방식)
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 텍스트를 단어로 나누는 메서드 (글자/숫자가 아닌 문자 기준, 소문자 및 NFKC 정규화)
+     *
+     * @param text 텍스트 (null 허용)
+     * @return 단어 목록
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            words.add(normalized.substring(start));
+        }
+        return words;
+    }
+
+    /**
+     * 텍스트의 bigram 을 등장 순서대로 중복 없이 추출하는 메서드 (한 글자 단어는 제외)
+     *
+     * @param texts 텍스트 목록 (null 허용)
+     * @return bigram 목록
+     */
+    public static List<String> bigrams(String... texts) {
+        Set<String> bigrams = new LinkedHashSet<>();
+        for (String text : texts) {
+            for (String word : words(text)) {
+                for (int i = 0; i + 2 <= word.length(); i++) {
+                    bigrams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return new ArrayList<>(bigrams);
+    }
+
+    /**
+     * FULLTEXT 색인 컬럼에 저장할 텍스트를 만드는 메서드 (bigram 을 공백으로 연결)
+     *
+     * @param texts 색인할 텍스트 목록 (제목, 설명 등)
+     * @return 색인용 텍스트
+     */
+    public static String toIndexText(String... texts) {
+        return String.join(" ", bigrams(texts));
+    }
+
+    /**
+     * 검색어의 모든 bigram 을 반드시 포함하는 BOOLEAN MODE 검색식을 만드는 메서드
+     * bigram 은 글자/숫자로만 이루어지므로 검색 연산자가 섞일 수 없다
+     *
+     * @param keyword 검색어
+     * @return 검색식 (bigram 이 없으면 빈 문자열)
+     */
+    public static String toBooleanQuery(String keyword) {
+        StringBuilder query = new StringBuilder();
+        for (String bigram : bigrams(keyword)) {
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append('+').append(bigram);
+        }
+        return query.toString();
+    }
+}
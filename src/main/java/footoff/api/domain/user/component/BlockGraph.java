@@ -0,0 +1,464 @@
+package footoff.api.domain.user.component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 차단 관계 그래프 (메모리)
+ * 피드/상세/참가자 목록을 볼 때마다 block 테이블을 NOT IN 으로 조회하지 않도록 활성 차단 관계 전체를 메모리에 둔다
+ * - 사용자는 UUID 를 상위/하위 64비트 두 개의 long 으로 보관하고 정수 노드 번호를 붙인다 (박싱 없음)
+ * - 노드마다 '내가 차단한 사용자'와 '나를 차단한 사용자' 인접 목록을 두고,
+ *   (차단한 노드, 차단된 노드) 쌍은 long 해시 집합으로 두어 두 사용자 사이의 차단 여부를 O(1)로 확인한다
+ * 차단 관계는 양방향으로 적용된다: 어느 쪽이 차단했든 서로의 모임과 참가 정보가 보이지 않는다
+ */
+@Component
+public class BlockGraph {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State(16);
+
+    /**
+     * 차단 관계 (userId 가 blockedId 를 차단)
+     */
+    public record Edge(UUID userId, UUID blockedId) {
+    }
+
+    /**
+     * 차단 관계를 추가하는 메서드 (이미 있으면 무시)
+     */
+    public void block(UUID userId, UUID blockedId) {
+        lock.writeLock().lock();
+        try {
+            state.add(userId, blockedId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 차단 관계를 제거하는 메서드 (없으면 무시)
+     */
+    public void unblock(UUID userId, UUID blockedId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(userId, blockedId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 그래프 전체를 교체하는 메서드 (새 그래프를 만든 뒤 교체하므로 조회는 중단되지 않는다)
+     */
+    public void replaceAll(Collection<Edge> edges) {
+        State rebuilt = new State(Math.max(16, edges.size()));
+        for (Edge edge : edges) {
+            rebuilt.add(edge.userId(), edge.blockedId());
+        }
+        lock.writeLock().lock();
+        try {
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * userId 가 blockedId 를 차단했는지 확인하는 메서드
+     */
+    public boolean blocks(UUID userId, UUID blockedId) {
+        lock.readLock().lock();
+        try {
+            return state.contains(userId, blockedId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 사용자 중 어느 한쪽이라도 상대를 차단했는지 확인하는 메서드
+     */
+    public boolean isHidden(UUID first, UUID second) {
+        if (first == null || second == null) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return state.contains(first, second) || state.contains(second, first);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자에게 보이지 않아야 하는 사용자 집합을 만드는 메서드 (내가 차단한 사용자 + 나를 차단한 사용자)
+     * 한 번 만들어 두면 잠금 없이 여러 번 확인할 수 있으므로 목록 필터링에 사용한다
+     *
+     * @param viewerId 조회하는 사용자 ID (null 이면 빈 집합)
+     * @return 숨길 사용자 집합
+     */
+    public HiddenUsers hiddenFor(UUID viewerId) {
+        if (viewerId == null) {
+            return HiddenUsers.NONE;
+        }
+        lock.readLock().lock();
+        try {
+            return state.hiddenFor(viewerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 활성 차단 관계 수
+     */
+    public int edgeCount() {
+        lock.readLock().lock();
+        try {
+            return state.edges.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 특정 사용자에게 숨길 사용자 집합 (불변)
+     */
+    public static final class HiddenUsers {
+
+        public static final HiddenUsers NONE = new HiddenUsers(new UuidTable(1));
+
+        private final UuidTable users;
+
+        private HiddenUsers(UuidTable users) {
+            this.users = users;
+        }
+
+        public boolean isEmpty() {
+            return users.size() == 0;
+        }
+
+        public int size() {
+            return users.size();
+        }
+
+        public boolean contains(UUID userId) {
+            return userId != null && users.get(userId.getMostSignificantBits(), userId.getLeastSignificantBits()) >= 0;
+        }
+
+        /**
+         * 문자열 ID 로 확인하는 메서드 (DTO 의 사용자 ID 용, 형식이 잘못된 ID 는 숨기지 않는다)
+         */
+        public boolean contains(String userId) {
+            if (userId == null || isEmpty()) {
+                return false;
+            }
+            try {
+                return contains(UUID.fromString(userId));
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 그래프 데이터 (잠금은 바깥에서 관리)
+     */
+    private static final class State {
+
+        private final UuidTable nodes;
+        private long[] nodeMsb;
+        private long[] nodeLsb;
+        private IntList[] blocking;
+        private IntList[] blockedBy;
+        private final LongSet edges;
+
+        State(int expectedEdges) {
+            int capacity = Math.max(16, expectedEdges);
+            nodes = new UuidTable(capacity);
+            nodeMsb = new long[capacity];
+            nodeLsb = new long[capacity];
+            blocking = new IntList[capacity];
+            blockedBy = new IntList[capacity];
+            edges = new LongSet(capacity);
+        }
+
+        void add(UUID userId, UUID blockedId) {
+            int from = nodeOf(userId);
+            int to = nodeOf(blockedId);
+            if (edges.add(edgeKey(from, to))) {
+                list(blocking, from).add(to);
+                list(blockedBy, to).add(from);
+            }
+        }
+
+        void remove(UUID userId, UUID blockedId) {
+            int from = find(userId);
+            int to = find(blockedId);
+            if (from >= 0 && to >= 0 && edges.remove(edgeKey(from, to))) {
+                blocking[from].remove(to);
+                blockedBy[to].remove(from);
+            }
+        }
+
+        boolean contains(UUID userId, UUID blockedId) {
+            int from = find(userId);
+            int to = find(blockedId);
+            return from >= 0 && to >= 0 && edges.contains(edgeKey(from, to));
+        }
+
+        HiddenUsers hiddenFor(UUID viewerId) {
+            int node = find(viewerId);
+            if (node < 0) {
+                return HiddenUsers.NONE;
+            }
+            IntList out = blocking[node];
+            IntList in = blockedBy[node];
+            int count = (out == null ? 0 : out.size) + (in == null ? 0 : in.size);
+            if (count == 0) {
+                return HiddenUsers.NONE;
+            }
+            UuidTable hidden = new UuidTable(count);
+            copy(out, hidden);
+            copy(in, hidden);
+            return new HiddenUsers(hidden);
+        }
+
+        private void copy(IntList neighbors, UuidTable target) {
+            if (neighbors == null) {
+                return;
+            }
+            for (int i = 0; i < neighbors.size; i++) {
+                int neighbor = neighbors.items[i];
+                target.putIfAbsent(nodeMsb[neighbor], nodeLsb[neighbor], neighbor);
+            }
+        }
+
+        private int find(UUID userId) {
+            return nodes.get(userId.getMostSignificantBits(), userId.getLeastSignificantBits());
+        }
+
+        private int nodeOf(UUID userId) {
+            long msb = userId.getMostSignificantBits();
+            long lsb = userId.getLeastSignificantBits();
+            int node = nodes.get(msb, lsb);
+            if (node >= 0) {
+                return node;
+            }
+            node = nodes.size();
+            if (node == nodeMsb.length) {
+                int capacity = node * 2;
+                nodeMsb = Arrays.copyOf(nodeMsb, capacity);
+                nodeLsb = Arrays.copyOf(nodeLsb, capacity);
+                blocking = Arrays.copyOf(blocking, capacity);
+                blockedBy = Arrays.copyOf(blockedBy, capacity);
+            }
+            nodes.putIfAbsent(msb, lsb, node);
+            nodeMsb[node] = msb;
+            nodeLsb[node] = lsb;
+            return node;
+        }
+
+        private static IntList list(IntList[] lists, int node) {
+            IntList list = lists[node];
+            if (list == null) {
+                list = new IntList();
+                lists[node] = list;
+            }
+            return list;
+        }
+
+        private static long edgeKey(int from, int to) {
+            // 노드 번호에 1을 더해 0(빈 칸 표시)이 키로 쓰이지 않게 한다
+            return ((long) (from + 1) << 32) | (to + 1L);
+        }
+    }
+
+    /**
+     * 노드 인접 목록 (순서 없음, 삭제 시 마지막 항목으로 채움)
+     */
+    private static final class IntList {
+        private int[] items = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        void remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == value) {
+                    items[i] = items[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * UUID(두 개의 long) -> 0 이상의 int 값 해시 테이블 (선형 탐사, 삭제 없음)
+     */
+    private static final class UuidTable {
+        private long[] msbs;
+        private long[] lsbs;
+        /** 값 + 1 (0 은 빈 칸) */
+        private int[] values;
+        private int size;
+
+        UuidTable(int expected) {
+            int capacity = tableCapacity(expected);
+            msbs = new long[capacity];
+            lsbs = new long[capacity];
+            values = new int[capacity];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int get(long msb, long lsb) {
+            int mask = values.length - 1;
+            for (int slot = hash(msb, lsb) & mask; values[slot] != 0; slot = (slot + 1) & mask) {
+                if (msbs[slot] == msb && lsbs[slot] == lsb) {
+                    return values[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        void putIfAbsent(long msb, long lsb, int value) {
+            if ((size + 1) * 2 > values.length) {
+                resize();
+            }
+            int mask = values.length - 1;
+            int slot = hash(msb, lsb) & mask;
+            while (values[slot] != 0) {
+                if (msbs[slot] == msb && lsbs[slot] == lsb) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            msbs[slot] = msb;
+            lsbs[slot] = lsb;
+            values[slot] = value + 1;
+            size++;
+        }
+
+        private void resize() {
+            long[] oldMsbs = msbs;
+            long[] oldLsbs = lsbs;
+            int[] oldValues = values;
+            msbs = new long[oldValues.length * 2];
+            lsbs = new long[oldValues.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != 0) {
+                    putIfAbsent(oldMsbs[i], oldLsbs[i], oldValues[i] - 1);
+                }
+            }
+        }
+
+        private static int hash(long msb, long lsb) {
+            return (int) mix(msb * 0x9E3779B97F4A7C15L ^ lsb);
+        }
+    }
+
+    /**
+     * 0 이 아닌 long 키 집합 (선형 탐사, 삭제 시 뒤 항목을 당겨 빈 칸 표시 없이 유지)
+     */
+    private static final class LongSet {
+        private long[] keys;
+        private int size;
+
+        LongSet(int expected) {
+            keys = new long[tableCapacity(expected)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(long key) {
+            int mask = keys.length - 1;
+            for (int slot = (int) mix(key) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean add(long key) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != 0) {
+                if (keys[slot] == key) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            size++;
+            return true;
+        }
+
+        boolean remove(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != key) {
+                if (keys[slot] == 0) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            // 뒤따르는 항목 중 이 칸으로 당겨야 탐색이 끊기지 않는 항목을 옮긴다
+            int hole = slot;
+            for (int next = (hole + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+                int home = (int) mix(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = 0;
+            size--;
+            return true;
+        }
+
+        private void resize() {
+            long[] old = keys;
+            keys = new long[old.length * 2];
+            size = 0;
+            for (long key : old) {
+                if (key != 0) {
+                    add(key);
+                }
+            }
+        }
+    }
+
+    private static int tableCapacity(int expected) {
+        return Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,25 @@
+package footoff.api.domain.user.event;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 차단/차단 해제를 알리는 이벤트
+ * 트랜잭션 커밋 후 차단 관계 그래프를 갱신하는 데 사용된다
+ */
+@Getter
+@RequiredArgsConstructor
+public class BlockChangedEvent {
+
+    /**
+     * 차단한 사용자 ID
+     */
+    private final UUID userId;
+
+    /**
+     * 차단된 사용자 ID
+     */
+    private final UUID blockedId;
+}
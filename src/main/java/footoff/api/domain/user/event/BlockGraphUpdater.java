@@ -0,0 +1,123 @@
+package footoff.api.domain.user.event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import footoff.api.domain.user.component.BlockGraph;
+import footoff.api.domain.user.repository.BlockRepository;
+import footoff.api.domain.user.repository.projection.BlockEdgeView;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 차단 관계 그래프를 DB와 맞추는 컴포넌트
+ * - 서버 시작 시와 주기적으로 활성 차단 관계 전체를 적재한다
+ * - 이 서버의 차단/해제는 커밋 직후 해당 관계의 현재 상태를 다시 읽어 반영한다
+ * - 몇 초마다 마지막 동기화 이후 변경된 관계만 읽어 다른 서버의 차단/해제를 반영한다
+ */
+@Slf4j
+@Component
+public class BlockGraphUpdater {
+
+    private final BlockGraph blockGraph;
+    private final BlockRepository blockRepository;
+    private final Duration syncOverlap;
+
+    /** 다음 증분 동기화의 기준 시각 (null 이면 아직 전체 적재 전) */
+    private volatile LocalDateTime syncedAt;
+
+    public BlockGraphUpdater(BlockGraph blockGraph,
+                             BlockRepository blockRepository,
+                             @Value("${block.graph.sync-overlap:10s}") Duration syncOverlap) {
+        this.blockGraph = blockGraph;
+        this.blockRepository = blockRepository;
+        this.syncOverlap = syncOverlap;
+    }
+
+    /**
+     * 서버 시작 시 그래프를 DB에서 다시 만든다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 활성 차단 관계 전체로 그래프를 새로 만들어 교체한다
+     */
+    @Scheduled(fixedDelayString = "${block.graph.rebuild-interval-ms:1800000}",
+            initialDelayString = "${block.graph.rebuild-interval-ms:1800000}")
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<BlockEdgeView> edges = blockRepository.findActiveEdges();
+            blockGraph.replaceAll(edges.stream()
+                    .map(edge -> new BlockGraph.Edge(edge.getUserId(), edge.getBlockedId()))
+                    .toList());
+            syncedAt = startedAt;
+            log.info("차단 관계 그래프 적재 완료: {}건", blockGraph.edgeCount());
+        } catch (DataAccessException e) {
+            log.warn("차단 관계 그래프 적재 실패 (기존 그래프 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 추가/변경된 차단 관계를 반영한다
+     * 서버 간 시계 차이와 커밋 지연으로 빠지는 관계가 없도록 기준 시각을 조금 겹쳐서 조회한다
+     */
+    @Scheduled(fixedDelayString = "${block.graph.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime since = syncedAt;
+        if (since == null) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<BlockEdgeView> changes = blockRepository.findEdgesChangedSince(since.minus(syncOverlap));
+            for (BlockEdgeView change : changes) {
+                apply(change.getUserId(), change.getBlockedId(), Boolean.TRUE.equals(change.getIsBlock()));
+            }
+            syncedAt = startedAt;
+            if (!changes.isEmpty()) {
+                log.debug("차단 관계 그래프 동기화: 변경 {}건", changes.size());
+            }
+        } catch (DataAccessException e) {
+            log.warn("차단 관계 그래프 동기화 실패 (다음 주기에 다시 시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 차단/해제를 그래프에 반영하는 메서드
+     * 이벤트 내용이 아닌 커밋된 현재 상태를 읽으므로 같은 관계를 연달아 바꿔도 마지막 상태가 남는다
+     *
+     * @param event 차단 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onBlockChanged(BlockChangedEvent event) {
+        boolean blocked = blockRepository.findEdges(event.getUserId(), event.getBlockedId()).stream()
+                .anyMatch(edge -> Boolean.TRUE.equals(edge.getIsBlock()));
+        apply(event.getUserId(), event.getBlockedId(), blocked);
+    }
+
+    private void apply(UUID userId, UUID blockedId, boolean blocked) {
+        if (blocked) {
+            blockGraph.block(userId, blockedId);
+        } else {
+            blockGraph.unblock(userId, blockedId);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package footoff.api.domain.user.repository;
 
 import footoff.api.domain.user.entity.Block;
+import footoff.api.domain.user.repository.projection.BlockEdgeView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,4 +18,34 @@ public interface BlockRepository extends JpaRepository<Block, Long> {
     List<Block> findByBlockedId(UUID blockedId);
     boolean existsByUserIdAndBlockedId(UUID userId, UUID blockedId);
     Optional<Block> findByUserIdAndBlockedId(UUID userId, UUID blockedId);
+
+    /**
+     * 활성 차단 관계 전체 조회 (차단 관계 그래프 전체 적재용)
+     */
+    @Query("""
+            SELECT b.user.id AS userId, b.blocked.id AS blockedId, b.isBlock AS isBlock, b.updatedAt AS updatedAt
+            FROM Block b
+            WHERE b.isBlock = true
+            """)
+    List<BlockEdgeView> findActiveEdges();
+
+    /**
+     * 지정 시각 이후 추가/변경된 차단 관계 조회 (다른 서버의 차단/해제 동기화용)
+     */
+    @Query("""
+            SELECT b.user.id AS userId, b.blocked.id AS blockedId, b.isBlock AS isBlock, b.updatedAt AS updatedAt
+            FROM Block b
+            WHERE b.updatedAt >= :since
+            """)
+    List<BlockEdgeView> findEdgesChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 두 사용자 사이의 차단 관계 조회 (차단 관계 그래프 갱신용, 중복 행이 있으면 모두 반환)
+     */
+    @Query("""
+            SELECT b.user.id AS userId, b.blocked.id AS blockedId, b.isBlock AS isBlock, b.updatedAt AS updatedAt
+            FROM Block b
+            WHERE b.user.id = :userId AND b.blocked.id = :blockedId
+            """)
+    List<BlockEdgeView> findEdges(@Param("userId") UUID userId, @Param("blockedId") UUID blockedId);
 }
@@ -0,0 +1,19 @@
+package footoff.api.domain.user.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 차단 관계 그래프용 프로젝션
+ * 차단한 사용자, 차단된 사용자, 차단 여부만 조회한다
+ */
+public interface BlockEdgeView {
+
+    UUID getUserId();
+
+    UUID getBlockedId();
+
+    Boolean getIsBlock();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -2,6 +2,7 @@ package footoff.api.domain.user.service;
 
 import footoff.api.domain.user.entity.Block;
 import footoff.api.domain.user.entity.User;
+import footoff.api.domain.user.event.BlockChangedEvent;
 import footoff.api.domain.user.repository.BlockRepository;
 import footoff.api.domain.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -17,6 +19,7 @@ import org.springframework.stereotype.Service;
 public class BlockService {
 	private final BlockRepository blockRepository;
 	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public Block createBlock(UUID userId, UUID blockedId, String reason) {
@@ -45,6 +48,7 @@ public class BlockService {
 			.orElseThrow(() -> new IllegalArgumentException("Block not found"));
 		block.updateIsBlock(false);
 		blockRepository.save(block);
+		eventPublisher.publishEvent(new BlockChangedEvent(userId, blockedId));
 	}
 
 	@Transactional
@@ -54,6 +58,7 @@ public class BlockService {
 		block.updateIsBlock(true);
 		block.updateReason(reason);
 		blockRepository.save(block);
+		eventPublisher.publishEvent(new BlockChangedEvent(userId, blockedId));
 
 		return block;
 	}
@@ -0,0 +1,113 @@
+package footoff.api.global.cache.component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import footoff.api.domain.gathering.dto.GatheringDto;
+import footoff.api.domain.gathering.dto.GatheringUsersWithStatusDto;
+
+/**
+ * 모임 ID 별로 해당 모임을 담고 있는 캐시 항목을 기록하는 역색인
+ * 모임 변경 시 전체 캐시를 비우지 않고 영향을 받는 항목만 찾아 무효화하기 위해 사용한다
+ */
+@Component
+public class GatheringCacheIndex {
+
+    /**
+     * 캐시 항목 식별자 (캐시 이름 + 키)
+     */
+    public record EntryRef(String cacheName, Object key) {
+    }
+
+    private final Map<Long, Set<EntryRef>> entriesByGathering = new ConcurrentHashMap<>();
+    private final Map<EntryRef, Set<Long>> gatheringsByEntry = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시에 적재된 값이 포함하는 모임 ID를 기록하는 메서드
+     *
+     * @param cacheName 캐시 이름
+     * @param key 캐시 키
+     * @param value 캐시 값
+     */
+    public synchronized void register(String cacheName, Object key, Object value) {
+        EntryRef entry = new EntryRef(cacheName, key);
+        removeEntry(entry);
+
+        Set<Long> gatheringIds = extractGatheringIds(value);
+        if (gatheringIds.isEmpty()) {
+            return;
+        }
+        gatheringsByEntry.put(entry, gatheringIds);
+        for (Long gatheringId : gatheringIds) {
+            entriesByGathering.computeIfAbsent(gatheringId, id -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+    }
+
+    /**
+     * 캐시 항목이 제거되었을 때 기록을 삭제하는 메서드
+     *
+     * @param cacheName 캐시 이름
+     * @param key 캐시 키
+     */
+    public synchronized void unregister(String cacheName, Object key) {
+        removeEntry(new EntryRef(cacheName, key));
+    }
+
+    /**
+     * 캐시 전체가 비워졌을 때 해당 캐시의 기록을 모두 삭제하는 메서드
+     *
+     * @param cacheName 캐시 이름
+     */
+    public synchronized void clear(String cacheName) {
+        for (EntryRef entry : Set.copyOf(gatheringsByEntry.keySet())) {
+            if (entry.cacheName().equals(cacheName)) {
+                removeEntry(entry);
+            }
+        }
+    }
+
+    /**
+     * 특정 모임을 담고 있는 캐시 항목을 조회하는 메서드
+     *
+     * @param gatheringId 모임 ID
+     * @return 모임을 포함하는 캐시 항목 목록
+     */
+    public Set<EntryRef> entriesContaining(Long gatheringId) {
+        Set<EntryRef> entries = entriesByGathering.get(gatheringId);
+        return entries != null ? Set.copyOf(entries) : Collections.emptySet();
+    }
+
+    private void removeEntry(EntryRef entry) {
+        Set<Long> gatheringIds = gatheringsByEntry.remove(entry);
+        if (gatheringIds == null) {
+            return;
+        }
+        for (Long gatheringId : gatheringIds) {
+            entriesByGathering.computeIfPresent(gatheringId, (id, entries) -> {
+                entries.remove(entry);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    private Set<Long> extractGatheringIds(Object value) {
+        if (!(value instanceof Collection<?> collection)) {
+            return Collections.emptySet();
+        }
+        Set<Long> gatheringIds = new HashSet<>();
+        for (Object element : collection) {
+            if (element instanceof GatheringDto gathering) {
+                gatheringIds.add(gathering.getId());
+            } else if (element instanceof GatheringUsersWithStatusDto gathering) {
+                gatheringIds.add(gathering.getId());
+            }
+        }
+        return gatheringIds;
+    }
+}
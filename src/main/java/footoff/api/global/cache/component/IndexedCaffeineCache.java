@@ -0,0 +1,71 @@
+package footoff.api.global.cache.component;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * 적재/제거 시 {@link GatheringCacheIndex} 를 함께 갱신하는 Caffeine 캐시
+ * 크기/만료에 의한 축출은 캐시 생성 시 등록한 eviction listener 가 처리한다
+ */
+public class IndexedCaffeineCache extends CaffeineCache {
+
+    private final GatheringCacheIndex index;
+
+    public IndexedCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues, GatheringCacheIndex index) {
+        super(name, cache, allowNullValues);
+        this.index = index;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return super.get(key, () -> {
+            T value = valueLoader.call();
+            index.register(getName(), key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        index.register(getName(), key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            index.register(getName(), key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        index.unregister(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        index.unregister(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        index.clear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        index.clear(getName());
+        return invalidated;
+    }
+}
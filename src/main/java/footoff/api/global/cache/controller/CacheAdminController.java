@@ -0,0 +1,134 @@
+package footoff.api.global.cache.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import footoff.api.global.cache.dto.CacheStatsDto;
+import footoff.api.global.cache.dto.CacheTuningRequestDto;
+import footoff.api.global.cache.service.CacheAdminService;
+import footoff.api.global.common.BaseResponse;
+import footoff.api.global.common.enums.ErrorCode;
+import footoff.api.global.security.AdminKeyVerifier;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 상태 조회 및 정책 변경을 위한 관리자 컨트롤러
+ * 모든 요청은 X-Admin-Key 헤더가 설정값(admin.api-key)과 일치해야 한다
+ */
+@RestController
+@RequestMapping("/api/management/caches")
+@RequiredArgsConstructor
+@Tag(name = "캐시 관리 API", description = "캐시 통계 조회 및 런타임 정책 변경 기능을 제공하는 관리자 API")
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+    private final AdminKeyVerifier adminKeyVerifier;
+
+    /**
+     * 모든 캐시의 상태와 통계를 조회하는 엔드포인트
+     *
+     * @param adminKey 관리자 키
+     * @return 캐시별 상태 및 통계 목록
+     */
+    @Operation(summary = "캐시 통계 조회", description = "모든 캐시의 크기, 정책, 적중/미적중/축출/적재 통계를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+        @ApiResponse(responseCode = "403", description = "관리자 키 불일치")
+    })
+    @GetMapping
+    public ResponseEntity<BaseResponse<List<CacheStatsDto>>> getAllCacheStats(
+            @Parameter(description = "관리자 키") @RequestHeader(value = AdminKeyVerifier.ADMIN_KEY_HEADER, required = false) String adminKey) {
+        if (!adminKeyVerifier.isAdmin(adminKey)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(BaseResponse.onSuccess(cacheAdminService.getAllCacheStats()));
+    }
+
+    /**
+     * 특정 캐시의 상태와 통계를 조회하는 엔드포인트
+     *
+     * @param cacheName 캐시 이름
+     * @param adminKey 관리자 키
+     * @return 캐시 상태 및 통계
+     */
+    @Operation(summary = "단일 캐시 통계 조회", description = "캐시 이름으로 해당 캐시의 상태와 통계를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+        @ApiResponse(responseCode = "403", description = "관리자 키 불일치"),
+        @ApiResponse(responseCode = "404", description = "캐시를 찾을 수 없음")
+    })
+    @GetMapping("/{cacheName}")
+    public ResponseEntity<BaseResponse<CacheStatsDto>> getCacheStats(
+            @Parameter(description = "캐시 이름", required = true) @PathVariable String cacheName,
+            @Parameter(description = "관리자 키") @RequestHeader(value = AdminKeyVerifier.ADMIN_KEY_HEADER, required = false) String adminKey) {
+        if (!adminKeyVerifier.isAdmin(adminKey)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(BaseResponse.onSuccess(cacheAdminService.getCacheStats(cacheName)));
+    }
+
+    /**
+     * 캐시의 최대 크기와 만료 정책을 변경하는 엔드포인트
+     *
+     * @param cacheName 캐시 이름
+     * @param requestDto 변경할 정책
+     * @param adminKey 관리자 키
+     * @return 변경 후 캐시 상태 및 통계
+     */
+    @Operation(summary = "캐시 정책 변경", description = "재배포 없이 캐시의 최대 크기(가중치)와 만료 시간을 변경합니다. 지정하지 않은 항목은 유지됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "캐시 정책 변경 성공"),
+        @ApiResponse(responseCode = "400", description = "캐시에 없는 정책 변경 요청"),
+        @ApiResponse(responseCode = "403", description = "관리자 키 불일치"),
+        @ApiResponse(responseCode = "404", description = "캐시를 찾을 수 없음")
+    })
+    @PatchMapping("/{cacheName}")
+    public ResponseEntity<BaseResponse<CacheStatsDto>> tuneCache(
+            @Parameter(description = "캐시 이름", required = true) @PathVariable String cacheName,
+            @Valid @RequestBody CacheTuningRequestDto requestDto,
+            @Parameter(description = "관리자 키") @RequestHeader(value = AdminKeyVerifier.ADMIN_KEY_HEADER, required = false) String adminKey) {
+        if (!adminKeyVerifier.isAdmin(adminKey)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(BaseResponse.onSuccess(cacheAdminService.tuneCache(cacheName, requestDto)));
+    }
+
+    /**
+     * 캐시의 모든 항목을 비우는 엔드포인트
+     *
+     * @param cacheName 캐시 이름
+     * @param adminKey 관리자 키
+     * @return 응답 없음
+     */
+    @Operation(summary = "캐시 비우기", description = "캐시의 모든 항목을 제거합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "캐시 비우기 성공"),
+        @ApiResponse(responseCode = "403", description = "관리자 키 불일치"),
+        @ApiResponse(responseCode = "404", description = "캐시를 찾을 수 없음")
+    })
+    @DeleteMapping("/{cacheName}")
+    public ResponseEntity<BaseResponse<Void>> clearCache(
+            @Parameter(description = "캐시 이름", required = true) @PathVariable String cacheName,
+            @Parameter(description = "관리자 키") @RequestHeader(value = AdminKeyVerifier.ADMIN_KEY_HEADER, required = false) String adminKey) {
+        if (!adminKeyVerifier.isAdmin(adminKey)) {
+            return forbidden();
+        }
+        cacheAdminService.clearCache(cacheName);
+        return ResponseEntity.ok(BaseResponse.onSuccess(null));
+    }
+
+    private <T> ResponseEntity<BaseResponse<T>> forbidden() {
+        return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .body(BaseResponse.onFailure(ErrorCode.FORBIDDEN.getCode(), "관리자 권한이 필요합니다."));
+    }
+}
@@ -0,0 +1,84 @@
+package footoff.api.global.cache.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 캐시 상태 및 통계 정보를 담는 DTO 클래스
+ */
+@Getter
+@Schema(description = "캐시 상태 및 통계 정보")
+public class CacheStatsDto {
+
+    @Schema(description = "캐시 이름", example = "gatheringsCache")
+    private final String name;
+
+    @Schema(description = "현재 항목 수(추정치)", example = "1")
+    private final long estimatedSize;
+
+    @Schema(description = "최대 항목 수 또는 최대 가중치 (제한이 없으면 null)", example = "1000")
+    private final Long maximum;
+
+    @Schema(description = "쓰기 후 만료 시간(초, 설정되지 않았으면 null)", example = "60")
+    private final Long expireAfterWriteSeconds;
+
+    @Schema(description = "접근 후 만료 시간(초, 설정되지 않았으면 null)")
+    private final Long expireAfterAccessSeconds;
+
+    @Schema(description = "적중 횟수", example = "120")
+    private final long hitCount;
+
+    @Schema(description = "미적중 횟수", example = "3")
+    private final long missCount;
+
+    @Schema(description = "적중률", example = "0.97")
+    private final double hitRate;
+
+    @Schema(description = "축출된 항목 수", example = "0")
+    private final long evictionCount;
+
+    @Schema(description = "적재 성공 횟수", example = "3")
+    private final long loadSuccessCount;
+
+    @Schema(description = "적재 실패 횟수", example = "0")
+    private final long loadFailureCount;
+
+    @Schema(description = "평균 적재 시간(밀리초)", example = "12.5")
+    private final double averageLoadPenaltyMillis;
+
+    /**
+     * CacheStatsDto 생성자
+     *
+     * @param name 캐시 이름
+     * @param estimatedSize 현재 항목 수(추정치)
+     * @param maximum 최대 항목 수 또는 최대 가중치
+     * @param expireAfterWriteSeconds 쓰기 후 만료 시간(초)
+     * @param expireAfterAccessSeconds 접근 후 만료 시간(초)
+     * @param hitCount 적중 횟수
+     * @param missCount 미적중 횟수
+     * @param hitRate 적중률
+     * @param evictionCount 축출된 항목 수
+     * @param loadSuccessCount 적재 성공 횟수
+     * @param loadFailureCount 적재 실패 횟수
+     * @param averageLoadPenaltyMillis 평균 적재 시간(밀리초)
+     */
+    @Builder
+    public CacheStatsDto(String name, long estimatedSize, Long maximum, Long expireAfterWriteSeconds,
+                         Long expireAfterAccessSeconds, long hitCount, long missCount, double hitRate,
+                         long evictionCount, long loadSuccessCount, long loadFailureCount,
+                         double averageLoadPenaltyMillis) {
+        this.name = name;
+        this.estimatedSize = estimatedSize;
+        this.maximum = maximum;
+        this.expireAfterWriteSeconds = expireAfterWriteSeconds;
+        this.expireAfterAccessSeconds = expireAfterAccessSeconds;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.averageLoadPenaltyMillis = averageLoadPenaltyMillis;
+    }
+}
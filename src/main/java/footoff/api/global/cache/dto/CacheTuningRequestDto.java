@@ -0,0 +1,28 @@
+package footoff.api.global.cache.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 정책 런타임 변경 요청 데이터를 담는 DTO 클래스
+ * 지정하지 않은 항목은 변경하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@Schema(description = "캐시 정책 변경 요청 정보")
+public class CacheTuningRequestDto {
+
+    @Schema(description = "최대 항목 수 또는 최대 가중치", example = "500")
+    @Min(value = 0, message = "최대 크기는 0 이상이어야 합니다.")
+    private Long maximum;
+
+    @Schema(description = "쓰기 후 만료 시간(초)", example = "60")
+    @Min(value = 1, message = "만료 시간은 1초 이상이어야 합니다.")
+    private Long expireAfterWriteSeconds;
+
+    @Schema(description = "접근 후 만료 시간(초)", example = "300")
+    @Min(value = 1, message = "만료 시간은 1초 이상이어야 합니다.")
+    private Long expireAfterAccessSeconds;
+}
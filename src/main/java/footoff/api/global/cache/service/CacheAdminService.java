@@ -0,0 +1,137 @@
+package footoff.api.global.cache.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import footoff.api.global.cache.dto.CacheStatsDto;
+import footoff.api.global.cache.dto.CacheTuningRequestDto;
+import footoff.api.global.exception.EntityNotFoundException;
+import footoff.api.global.exception.InvalidOperationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 상태 조회 및 런타임 정책 변경 서비스
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheAdminService {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 모든 캐시의 상태와 통계를 조회하는 메서드
+     *
+     * @return 캐시별 상태 및 통계 목록
+     */
+    public List<CacheStatsDto> getAllCacheStats() {
+        List<CacheStatsDto> result = new ArrayList<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            result.add(toStatsDto(cacheName, getNativeCache(cacheName)));
+        }
+        return result;
+    }
+
+    /**
+     * 특정 캐시의 상태와 통계를 조회하는 메서드
+     *
+     * @param cacheName 캐시 이름
+     * @return 캐시 상태 및 통계
+     * @throws EntityNotFoundException 해당 이름의 캐시가 없는 경우
+     */
+    public CacheStatsDto getCacheStats(String cacheName) {
+        return toStatsDto(cacheName, getNativeCache(cacheName));
+    }
+
+    /**
+     * 캐시의 최대 크기와 만료 정책을 재배포 없이 변경하는 메서드
+     * 만료 정책은 캐시 생성 시 설정된 종류만 변경할 수 있다
+     *
+     * @param cacheName 캐시 이름
+     * @param requestDto 변경할 정책
+     * @return 변경 후 캐시 상태 및 통계
+     * @throws EntityNotFoundException 해당 이름의 캐시가 없는 경우
+     * @throws InvalidOperationException 캐시에 해당 정책이 설정되어 있지 않은 경우
+     */
+    public CacheStatsDto tuneCache(String cacheName, CacheTuningRequestDto requestDto) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = getNativeCache(cacheName);
+        Policy<Object, Object> policy = nativeCache.policy();
+
+        if (requestDto.getMaximum() != null) {
+            Policy.Eviction<Object, Object> eviction = policy.eviction()
+                    .orElseThrow(() -> new InvalidOperationException("크기 제한이 없는 캐시입니다: " + cacheName));
+            eviction.setMaximum(requestDto.getMaximum());
+        }
+        if (requestDto.getExpireAfterWriteSeconds() != null) {
+            Policy.FixedExpiration<Object, Object> expiration = policy.expireAfterWrite()
+                    .orElseThrow(() -> new InvalidOperationException("쓰기 후 만료 정책이 없는 캐시입니다: " + cacheName));
+            expiration.setExpiresAfter(Duration.ofSeconds(requestDto.getExpireAfterWriteSeconds()));
+        }
+        if (requestDto.getExpireAfterAccessSeconds() != null) {
+            Policy.FixedExpiration<Object, Object> expiration = policy.expireAfterAccess()
+                    .orElseThrow(() -> new InvalidOperationException("접근 후 만료 정책이 없는 캐시입니다: " + cacheName));
+            expiration.setExpiresAfter(Duration.ofSeconds(requestDto.getExpireAfterAccessSeconds()));
+        }
+
+        log.info("Cache policy updated: name={}, maximum={}, expireAfterWrite={}s, expireAfterAccess={}s",
+                cacheName, requestDto.getMaximum(), requestDto.getExpireAfterWriteSeconds(), requestDto.getExpireAfterAccessSeconds());
+        return toStatsDto(cacheName, nativeCache);
+    }
+
+    /**
+     * 캐시의 모든 항목을 비우는 메서드
+     *
+     * @param cacheName 캐시 이름
+     * @throws EntityNotFoundException 해당 이름의 캐시가 없는 경우
+     */
+    public void clearCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new EntityNotFoundException("Cache not found with name: " + cacheName);
+        }
+        // 모임 ID 역색인도 함께 정리되도록 Spring Cache 추상화를 통해 비운다
+        cache.clear();
+        log.info("Cache cleared: name={}", cacheName);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            throw new EntityNotFoundException("Cache not found with name: " + cacheName);
+        }
+        return caffeineCache.getNativeCache();
+    }
+
+    private CacheStatsDto toStatsDto(String cacheName, com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache) {
+        Policy<Object, Object> policy = nativeCache.policy();
+        CacheStats stats = nativeCache.stats();
+
+        return CacheStatsDto.builder()
+                .name(cacheName)
+                .estimatedSize(nativeCache.estimatedSize())
+                .maximum(policy.eviction().map(Policy.Eviction::getMaximum).orElse(null))
+                .expireAfterWriteSeconds(policy.expireAfterWrite()
+                        .map(expiration -> expiration.getExpiresAfter(TimeUnit.SECONDS)).orElse(null))
+                .expireAfterAccessSeconds(policy.expireAfterAccess()
+                        .map(expiration -> expiration.getExpiresAfter(TimeUnit.SECONDS)).orElse(null))
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .build();
+    }
+}
@@ -35,4 +35,15 @@ public class BatchScheduler {
         log.info("최소 인원 미달 모임 자동 취소 배치 작업 종료됨");
     }
 
+    // 매일 새벽 4시에 실행
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void reconcileParticipantCounts() {
+        log.info("참가자 카운터 보정 배치 작업 실행됨");
+
+        // 모임별 승인/대기 참가자 수 보정
+        batchService.reconcileParticipantCounts();
+
+        log.info("참가자 카운터 보정 배치 작업 종료됨");
+    }
+
 }
\ No newline at end of file
@@ -2,13 +2,23 @@ package footoff.api.global.common.component;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+
+import footoff.api.global.common.enums.NotificationChannel;
+import footoff.api.global.config.AsyncConfig;
+import footoff.api.global.http.OutboundHttpClient;
+import lombok.RequiredArgsConstructor;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 디스코드 웹훅 알림 전송 컴포넌트
+ * 외부 호출이 요청/트랜잭션 처리 시간을 늘리지 않도록 알림 전용 실행기에서 비동기로 전송한다
+ */
 @Component
+@RequiredArgsConstructor
 public class DiscordNotifier {
 
     @Value("${discord.money-webhook-url}")
@@ -17,15 +27,26 @@ public class DiscordNotifier {
     @Value("${discord.server-webhook-url}")
     private String serverWebhookUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OutboundHttpClient outboundHttpClient;
 
     // 반복되는 구분선을 위한 상수 정의
     private static final String EMOJI_DIVIDER = "✨✨✨✨✨✨✨✨✨✨✨✨✨";
     private static final String MARKDOWN_DIVIDER = "```md\n# 알림 메시지\n```";
     
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void sendDiscordMoneyMessage(Map<String, String> data) {
+        sendDiscordMessage(moneyWebhookUrl, formatMoneyMessage(data));
+    }
+
+    /**
+     * 환불 요청 알림 메시지를 구성
+     *
+     * @param data 환불 알림 데이터 (닉네임, 모임명, 환불 계좌)
+     * @return 디스코드 메시지 내용
+     */
+    public String formatMoneyMessage(Map<String, String> data) {
         // 닉네임, 모임명, 환불계좌를 순서대로 구성
-        String message = String.format(
+        return String.format(
                 """
                 %s
                 💸 **환불 요청 도착**
@@ -41,9 +62,9 @@ public class DiscordNotifier {
                 data.getOrDefault("account", "N/A"),
                 EMOJI_DIVIDER
         );
-        sendDiscordMessage(moneyWebhookUrl, message);
     }
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void sendDiscordServerErrorMessage(Map<String, String> data) {
         // 향후 서버 에러 메시지 구성 방식 정의 가능
         String message = String.format(
@@ -71,6 +92,7 @@ public class DiscordNotifier {
      *
      * @param data 보안 알림 데이터 (IP, 이벤트 수, URI, 상세 정보 등)
      */
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void sendDiscordSecurityMessage(Map<String, String> data) {
         String message = String.format(
                 """
@@ -96,6 +118,17 @@ public class DiscordNotifier {
         sendDiscordMessage(serverWebhookUrl, message);
     }
 
+    /**
+     * 채널의 웹훅으로 메시지를 동기 전송 (아웃박스 디스패처용)
+     * 전송 실패 시 RestClientException 을 그대로 던지며, 429 응답은 HttpClientErrorException.TooManyRequests 로 전달된다
+     *
+     * @param channel 전송할 채널
+     * @param content 메시지 내용
+     */
+    public void post(NotificationChannel channel, String content) {
+        sendDiscordMessage(channel == NotificationChannel.MONEY ? moneyWebhookUrl : serverWebhookUrl, content);
+    }
+
     private void sendDiscordMessage(String webhookUrl, String content) {
         Map<String, String> body = new HashMap<>();
         body.put("content", content);
@@ -104,6 +137,6 @@ public class DiscordNotifier {
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
-        restTemplate.postForEntity(webhookUrl, request, String.class);
+        outboundHttpClient.exchange(OutboundHttpClient.DISCORD, webhookUrl, HttpMethod.POST, request, String.class);
     }
 }
@@ -0,0 +1,238 @@
+package footoff.api.global.common.component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import footoff.api.global.common.entity.NotificationOutbox;
+import footoff.api.global.common.enums.NotificationChannel;
+import footoff.api.global.common.enums.NotificationStatus;
+import footoff.api.global.common.event.NotificationEnqueuedEvent;
+import footoff.api.global.common.repository.NotificationOutboxRepository;
+import footoff.api.global.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 아웃박스 디스패처
+ * 커밋된 알림을 채널별로 모아 디스코드 메시지 길이 제한 안에서 하나의 메시지로 합쳐 전송한다
+ * 429 응답은 Retry-After 만큼 전송을 미루고, 그 외 실패는 지수 백오프로 재시도한다
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    /** 디스코드 메시지 content 최대 길이 */
+    static final int DISCORD_CONTENT_LIMIT = 2000;
+    private static final String MESSAGE_SEPARATOR = "\n";
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(5);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration STALE_SENDING = Duration.ofMinutes(5);
+    private static final int SENT_RETENTION_DAYS = 7;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final DiscordNotifier discordNotifier;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean rerun = new AtomicBoolean();
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+                                        DiscordNotifier discordNotifier,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${notification.outbox.batch-size:50}") int batchSize,
+                                        @Value("${notification.outbox.max-attempts:10}") int maxAttempts) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.discordNotifier = discordNotifier;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 알림을 저장한 트랜잭션이 커밋되면 알림 실행기에서 전송을 시작한다
+     * 한 트랜잭션에서 여러 알림이 저장되어도 이미 실행 중인 전송에 합쳐진다
+     */
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationEnqueued(NotificationEnqueuedEvent event) {
+        dispatch();
+    }
+
+    /**
+     * 재시도 시각이 도래한 알림과 비정상 종료로 남은 알림을 주기적으로 전송한다
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:30000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer released = transactionTemplate.execute(status ->
+                notificationOutboxRepository.releaseStale(now.minus(STALE_SENDING), now));
+        if (released != null && released > 0) {
+            log.warn("전송 중 상태로 남은 알림을 전송 대기로 되돌림 - 건수: {}", released);
+        }
+        dispatch();
+    }
+
+    /**
+     * 보관 기간이 지난 전송 완료 알림을 정리한다
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void purgeSent() {
+        Integer deleted = transactionTemplate.execute(status ->
+                notificationOutboxRepository.deleteSentBefore(LocalDateTime.now().minusDays(SENT_RETENTION_DAYS)));
+        log.info("전송 완료 알림 정리 - 삭제 건수: {}", deleted);
+    }
+
+    /**
+     * 전송 가능한 알림을 모두 전송하는 메서드
+     * 인스턴스 내에서는 한 번에 하나만 실행되며, 실행 중에 들어온 요청은 현재 실행이 끝난 뒤 한 번 더 처리한다
+     */
+    public void dispatch() {
+        rerun.set(true);
+        while (rerun.get() && running.compareAndSet(false, true)) {
+            try {
+                rerun.set(false);
+                for (NotificationChannel channel : NotificationChannel.values()) {
+                    dispatchChannel(channel);
+                }
+            } catch (Exception e) {
+                log.error("알림 아웃박스 전송 중 오류 발생 - 오류: {}", e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    private void dispatchChannel(NotificationChannel channel) {
+        while (true) {
+            List<NotificationOutbox> claimed = transactionTemplate.execute(status -> claim(channel));
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+
+            List<Batch> batches = coalesce(claimed);
+            for (int i = 0; i < batches.size(); i++) {
+                Batch batch = batches.get(i);
+                try {
+                    discordNotifier.post(channel, batch.content());
+                    transactionTemplate.executeWithoutResult(status ->
+                            notificationOutboxRepository.markSent(batch.ids(), LocalDateTime.now()));
+                } catch (HttpClientErrorException.TooManyRequests e) {
+                    // 요청 한도 초과는 전송 실패로 보지 않고, 이 채널의 남은 알림을 모두 Retry-After 이후로 미룬다
+                    Duration retryAfter = retryAfter(e);
+                    List<Long> remaining = new ArrayList<>();
+                    for (Batch rest : batches.subList(i, batches.size())) {
+                        remaining.addAll(rest.ids());
+                    }
+                    reschedule(remaining, 0, retryAfter, "429 Too Many Requests");
+                    log.warn("디스코드 요청 한도 초과 - 채널: {}, 재시도 대기: {}ms, 보류 건수: {}",
+                            channel, retryAfter.toMillis(), remaining.size());
+                    return;
+                } catch (RestClientException e) {
+                    reschedule(batch.ids(), 1, backoff(batch.maxAttempts()), e.getMessage());
+                    log.warn("디스코드 알림 전송 실패 - 채널: {}, 건수: {}, 시도: {}, 오류: {}",
+                            channel, batch.ids().size(), batch.maxAttempts() + 1, e.getMessage());
+                }
+            }
+
+            if (claimed.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 전송 대기 알림을 잠금 조회한 후 전송 중 상태로 변경하는 메서드 (짧은 트랜잭션 안에서 실행)
+     */
+    private List<NotificationOutbox> claim(NotificationChannel channel) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = notificationOutboxRepository.lockDueIds(channel.name(), now, batchSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<NotificationOutbox> outboxes = notificationOutboxRepository.findByIdInOrderByIdAsc(ids);
+        notificationOutboxRepository.updateStatus(ids, NotificationStatus.SENDING, now);
+        return outboxes;
+    }
+
+    private void reschedule(List<Long> ids, int attemptDelta, Duration delay, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.reschedule(
+                ids, attemptDelta, maxAttempts, now.plus(delay), lastError, now));
+    }
+
+    /**
+     * 알림을 생성 순서대로 디스코드 메시지 길이 제한 안에서 합치는 메서드
+     * 제한보다 긴 알림은 단독으로 전송한다
+     */
+    static List<Batch> coalesce(List<NotificationOutbox> outboxes) {
+        List<Batch> batches = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        int maxAttempts = 0;
+
+        for (NotificationOutbox outbox : outboxes) {
+            int added = content.isEmpty() ? outbox.getContent().length()
+                    : MESSAGE_SEPARATOR.length() + outbox.getContent().length();
+            if (!content.isEmpty() && content.length() + added > DISCORD_CONTENT_LIMIT) {
+                batches.add(new Batch(List.copyOf(ids), content.toString(), maxAttempts));
+                ids.clear();
+                content.setLength(0);
+                maxAttempts = 0;
+            }
+            if (!content.isEmpty()) {
+                content.append(MESSAGE_SEPARATOR);
+            }
+            content.append(outbox.getContent());
+            ids.add(outbox.getId());
+            maxAttempts = Math.max(maxAttempts, outbox.getAttempts());
+        }
+        if (!ids.isEmpty()) {
+            batches.add(new Batch(List.copyOf(ids), content.toString(), maxAttempts));
+        }
+        return batches;
+    }
+
+    /**
+     * 429 응답의 Retry-After 헤더(초 단위, 소수 가능)를 읽는 메서드
+     */
+    private static Duration retryAfter(HttpClientErrorException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        try {
+            return Duration.ofMillis((long) Math.ceil(Double.parseDouble(value) * 1000));
+        } catch (NumberFormatException ex) {
+            return DEFAULT_RETRY_AFTER;
+        }
+    }
+
+    private static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts, 10));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    /**
+     * 하나의 디스코드 메시지로 합쳐 전송할 알림 묶음
+     */
+    record Batch(List<Long> ids, String content, int maxAttempts) {
+    }
+}
@@ -0,0 +1,46 @@
+package footoff.api.global.common.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 배치 작업 1회 실행 결과 요약
+ */
+@Getter
+@ToString
+public class BatchRunSummary {
+
+    private final String jobName;
+    private final int total;
+    private final int succeeded;
+    private final int failed;
+    private final List<Long> failedIds;
+    private final long elapsedMillis;
+
+    /**
+     * BatchRunSummary 생성자
+     *
+     * @param jobName 배치 작업 이름
+     * @param total 처리 대상 수
+     * @param succeeded 성공 건수
+     * @param failed 재시도 후에도 실패한 건수
+     * @param failedIds 실패한 대상 ID 목록
+     * @param elapsedMillis 소요 시간(ms)
+     */
+    @Builder
+    public BatchRunSummary(String jobName, int total, int succeeded, int failed, List<Long> failedIds, long elapsedMillis) {
+        this.jobName = jobName;
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.failedIds = failedIds != null ? List.copyOf(failedIds) : List.of();
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public static BatchRunSummary empty(String jobName) {
+        return BatchRunSummary.builder().jobName(jobName).build();
+    }
+}
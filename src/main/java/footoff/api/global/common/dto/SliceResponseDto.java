@@ -0,0 +1,46 @@
+package footoff.api.global.common.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 슬라이스 페이지 응답 DTO 클래스
+ * 전체 개수를 세지 않고 현재 페이지 목록과 다음 페이지 존재 여부만 전달합니다.
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+@Schema(description = "슬라이스 페이지 응답")
+public class SliceResponseDto<T> {
+
+    @Schema(description = "현재 페이지의 목록")
+    private final List<T> content;
+
+    @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+    private final int page;
+
+    @Schema(description = "페이지 크기", example = "10")
+    private final int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    /**
+     * SliceResponseDto 생성자
+     *
+     * @param content 현재 페이지의 목록
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param hasNext 다음 페이지 존재 여부
+     */
+    @Builder
+    public SliceResponseDto(List<T> content, int page, int size, boolean hasNext) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+}
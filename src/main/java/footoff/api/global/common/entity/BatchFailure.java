@@ -0,0 +1,55 @@
+package footoff.api.global.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업에서 재시도 후에도 실패한 처리 대상을 기록하는 엔티티 클래스
+ * 운영자가 원인을 확인한 후 수동으로 재처리할 수 있도록 남겨둔다
+ */
+@Entity
+@Table(name = "batch_failure")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchFailure extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "error_type", nullable = false)
+    private String errorType;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    /**
+     * BatchFailure 엔티티를 생성하는 빌더 메소드
+     *
+     * @param jobName 배치 작업 이름
+     * @param targetId 처리 대상 ID
+     * @param attempts 시도 횟수
+     * @param errorType 마지막 예외 클래스 이름
+     * @param errorMessage 마지막 예외 메시지
+     */
+    @Builder
+    public BatchFailure(String jobName, Long targetId, int attempts, String errorType, String errorMessage) {
+        this.jobName = jobName;
+        this.targetId = targetId;
+        this.attempts = attempts;
+        this.errorType = errorType;
+        this.errorMessage = errorMessage;
+    }
+}
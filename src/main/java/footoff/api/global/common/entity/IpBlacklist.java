@@ -0,0 +1,48 @@
+package footoff.api.global.common.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 차단된 IP를 기록하는 엔티티 클래스
+ * 모든 API 서버가 주기적으로 읽어 같은 차단 목록을 사용하며, 재배포 후에도 유지된다
+ * 차단 해제는 행을 지우지 않고 만료 시각을 현재로 당겨 다른 서버에도 변경이 전달되도록 한다
+ */
+@Entity
+@Table(name = "ip_blacklist")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IpBlacklist extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 45)
+    private String ip;
+
+    @Column(length = 500)
+    private String reason;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * IpBlacklist 엔티티를 생성하는 빌더 메소드
+     *
+     * @param ip 차단 IP
+     * @param reason 차단 사유
+     * @param expiresAt 차단 만료 시각
+     */
+    @Builder
+    public IpBlacklist(String ip, String reason, LocalDateTime expiresAt) {
+        this.ip = ip;
+        this.reason = reason;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,65 @@
+package footoff.api.global.common.entity;
+
+import java.time.LocalDateTime;
+
+import footoff.api.global.common.enums.NotificationChannel;
+import footoff.api.global.common.enums.NotificationStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 알림 전송 대기열(아웃박스) 엔티티 클래스
+ * 알림을 발생시킨 트랜잭션과 함께 저장되고, 커밋 이후 디스패처가 읽어서 전송한다
+ * 상태 변경은 디스패처의 일괄 UPDATE 쿼리로만 수행한다
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationChannel channel;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * NotificationOutbox 엔티티를 생성하는 빌더 메소드 (전송 대기 상태로 생성)
+     *
+     * @param channel 전송할 채널
+     * @param content 전송할 메시지 내용
+     */
+    @Builder
+    public NotificationOutbox(NotificationChannel channel, String content) {
+        this.channel = channel;
+        this.content = content;
+        this.status = NotificationStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,6 @@
+package footoff.api.global.common.enums;
+
+public enum NotificationChannel {
+    MONEY,  // 환불 요청 웹훅
+    SERVER  // 서버 오류/보안 알림 웹훅
+}
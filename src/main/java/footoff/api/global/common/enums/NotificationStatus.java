@@ -0,0 +1,8 @@
+package footoff.api.global.common.enums;
+
+public enum NotificationStatus {
+    PENDING,  // 전송 대기
+    SENDING,  // 전송 중 (디스패처가 가져감)
+    SENT,     // 전송 완료
+    FAILED    // 최대 재시도 초과
+}
@@ -0,0 +1,19 @@
+package footoff.api.global.common.event;
+
+import footoff.api.global.common.enums.NotificationChannel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림이 아웃박스에 저장되었음을 알리는 이벤트
+ * 트랜잭션 커밋 후 디스패처를 깨워 주기적 폴링을 기다리지 않고 전송하는 데 사용된다
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationEnqueuedEvent {
+
+    /**
+     * 알림이 저장된 채널
+     */
+    private final NotificationChannel channel;
+}
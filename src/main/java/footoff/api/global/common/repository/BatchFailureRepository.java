@@ -0,0 +1,13 @@
+package footoff.api.global.common.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import footoff.api.global.common.entity.BatchFailure;
+
+/**
+ * 배치 작업 실패 기록에 접근하는 레포지토리 인터페이스
+ */
+@Repository
+public interface BatchFailureRepository extends JpaRepository<BatchFailure, Long> {
+}
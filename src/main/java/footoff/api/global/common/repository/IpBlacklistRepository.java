@@ -0,0 +1,79 @@
+package footoff.api.global.common.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import footoff.api.global.common.entity.IpBlacklist;
+import footoff.api.global.common.repository.projection.IpBlacklistView;
+
+/**
+ * 차단 IP 목록에 접근하는 레포지토리 인터페이스
+ */
+@Repository
+public interface IpBlacklistRepository extends JpaRepository<IpBlacklist, Long> {
+
+    /**
+     * 만료되지 않은 차단 목록 전체 조회 (서버 시작 및 전체 재구성 시 사용)
+     *
+     * @param now 기준 시간
+     * @return 차단 IP 목록
+     */
+    @Query("SELECT b.ip AS ip, b.expiresAt AS expiresAt, b.updatedAt AS updatedAt FROM IpBlacklist b WHERE b.expiresAt > :now")
+    List<IpBlacklistView> findActive(@Param("now") LocalDateTime now);
+
+    /**
+     * 지정 시각 이후 추가/변경/해제된 차단 목록 조회 (주기 동기화 시 사용)
+     *
+     * @param since 마지막 동기화 기준 시각
+     * @return 변경된 차단 IP 목록 (해제된 IP 는 만료 시각이 지난 값으로 포함)
+     */
+    @Query("SELECT b.ip AS ip, b.expiresAt AS expiresAt, b.updatedAt AS updatedAt FROM IpBlacklist b WHERE b.updatedAt >= :since")
+    List<IpBlacklistView> findChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * IP를 차단 목록에 추가하거나, 이미 있으면 사유와 만료 시각을 갱신 (만료 시각은 더 늦은 값 유지)
+     *
+     * @param ip 차단 IP
+     * @param reason 차단 사유
+     * @param expiresAt 차단 만료 시각
+     * @param now 수정 시간
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO ip_blacklist (ip, reason, expires_at, created_at, updated_at)
+            VALUES (:ip, :reason, :expiresAt, :now, :now)
+            ON DUPLICATE KEY UPDATE
+                reason = VALUES(reason),
+                expires_at = GREATEST(expires_at, VALUES(expires_at)),
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    int upsert(@Param("ip") String ip,
+               @Param("reason") String reason,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 차단 해제 (만료 시각을 현재로 당김)
+     *
+     * @param ip 해제할 IP
+     * @param now 기준 시간
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE IpBlacklist b SET b.expiresAt = :now, b.updatedAt = :now WHERE b.ip = :ip AND b.expiresAt > :now")
+    int expire(@Param("ip") String ip, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료 후 보관 기간이 지난 차단 기록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM IpBlacklist b WHERE b.expiresAt < :before")
+    int deleteExpiredBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,118 @@
+package footoff.api.global.common.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import footoff.api.global.common.entity.NotificationOutbox;
+import footoff.api.global.common.enums.NotificationStatus;
+
+/**
+ * 알림 아웃박스에 접근하는 레포지토리 인터페이스
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 전송 시각이 도래한 대기 알림 ID를 채널별로 잠금 조회 (다른 디스패처가 잠근 행은 건너뜀)
+     *
+     * @param channel 채널
+     * @param now 기준 시간
+     * @param limit 최대 조회 건수
+     * @return 알림 ID 목록 (생성 순)
+     */
+    @Query(value = """
+            SELECT o.id FROM notification_outbox o
+            WHERE o.channel = :channel AND o.status = 'PENDING' AND o.next_attempt_at <= :now
+            ORDER BY o.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockDueIds(@Param("channel") String channel, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 알림 목록을 ID 순으로 조회
+     */
+    List<NotificationOutbox> findByIdInOrderByIdAsc(List<Long> ids);
+
+    /**
+     * 알림 상태를 일괄 변경
+     *
+     * @param ids 알림 ID 목록
+     * @param status 변경할 상태
+     * @param now 수정 시간
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.updatedAt = :now WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") List<Long> ids, @Param("status") NotificationStatus status, @Param("now") LocalDateTime now);
+
+    /**
+     * 알림을 전송 완료로 변경
+     */
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutbox o
+            SET o.status = footoff.api.global.common.enums.NotificationStatus.SENT, o.sentAt = :now, o.updatedAt = :now
+            WHERE o.id IN :ids
+            """)
+    int markSent(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 알림을 다시 전송 대기로 되돌리고 다음 전송 시각을 지정
+     * 최대 시도 횟수에 도달한 알림은 실패로 변경한다
+     * (MySQL/MariaDB 는 SET 절을 왼쪽부터 적용하므로 상태를 시도 횟수보다 먼저 계산한다)
+     *
+     * @param ids 알림 ID 목록
+     * @param attemptDelta 증가시킬 시도 횟수 (429 응답처럼 전송 실패로 보지 않는 경우 0)
+     * @param maxAttempts 최대 시도 횟수
+     * @param nextAttemptAt 다음 전송 시각
+     * @param lastError 마지막 오류 메시지
+     * @param now 수정 시간
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutbox o
+            SET o.status = CASE WHEN o.attempts + :attemptDelta >= :maxAttempts
+                    THEN footoff.api.global.common.enums.NotificationStatus.FAILED
+                    ELSE footoff.api.global.common.enums.NotificationStatus.PENDING END,
+                o.attempts = o.attempts + :attemptDelta,
+                o.nextAttemptAt = :nextAttemptAt,
+                o.lastError = :lastError,
+                o.updatedAt = :now
+            WHERE o.id IN :ids
+            """)
+    int reschedule(@Param("ids") List<Long> ids,
+                   @Param("attemptDelta") int attemptDelta,
+                   @Param("maxAttempts") int maxAttempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 전송 중 상태로 오래 남아 있는 알림(디스패처 비정상 종료)을 전송 대기로 되돌림
+     */
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutbox o
+            SET o.status = footoff.api.global.common.enums.NotificationStatus.PENDING, o.updatedAt = :now
+            WHERE o.status = footoff.api.global.common.enums.NotificationStatus.SENDING AND o.updatedAt < :before
+            """)
+    int releaseStale(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 전송 완료 알림 삭제
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM NotificationOutbox o
+            WHERE o.status = footoff.api.global.common.enums.NotificationStatus.SENT AND o.sentAt < :before
+            """)
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,16 @@
+package footoff.api.global.common.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 차단 목록 동기화용 프로젝션
+ * 서버마다 보관하는 차단 목록에는 IP와 만료 시각만 필요하다
+ */
+public interface IpBlacklistView {
+
+    String getIp();
+
+    LocalDateTime getExpiresAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -1,121 +1,285 @@
 package footoff.api.global.common.service;
 
-import footoff.api.domain.gathering.entity.Gathering;
+import footoff.api.domain.gathering.event.GatheringChangedEvent;
 import footoff.api.domain.gathering.repository.GatheringRepository;
 import footoff.api.domain.gathering.service.GatheringService;
+import footoff.api.global.common.dto.BatchRunSummary;
+import footoff.api.global.common.entity.BatchFailure;
 import footoff.api.global.common.enums.GatheringStatus;
-import footoff.api.global.common.enums.GatheringUserStatus;
-import lombok.RequiredArgsConstructor;
+import footoff.api.global.common.repository.BatchFailureRepository;
+import footoff.api.global.config.AsyncConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class BatchService {
 
+    static final String AUTO_CANCEL_JOB = "autoCancelIfUnderMin";
+    private static final long RETRY_BACKOFF_MILLIS = 200L;
+
     private final GatheringRepository gatheringRepository;
     private final GatheringService gatheringService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer expirationChunkTimer;
+    private final Counter expiredRowCounter;
+    private final int expirationChunkSize;
+    private final BatchFailureRepository batchFailureRepository;
+    private final Executor autoCancelExecutor;
+    private final int autoCancelMaxAttempts;
+
+    public BatchService(GatheringRepository gatheringRepository,
+                        GatheringService gatheringService,
+                        ApplicationEventPublisher eventPublisher,
+                        TransactionTemplate transactionTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${batch.expiration.chunk-size:500}") int expirationChunkSize,
+                        BatchFailureRepository batchFailureRepository,
+                        @Qualifier(AsyncConfig.AUTO_CANCEL_EXECUTOR) Executor autoCancelExecutor,
+                        @Value("${batch.auto-cancel.max-attempts:3}") int autoCancelMaxAttempts) {
+        this.gatheringRepository = gatheringRepository;
+        this.gatheringService = gatheringService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchFailureRepository = batchFailureRepository;
+        this.autoCancelExecutor = autoCancelExecutor;
+        this.autoCancelMaxAttempts = autoCancelMaxAttempts;
+        this.expirationChunkTimer = Timer.builder("batch.gathering.expiration.chunk")
+                .description("모임 만료 청크 처리 시간")
+                .register(meterRegistry);
+        this.expiredRowCounter = Counter.builder("batch.gathering.expiration.rows")
+                .description("만료 처리된 모임 수")
+                .register(meterRegistry);
+        this.expirationChunkSize = expirationChunkSize;
+    }
 
     /**
      * 모임 시간이 지난 모임들의 상태를 만료(EXPIRATION)로 변경하는 메소드
-     * 비동기 처리 및 일괄 트랜잭션 처리
+     * 비동기 처리, 청크 단위 일괄 UPDATE 및 청크별 트랜잭션 커밋
+     * 엔티티를 로딩하지 않으므로 만료 대상이 많아도 메모리 사용량과 잠금 유지 시간이 청크 크기로 제한된다
      * 
      * @return 처리된 모임 수
      */
-    @Async
-    @Transactional
+    @Async(AsyncConfig.BATCH_EXECUTOR)
     public CompletableFuture<Integer> expirePassedGatherings() {
         long startTime = System.currentTimeMillis();
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         
-        // DB 쿼리에서 직접 조건 필터링 (모집중 상태이면서 모임 시간이 현재보다 이전인 모임들)
-        List<Gathering> passedGatherings = gatheringRepository.findByGatheringDateBeforeAndStatus(
-                now, GatheringStatus.RECRUITMENT);
-        
-        if (passedGatherings.isEmpty()) {
-            log.info("만료 처리할 모임이 없습니다.");
-            return CompletableFuture.completedFuture(0);
-        }
-        
-        log.info("만료 처리 대상 모임 수: {}", passedGatherings.size());
-        
-        List<Gathering> updatedGatherings = new ArrayList<>();
         int processedCount = 0;
+        int chunkCount = 0;
         
         try {
-            for (Gathering gathering : passedGatherings) {
-                gathering.updateStatus(GatheringStatus.EXPIRATION);
-                updatedGatherings.add(gathering);
-                processedCount++;
-                log.debug("모임 만료 처리 - 모임 ID: {}, 제목: {}", gathering.getId(), gathering.getTitle());
+            while (true) {
+                long chunkStartTime = System.nanoTime();
+                Integer expired = transactionTemplate.execute(status -> expireChunk(now));
+                int chunkSize = expired != null ? expired : 0;
+                if (chunkSize == 0) {
+                    break;
+                }
+                
+                chunkCount++;
+                processedCount += chunkSize;
+                expirationChunkTimer.record(System.nanoTime() - chunkStartTime, TimeUnit.NANOSECONDS);
+                expiredRowCounter.increment(chunkSize);
+                log.debug("모임 만료 청크 처리 - 청크: {}, 처리 건수: {}, 누적: {}", chunkCount, chunkSize, processedCount);
+                
+                if (chunkSize < expirationChunkSize) {
+                    break;
+                }
             }
             
-            // 모든 모임을 일괄 저장
-            gatheringRepository.saveAll(updatedGatherings);
+            if (processedCount == 0) {
+                log.info("만료 처리할 모임이 없습니다.");
+                return CompletableFuture.completedFuture(0);
+            }
             
             long endTime = System.currentTimeMillis();
-            log.info("모임 만료 처리 배치 작업 완료 - 처리된 모임 수: {}/{}, 소요 시간: {}ms", 
-                    processedCount, passedGatherings.size(), (endTime - startTime));
+            log.info("모임 만료 처리 배치 작업 완료 - 처리된 모임 수: {}, 청크 수: {}, 소요 시간: {}ms", 
+                    processedCount, chunkCount, (endTime - startTime));
             
             return CompletableFuture.completedFuture(processedCount);
         } catch (Exception e) {
-            log.error("모임 만료 일괄 처리 중 오류 발생 - 오류: {}", e.getMessage(), e);
-            throw e; // 트랜잭션 롤백을 위해 예외를 다시 던짐
+            // 이미 커밋된 청크는 유지되며 다음 실행에서 남은 모임부터 이어서 처리된다
+            log.error("모임 만료 일괄 처리 중 오류 발생 - 처리된 모임 수: {}, 오류: {}", processedCount, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 만료 대상 모임 한 청크를 잠금 조회 후 일괄 UPDATE 하는 메소드 (호출한 트랜잭션 안에서 실행)
+     *
+     * @param now 만료 기준 시간
+     * @return 만료 처리된 모임 수
+     */
+    private int expireChunk(LocalDateTime now) {
+        List<Long> gatheringIds = gatheringRepository.lockIdsByGatheringDateBeforeAndStatus(
+                GatheringStatus.RECRUITMENT.name(), now, expirationChunkSize);
+        if (gatheringIds.isEmpty()) {
+            return 0;
         }
+        
+        int updated = gatheringRepository.updateStatusByIds(
+                gatheringIds, GatheringStatus.RECRUITMENT, GatheringStatus.EXPIRATION, now);
+        // 커밋 후 해당 청크의 모임만 캐시에서 갱신된다
+        eventPublisher.publishEvent(new GatheringChangedEvent(gatheringIds, List.of()));
+        return updated;
     }
     
     /**
      * 만나기로 한 날짜 D-1까지 최소인원 미달시 모임을 자동 취소하는 메서드
-     * 비동기 처리 및 일괄 트랜잭션 처리
+     * 제한된 작업자 풀에서 병렬로 처리하며, 모임마다 별도 트랜잭션으로 취소하므로 일부 실패가 다른 모임의 취소를 되돌리지 않는다
+     * 일시적인 DB 오류는 재시도하고, 재시도 후에도 실패한 모임은 batch_failure 테이블에 기록한다
      * 
-     * @return 처리된 모임 수
+     * @return 실행 결과 요약
      */
-    @Async
-    @Transactional
-    public CompletableFuture<Integer> autoCancelIfUnderMin() {
+    @Async(AsyncConfig.BATCH_EXECUTOR)
+    public CompletableFuture<BatchRunSummary> autoCancelIfUnderMin() {
         long startTime = System.currentTimeMillis();
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         LocalDateTime tomorrow = now.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
         LocalDateTime dayAfterTomorrow = tomorrow.plusDays(1);
 
-        // DB 쿼리에서 최소 인원 미달 체크까지 포함하여 한 번에 필터링
-        List<Gathering> underMinGatherings = gatheringRepository.findGatheringsUnderMinUsers(
-                tomorrow, dayAfterTomorrow, GatheringStatus.RECRUITMENT, GatheringUserStatus.APPROVED);
+        // DB 쿼리에서 최소 인원 미달 체크까지 포함하여 ID만 조회
+        List<Long> underMinGatheringIds = gatheringRepository.findIdsUnderMinUsers(
+                tomorrow, dayAfterTomorrow, GatheringStatus.RECRUITMENT);
                 
-        if (underMinGatherings.isEmpty()) {
+        if (underMinGatheringIds.isEmpty()) {
             log.info("최소 인원 미달로 자동 취소할 모임이 없습니다.");
-            return CompletableFuture.completedFuture(0);
+            return CompletableFuture.completedFuture(BatchRunSummary.empty(AUTO_CANCEL_JOB));
         }
         
-        log.info("최소 인원 미달로 자동 취소 대상 모임 수: {}", underMinGatherings.size());
+        log.info("최소 인원 미달로 자동 취소 대상 모임 수: {}", underMinGatheringIds.size());
         
-        int processedCount = 0;
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(underMinGatheringIds.size());
+        for (Long gatheringId : underMinGatheringIds) {
+            results.add(CompletableFuture.supplyAsync(() -> cancelWithRetry(gatheringId), autoCancelExecutor));
+        }
         
-        try {
-            for (Gathering gathering : underMinGatherings) {
-                // 환불 처리 등 복잡한 로직이 포함된 메서드 호출
-                gatheringService.cancelGatheringBySystem(gathering.getId());
-                processedCount++;
-                log.debug("최소 인원 미달 모임 자동 취소 처리 - 모임 ID: {}, 제목: {}", gathering.getId(), gathering.getTitle());
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (!results.get(i).join()) {
+                failedIds.add(underMinGatheringIds.get(i));
             }
-            
-            long endTime = System.currentTimeMillis();
-            log.info("최소 인원 미달 모임 자동 취소 배치 작업 완료 - 처리된 모임 수: {}/{}, 소요 시간: {}ms", 
-                    processedCount, underMinGatherings.size(), (endTime - startTime));
-            
-            return CompletableFuture.completedFuture(processedCount);
+        }
+        
+        BatchRunSummary summary = BatchRunSummary.builder()
+                .jobName(AUTO_CANCEL_JOB)
+                .total(underMinGatheringIds.size())
+                .succeeded(underMinGatheringIds.size() - failedIds.size())
+                .failed(failedIds.size())
+                .failedIds(failedIds)
+                .elapsedMillis(System.currentTimeMillis() - startTime)
+                .build();
+        
+        if (failedIds.isEmpty()) {
+            log.info("최소 인원 미달 모임 자동 취소 배치 작업 완료 - {}", summary);
+        } else {
+            log.warn("최소 인원 미달 모임 자동 취소 배치 작업 일부 실패 - {}", summary);
+        }
+        return CompletableFuture.completedFuture(summary);
+    }
+
+    /**
+     * 모임 하나를 자동 취소하고, 일시적인 DB 오류는 최대 횟수까지 재시도하는 메서드
+     * 재시도할 수 없거나 재시도 횟수를 모두 소진한 경우 실패를 기록한다
+     *
+     * @param gatheringId 취소할 모임 ID
+     * @return 취소 성공 여부
+     */
+    private boolean cancelWithRetry(Long gatheringId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // 서비스 메서드의 트랜잭션이 모임 단위로 시작/커밋된다
+                gatheringService.cancelGatheringBySystem(gatheringId);
+                log.debug("최소 인원 미달 모임 자동 취소 처리 - 모임 ID: {}, 시도: {}", gatheringId, attempt);
+                return true;
+            } catch (TransientDataAccessException e) {
+                if (attempt >= autoCancelMaxAttempts) {
+                    recordFailure(gatheringId, attempt, e);
+                    return false;
+                }
+                log.warn("최소 인원 미달 모임 자동 취소 재시도 - 모임 ID: {}, 시도: {}, 오류: {}", gatheringId, attempt, e.getMessage());
+                if (!backoff(attempt)) {
+                    recordFailure(gatheringId, attempt, e);
+                    return false;
+                }
+            } catch (Exception e) {
+                recordFailure(gatheringId, attempt, e);
+                return false;
+            }
+        }
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 재시도 후에도 실패한 처리 대상을 기록하는 메서드
+     * 기록 자체가 실패해도 배치 작업의 나머지 처리는 계속한다
+     */
+    private void recordFailure(Long gatheringId, int attempts, Exception cause) {
+        log.error("최소 인원 미달 모임 자동 취소 실패 - 모임 ID: {}, 시도: {}, 오류: {}", gatheringId, attempts, cause.getMessage(), cause);
+        try {
+            batchFailureRepository.save(BatchFailure.builder()
+                    .jobName(AUTO_CANCEL_JOB)
+                    .targetId(gatheringId)
+                    .attempts(attempts)
+                    .errorType(cause.getClass().getName())
+                    .errorMessage(cause.getMessage())
+                    .build());
         } catch (Exception e) {
-            log.error("최소 인원 미달 모임 자동 취소 일괄 처리 중 오류 발생 - 오류: {}", e.getMessage(), e);
-            throw e; // 트랜잭션 롤백을 위해 예외를 다시 던짐
+            log.error("배치 실패 기록 저장 중 오류 발생 - 모임 ID: {}, 오류: {}", gatheringId, e.getMessage(), e);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 모집중인 모임의 승인/대기 참가자 카운터를 실제 참가 상태와 비교하여 보정하는 메소드
+     * 카운터는 참가 상태 변경 시 원자적으로 증감되지만, 수동 데이터 수정 등으로 생긴 차이를 주기적으로 복구한다
+     *
+     * @return 보정된 모임 수
+     */
+    @Transactional
+    public int reconcileParticipantCounts() {
+        long startTime = System.currentTimeMillis();
+
+        List<Long> driftedIds = gatheringRepository.findIdsWithParticipantCountDrift(GatheringStatus.RECRUITMENT.name());
+        if (driftedIds.isEmpty()) {
+            log.info("보정할 참가자 카운터가 없습니다.");
+            return 0;
+        }
+
+        int repairedCount = gatheringRepository.recalculateParticipantCounts(driftedIds);
+        eventPublisher.publishEvent(new GatheringChangedEvent(driftedIds, List.of()));
+
+        long endTime = System.currentTimeMillis();
+        log.warn("참가자 카운터 보정 완료 - 보정된 모임 수: {}, 모임 ID: {}, 소요 시간: {}ms",
+                repairedCount, driftedIds, (endTime - startTime));
+        return repairedCount;
+    }
+}
@@ -0,0 +1,53 @@
+package footoff.api.global.common.service;
+
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import footoff.api.global.common.component.DiscordNotifier;
+import footoff.api.global.common.entity.NotificationOutbox;
+import footoff.api.global.common.enums.NotificationChannel;
+import footoff.api.global.common.event.NotificationEnqueuedEvent;
+import footoff.api.global.common.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 알림을 아웃박스에 저장하는 서비스
+ * 호출한 트랜잭션에 참여하므로 비즈니스 변경이 롤백되면 알림도 저장되지 않고,
+ * 실제 전송은 커밋 이후 디스패처가 수행한다
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final DiscordNotifier discordNotifier;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 환불 요청 알림을 아웃박스에 저장하는 메서드
+     *
+     * @param data 환불 알림 데이터 (닉네임, 모임명, 환불 계좌)
+     */
+    @Transactional
+    public void enqueueRefund(Map<String, String> data) {
+        enqueue(NotificationChannel.MONEY, discordNotifier.formatMoneyMessage(data));
+    }
+
+    /**
+     * 알림을 아웃박스에 저장하는 메서드
+     *
+     * @param channel 전송할 채널
+     * @param content 메시지 내용
+     */
+    @Transactional
+    public void enqueue(NotificationChannel channel, String content) {
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .channel(channel)
+                .content(content)
+                .build());
+        eventPublisher.publishEvent(new NotificationEnqueuedEvent(channel));
+    }
+}
@@ -0,0 +1,163 @@
+package footoff.api.global.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 실행기 및 스케줄러 설정
+ * 작업 종류(배치, 알림, 자동 취소 작업자, 스케줄링)별로 크기가 제한된 전용 풀을 사용해 서로의 스레드를 점유하지 않도록 한다
+ * 풀 크기/활성 스레드/큐 길이 지표는 액추에이터가 ThreadPoolTaskExecutor 빈마다 자동으로 등록하며,
+ * 여기서는 작업 대기/실행 시간과 거부 횟수 지표를 추가한다
+ */
+@Slf4j
+@EnableAsync
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String BATCH_EXECUTOR = "batchExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String AUTO_CANCEL_EXECUTOR = "autoCancelExecutor";
+
+    private static final int SHUTDOWN_AWAIT_SECONDS = 30;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 배치 작업 실행기
+     * 같은 배치가 겹쳐 실행되지 않도록 작게 유지하며, 가득 찬 경우 스케줄러 스레드를 점유하지 않도록 거부한다
+     */
+    @Bean(name = BATCH_EXECUTOR)
+    public ThreadPoolTaskExecutor batchExecutor() {
+        return newExecutor(BATCH_EXECUTOR, "batch-", 2, 2, 10, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 외부 알림(디스코드 등) 전송 실행기
+     * 요청 처리 스레드가 외부 호출을 기다리지 않도록 하며, 큐가 가득 찬 경우 호출 스레드에서 직접 전송한다
+     */
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return newExecutor(NOTIFICATION_EXECUTOR, "notify-", 2, 4, 500, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 최소 인원 미달 자동 취소 작업자 풀
+     * 모임마다 별도 트랜잭션(DB 커넥션)을 사용하므로 커넥션 풀보다 작게 유지하고,
+     * 큐가 가득 차면 호출 스레드(배치 실행기)에서 직접 실행해 작업이 유실되지 않도록 한다
+     */
+    @Bean(name = AUTO_CANCEL_EXECUTOR)
+    public ThreadPoolTaskExecutor autoCancelExecutor(@Value("${batch.auto-cancel.pool-size:4}") int poolSize) {
+        return newExecutor(AUTO_CANCEL_EXECUTOR, "auto-cancel-", poolSize, poolSize, poolSize * 25,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 스케줄링(정기 점검/정리 작업) 전용 스케줄러
+     * 배치 작업은 배치 실행기로 넘기므로 오래 걸리는 작업이 다른 스케줄 작업을 막지 않는다
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(3);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setErrorHandler(e -> log.error("스케줄 작업 실행 중 오류 발생 - 오류: {}", e.getMessage(), e));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(SHUTDOWN_AWAIT_SECONDS);
+        return scheduler;
+    }
+
+    /**
+     * 실행기를 지정하지 않은 @Async 메서드는 배치 실행기를 사용한다
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return batchExecutor();
+    }
+
+    /**
+     * 반환값이 없는 @Async 메서드에서 발생한 예외를 기록한다
+     */
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 작업 실행 중 오류 발생 - 메서드: {}, 오류: {}",
+                method.getDeclaringClass().getSimpleName() + "." + method.getName(), e.getMessage(), e);
+    }
+
+    private ThreadPoolTaskExecutor newExecutor(String name, String threadNamePrefix, int corePoolSize, int maxPoolSize,
+                                               int queueCapacity, RejectedExecutionHandler rejectionPolicy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(timed(name));
+        executor.setRejectedExecutionHandler(countRejections(name, rejectionPolicy));
+        // 종료 시 새 작업은 받지 않고 실행/대기 중인 작업이 끝날 때까지 기다린다
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(SHUTDOWN_AWAIT_SECONDS);
+        return executor;
+    }
+
+    /**
+     * 작업의 큐 대기 시간과 실행 시간을 기록하는 데코레이터
+     */
+    private TaskDecorator timed(String name) {
+        Timer waitTimer = Timer.builder("executor.task.wait")
+                .description("작업이 큐에서 대기한 시간")
+                .tag("name", name)
+                .register(meterRegistry);
+        Timer executionTimer = Timer.builder("executor.task.execution")
+                .description("작업 실행 시간")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        return task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    /**
+     * 거부 횟수를 기록한 후 지정한 거부 정책에 위임하는 핸들러
+     */
+    private RejectedExecutionHandler countRejections(String name, RejectedExecutionHandler delegate) {
+        Counter rejected = Counter.builder("executor.task.rejected")
+                .description("큐가 가득 차 거부된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        return (task, executor) -> {
+            rejected.increment();
+            log.warn("실행기 작업 거부 - 실행기: {}, 활성 스레드: {}, 큐 길이: {}",
+                    name, executor.getActiveCount(), executor.getQueue().size());
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+}
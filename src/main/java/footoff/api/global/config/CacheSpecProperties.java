@@ -0,0 +1,85 @@
+package footoff.api.global.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 캐시별 크기/만료 정책 설정
+ * application.yml 의 cache.defaults 로 공통 정책을, cache.specs.{캐시 이름} 으로 캐시마다 다른 항목만 설정한다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CacheSpecProperties {
+
+    /**
+     * 모든 캐시에 공통으로 적용되는 기본 정책 (캐시별 설정에 없는 항목은 이 값을 따른다)
+     */
+    private Spec defaults = Spec.builtIn();
+
+    /**
+     * 캐시 이름별 정책
+     */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    /**
+     * 캐시 이름에 해당하는 정책을 조회하는 메서드
+     * 캐시별 설정을 기본 정책 위에 덮어쓴다
+     *
+     * @param cacheName 캐시 이름
+     * @return 캐시 정책 (개별 설정이 없으면 기본 정책)
+     */
+    public Spec resolve(String cacheName) {
+        Spec override = specs.get(cacheName);
+        return override != null ? override.mergedOver(defaults) : defaults;
+    }
+
+    /**
+     * 단일 캐시 정책
+     * maximumSize 와 maximumWeight 는 동시에 지정할 수 없으며, maximumWeight 는 목록형 값의 원소 수를 가중치로 사용한다
+     * 지정하지 않은 항목은 null 로 남아 병합 시 기본 정책 값으로 채워진다
+     */
+    @Getter
+    @Setter
+    public static class Spec {
+        private Long maximumSize;
+        private Long maximumWeight;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+
+        /**
+         * application.yml 에 기본 정책이 없을 때 사용하는 내장 기본값
+         */
+        static Spec builtIn() {
+            Spec spec = new Spec();
+            spec.maximumSize = 1_000L;
+            return spec;
+        }
+
+        /**
+         * 이 정책을 기본 정책 위에 덮어쓴 새 정책을 만드는 메서드
+         * 크기 제한(maximumSize/maximumWeight)과 만료(expireAfterWrite/expireAfterAccess)는 각각 한 묶음으로 다룬다
+         * 묶음 중 하나라도 지정하면 그 묶음은 이 정책의 값만 사용하고, 하나도 지정하지 않으면 기본 정책 값을 사용한다
+         * (예: expireAfterAccess 만 지정한 캐시에 기본 expireAfterWrite 가 함께 적용되지 않는다)
+         *
+         * @param base 기본 정책
+         * @return 병합된 정책
+         */
+        Spec mergedOver(Spec base) {
+            Spec merged = new Spec();
+            boolean sized = maximumSize != null || maximumWeight != null;
+            merged.maximumSize = sized ? maximumSize : base.maximumSize;
+            merged.maximumWeight = sized ? maximumWeight : base.maximumWeight;
+            boolean expiring = expireAfterWrite != null || expireAfterAccess != null;
+            merged.expireAfterWrite = expiring ? expireAfterWrite : base.expireAfterWrite;
+            merged.expireAfterAccess = expiring ? expireAfterAccess : base.expireAfterAccess;
+            return merged;
+        }
+    }
+}
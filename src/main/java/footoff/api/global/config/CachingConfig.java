@@ -1,33 +1,90 @@
 package footoff.api.global.config;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import footoff.api.global.cache.component.GatheringCacheIndex;
+import footoff.api.global.cache.component.IndexedCaffeineCache;
+
 /**
  * 애플리케이션 캐싱 설정
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CachingConfig {
 
+    public static final List<String> CACHE_NAMES = List.of(
+            "gatheringsCache",
+            "upcomingGatheringsCache",
+            "userGatheringsCache",
+            "organizerGatheringsCache",
+            "socialAccountCache"
+    );
+
     /**
      * 캐시 매니저 설정
-     * 메모리 기반의 캐시 매니저를 설정하여 자주 요청되는 데이터에 대한 DB 접근을 줄입니다.
-     * 
+     * Caffeine(W-TinyLFU) 기반으로 캐시마다 최대 크기/가중치와 만료 정책을 적용하고 적중률 통계를 기록합니다.
+     * 캐시 항목이 담고 있는 모임 ID는 역색인에 기록되어 모임 단위 무효화에 사용됩니다.
+     * 등록되지 않은 이름의 캐시는 만들지 않습니다.
+     *
+     * @param properties 캐시별 정책 설정
+     * @param gatheringCacheIndex 모임 ID 역색인
      * @return CacheManager 인스턴스
      */
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(java.util.Arrays.asList(
-            "gatheringsCache", 
-            "upcomingGatheringsCache",
-            "userGatheringsCache",
-            "organizerGatheringsCache"
-        ));
+    public CacheManager cacheManager(CacheSpecProperties properties, GatheringCacheIndex gatheringCacheIndex) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new IndexedCaffeineCache(name, cache, isAllowNullValues(), gatheringCacheIndex);
+            }
+        };
+        // 고정 캐시 목록을 먼저 지정한 뒤 캐시별 정책으로 교체한다
+        cacheManager.setCacheNames(CACHE_NAMES);
+        for (String cacheName : CACHE_NAMES) {
+            cacheManager.registerCustomCache(cacheName, buildCache(cacheName, properties.resolve(cacheName), gatheringCacheIndex));
+        }
         return cacheManager;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 캐시 정책에 맞는 Caffeine 캐시를 생성하는 메서드
+     *
+     * @param cacheName 캐시 이름
+     * @param spec 캐시 정책
+     * @param gatheringCacheIndex 축출된 항목을 정리할 모임 ID 역색인
+     * @return 통계가 활성화된 Caffeine 캐시
+     */
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(String cacheName, CacheSpecProperties.Spec spec,
+                                                                               GatheringCacheIndex gatheringCacheIndex) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .recordStats()
+                .evictionListener((key, value, cause) -> gatheringCacheIndex.unregister(cacheName, key));
+
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight())
+                    .weigher((key, value) -> value instanceof Collection<?> collection ? Math.max(1, collection.size()) : 1);
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+
+        return builder.build();
+    }
+}
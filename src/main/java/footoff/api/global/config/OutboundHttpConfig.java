@@ -0,0 +1,31 @@
+package footoff.api.global.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 외부 API 호출 설정
+ */
+@Configuration
+@EnableConfigurationProperties(OutboundHttpProperties.class)
+public class OutboundHttpConfig {
+
+    /**
+     * 외부 API 대상별 서킷 브레이커 저장소
+     * 서킷 상태/실패율/호출 수 지표(resilience4j.circuitbreaker.*)를 함께 등록한다
+     *
+     * @param meterRegistry 지표 저장소
+     * @return CircuitBreakerRegistry 인스턴스
+     */
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
@@ -0,0 +1,100 @@
+package footoff.api.global.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 외부 API 호출 대상별 커넥션 풀/타임아웃/서킷 브레이커 설정
+ * application.yml 의 http.outbound.defaults 로 공통 정책을, http.outbound.destinations.{대상 이름} 으로 대상마다 다른 항목만 설정한다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http.outbound")
+public class OutboundHttpProperties {
+
+    /**
+     * 모든 대상에 공통으로 적용되는 기본 정책 (대상별 설정에 없는 항목은 이 값을 따른다)
+     */
+    private Spec defaults = Spec.builtIn();
+
+    /**
+     * 대상 이름별 정책 (기본 정책과 다른 항목만 지정한다)
+     */
+    private Map<String, Spec> destinations = new LinkedHashMap<>();
+
+    /**
+     * 대상 이름에 해당하는 정책을 조회하는 메서드
+     * 대상별 설정을 기본 정책 위에 항목 단위로 덮어쓴다
+     *
+     * @param destination 대상 이름
+     * @return 대상 정책 (개별 설정이 없으면 기본 정책)
+     */
+    public Spec resolve(String destination) {
+        Spec override = destinations.get(destination);
+        return override != null ? override.mergedOver(defaults) : defaults;
+    }
+
+    /**
+     * 단일 대상 정책
+     * 지정하지 않은 항목은 null 로 남아 병합 시 기본 정책 값으로 채워진다
+     */
+    @Getter
+    @Setter
+    public static class Spec {
+        /** 대상 호스트로 동시에 열 수 있는 최대 커넥션 수 */
+        private Integer maxConnections;
+        /** TCP 연결 타임아웃 */
+        private Duration connectTimeout;
+        /** 응답 대기 타임아웃 */
+        private Duration responseTimeout;
+        /** 풀에서 커넥션을 얻기까지 기다리는 최대 시간 */
+        private Duration connectionRequestTimeout;
+        /** 서킷을 여는 실패율(%) */
+        private Float failureRateThreshold;
+        /** 느린 호출로 판단하는 응답 시간 */
+        private Duration slowCallDurationThreshold;
+        /** 실패율을 계산하는 최근 호출 수 */
+        private Integer slidingWindowSize;
+        /** 서킷이 열린 후 다시 시도하기까지 대기 시간 */
+        private Duration waitDurationInOpenState;
+
+        /**
+         * application.yml 에 기본 정책이 없을 때 사용하는 내장 기본값
+         */
+        static Spec builtIn() {
+            Spec spec = new Spec();
+            spec.maxConnections = 20;
+            spec.connectTimeout = Duration.ofSeconds(2);
+            spec.responseTimeout = Duration.ofSeconds(5);
+            spec.connectionRequestTimeout = Duration.ofSeconds(1);
+            spec.failureRateThreshold = 50f;
+            spec.slowCallDurationThreshold = Duration.ofSeconds(3);
+            spec.slidingWindowSize = 20;
+            spec.waitDurationInOpenState = Duration.ofSeconds(30);
+            return spec;
+        }
+
+        /**
+         * 이 정책에 지정된 항목은 그대로 두고, 지정되지 않은 항목을 기본 정책 값으로 채운 새 정책을 만드는 메서드
+         */
+        Spec mergedOver(Spec base) {
+            Spec merged = new Spec();
+            merged.maxConnections = Objects.requireNonNullElse(maxConnections, base.maxConnections);
+            merged.connectTimeout = Objects.requireNonNullElse(connectTimeout, base.connectTimeout);
+            merged.responseTimeout = Objects.requireNonNullElse(responseTimeout, base.responseTimeout);
+            merged.connectionRequestTimeout = Objects.requireNonNullElse(connectionRequestTimeout, base.connectionRequestTimeout);
+            merged.failureRateThreshold = Objects.requireNonNullElse(failureRateThreshold, base.failureRateThreshold);
+            merged.slowCallDurationThreshold = Objects.requireNonNullElse(slowCallDurationThreshold, base.slowCallDurationThreshold);
+            merged.slidingWindowSize = Objects.requireNonNullElse(slidingWindowSize, base.slidingWindowSize);
+            merged.waitDurationInOpenState = Objects.requireNonNullElse(waitDurationInOpenState, base.waitDurationInOpenState);
+            return merged;
+        }
+    }
+}
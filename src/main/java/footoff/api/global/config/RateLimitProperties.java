@@ -0,0 +1,59 @@
+package footoff.api.global.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 속도 제한 설정
+ * application.yml 의 security.rate-limit.routes.{경로 분류} 항목으로 경로 접두사마다 별도 한도를 지정한다
+ * 어느 분류에도 속하지 않는 경로는 기본 한도를 적용한다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 메모리에 보관하는 최대 (경로 분류, IP) 수 (초과 시 오래 사용하지 않은 항목부터 제거)
+     */
+    private int maxTrackedKeys = 100_000;
+
+    /**
+     * 분류되지 않은 경로에 적용되는 기본 한도
+     */
+    private Limit defaults = new Limit();
+
+    /**
+     * 경로 분류 이름별 한도 (먼저 선언한 분류부터 접두사를 비교)
+     */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    /**
+     * 단일 한도
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        /** 지속적으로 허용하는 초당 요청 수 */
+        private double permitsPerSecond = 20;
+        /** 한 번에 몰려도 허용하는 최대 요청 수 */
+        private int burst = 40;
+    }
+
+    /**
+     * 경로 분류별 한도
+     */
+    @Getter
+    @Setter
+    public static class Route extends Limit {
+        /** 분류에 속하는 경로 접두사 */
+        private List<String> pathPrefixes = new ArrayList<>();
+    }
+}
@@ -1,32 +1,61 @@
 package footoff.api.global.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.firewall.HttpFirewall;
 import org.springframework.security.web.firewall.StrictHttpFirewall;
 
+import footoff.api.domain.auth.util.JwtUtil;
+import footoff.api.global.filter.JwtAuthenticationFilter;
+
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
+	/**
+	 * 보안 필터 체인 설정
+	 * 세션 없이 요청마다 Bearer 토큰으로 인증합니다. (JwtAuthenticationFilter)
+	 * 로그인, 문서, 헬스 체크, 공개 모임 조회를 제외한 API 는 인증이 필요하며, 인증 없이 호출하면 401 을 반환합니다.
+	 */
 	@Bean
-	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtUtil jwtUtil) throws Exception {
 		http
 			.csrf(AbstractHttpConfigurer::disable)
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+			.addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+			.exceptionHandling(exceptions -> exceptions
+					.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
 			.authorizeHttpRequests(requests -> requests
-					// 프론트엔드 개발에 필요한 경로 허용
-					.requestMatchers("/api/**", "/auth/**", "/login/**").permitAll()
+					// 소셜 로그인 (토큰 발급)
+					.requestMatchers("/auth/**", "/login/**").permitAll()
 					// Swagger/OpenAPI 문서 접근 허용
 					.requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 					// 헬스 체크 엔드포인트 허용
 					.requestMatchers("/api/health").permitAll()
+					// 관리자 API 는 X-Admin-Key 로 확인 (/admin/ 경로는 MaliciousRequestFilter 가 차단하므로 /api/management 사용)
+					.requestMatchers("/api/management/**").permitAll()
+					// 홈 피드는 차단 관계 필터링에 사용자 정보가 필요
+					.requestMatchers(HttpMethod.GET, "/api/gatherings/feed").authenticated()
+					// 로그인 없이 볼 수 있는 모임 조회 (로그인한 경우 사용자 정보를 함께 반영)
+					.requestMatchers(HttpMethod.GET,
+							"/api/gatherings/upcoming",
+							"/api/gatherings/search/**",
+							"/api/gatherings/{id}",
+							"/api/gatherings/{id}/detail",
+							"/api/gatherings/{gatheringId}/users").permitAll()
+					// 그 외 API 는 로그인 필요
+					.requestMatchers("/api/**").authenticated()
 					// 정적 리소스 요청 제한 - 프론트팀이 사용하는 경로만 허용
 					.requestMatchers(HttpMethod.GET, "/css/**", "/js/**", "/images/**").permitAll()
 					// 그 외 모든 요청 거부
@@ -0,0 +1,43 @@
+package footoff.api.global.filter;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import footoff.api.domain.auth.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Authorization 헤더의 Bearer 토큰으로 요청을 인증하는 필터
+ * 토큰 클레임만으로 인증 정보를 만들므로 세션 저장소나 DB 조회 없이 동작한다
+ * 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘기고, 접근 허용 여부는 인가 설정이 판단한다
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            jwtUtil.verify(header.substring(BEARER_PREFIX.length())).ifPresent(user -> {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(user, null, user.authorities()));
+                SecurityContextHolder.setContext(context);
+            });
+        }
+        filterChain.doFilter(request, response);
+    }
+}
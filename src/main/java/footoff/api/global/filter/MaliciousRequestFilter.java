@@ -12,16 +12,18 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import footoff.api.global.security.ClientIpResolver;
+import footoff.api.global.security.RequestRateLimiter;
+import footoff.api.global.security.RequestScanner;
 import footoff.api.global.security.SecurityMonitoringService;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * 악의적인 요청을 감지하고 로깅하는 필터
- * 일반적인 해킹 시도 패턴을 감지합니다.
+ * 일반적인 해킹 시도 패턴을 감지하고, IP별 요청 속도 제한을 초과한 요청은 429로 거부합니다.
+ * 블랙리스트(모든 서버 공유)에 오른 IP의 요청은 다른 검사 없이 403으로 거부합니다.
+ * IP는 로드 밸런서 뒤에서도 클라이언트별로 구분되도록 신뢰하는 프록시의 X-Forwarded-For 로 결정합니다. (ClientIpResolver)
  */
 @Slf4j
 @Component
@@ -29,30 +31,14 @@ import java.util.regex.Pattern;
 public class MaliciousRequestFilter implements Filter {
 
     private final SecurityMonitoringService securityMonitoringService;
+    private final RequestScanner requestScanner;
+    private final ClientIpResolver clientIpResolver;
 
-    // 의심스러운 경로 패턴 (PHP, shell, admin 페이지 등)
-    private static final List<Pattern> SUSPICIOUS_PATHS = Arrays.asList(
-            Pattern.compile(".+\\.php$"),
-            Pattern.compile(".+\\.sh$"),
-            Pattern.compile(".+\\.cgi$"),
-            Pattern.compile(".*/(wp|wordpress|admin|shell|cmd|powershell)/.*"),
-            Pattern.compile(".*/actuator(?!/health$).*"),
-            Pattern.compile(".*/get\\.php$"),
-            Pattern.compile(".*/download/powershell/.*")
-    );
-    
-    // 의심스러운 쿼리 파라미터
-    private static final List<Pattern> SUSPICIOUS_PARAMS = Arrays.asList(
-            Pattern.compile(".*select.*from.*"),
-            Pattern.compile(".*union.*select.*"),
-            Pattern.compile(".*exec.*"),
-            Pattern.compile(".*'.*or.*'.*'.*=.*'"),
-            Pattern.compile(".*\".*or.*\".*\".*=.*\""),
-            Pattern.compile(".*\\\\x[0-9a-fA-F]{2}.*") // 인코딩된 값 감지
-    );
-    
-    public MaliciousRequestFilter(SecurityMonitoringService securityMonitoringService) {
+    public MaliciousRequestFilter(SecurityMonitoringService securityMonitoringService, RequestScanner requestScanner,
+                                  ClientIpResolver clientIpResolver) {
         this.securityMonitoringService = securityMonitoringService;
+        this.requestScanner = requestScanner;
+        this.clientIpResolver = clientIpResolver;
     }
 
     @Override
@@ -64,14 +50,31 @@ public class MaliciousRequestFilter implements Filter {
         
         String requestURI = httpRequest.getRequestURI();
         String queryString = httpRequest.getQueryString();
-        String remoteAddr = httpRequest.getRemoteAddr();
+        String remoteAddr = clientIpResolver.resolve(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
         
+        // 차단된 IP (메모리 확인만 하므로 가장 먼저 검사)
+        if (securityMonitoringService.isBlacklisted(remoteAddr)) {
+            httpResponse.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        
+        // 요청 속도 제한
+        RequestRateLimiter.Decision decision = securityMonitoringService.checkRateLimit(remoteAddr, requestURI);
+        if (!decision.allowed()) {
+            httpResponse.setHeader("Retry-After", String.valueOf(decision.retryAfterSeconds()));
+            httpResponse.setStatus(429);
+            return;
+        }
+        
+        // 경로는 한 번만 검사하여 필터와 모니터링 서비스가 함께 사용
+        int pathThreats = requestScanner.scanPath(requestURI);
+        
         // 모든 요청 기록
-        securityMonitoringService.recordRequest(remoteAddr, requestURI, userAgent);
+        securityMonitoringService.recordRequest(remoteAddr, requestURI, userAgent, pathThreats);
         
         // 의심스러운 경로 감지
-        if (isSuspiciousPath(requestURI)) {
+        if (RequestScanner.Threat.SUSPICIOUS_PATH.in(pathThreats)) {
             logMaliciousRequest(remoteAddr, requestURI, queryString, "의심스러운 경로 감지");
             securityMonitoringService.recordSuspiciousRequest(remoteAddr, requestURI, "의심스러운 경로: " + requestURI);
             httpResponse.setStatus(HttpServletResponse.SC_FORBIDDEN);
@@ -79,7 +82,7 @@ public class MaliciousRequestFilter implements Filter {
         }
         
         // 의심스러운 쿼리 파라미터 감지
-        if (queryString != null && isSuspiciousQueryParam(queryString)) {
+        if (queryString != null && RequestScanner.Threat.SUSPICIOUS_QUERY.in(requestScanner.scanQuery(queryString))) {
             logMaliciousRequest(remoteAddr, requestURI, queryString, "의심스러운 쿼리 파라미터 감지");
             securityMonitoringService.recordSuspiciousRequest(remoteAddr, requestURI, "의심스러운 쿼리: " + queryString);
             httpResponse.setStatus(HttpServletResponse.SC_FORBIDDEN);
@@ -89,24 +92,6 @@ public class MaliciousRequestFilter implements Filter {
         chain.doFilter(request, response);
     }
     
-    /**
-     * 경로가 의심스러운지 확인
-     * @param path 요청 경로
-     * @return 의심스러운 경로이면 true
-     */
-    private boolean isSuspiciousPath(String path) {
-        return SUSPICIOUS_PATHS.stream().anyMatch(pattern -> pattern.matcher(path).matches());
-    }
-    
-    /**
-     * 쿼리 파라미터가 의심스러운지 확인
-     * @param queryString 쿼리 문자열
-     * @return 의심스러운 파라미터이면 true
-     */
-    private boolean isSuspiciousQueryParam(String queryString) {
-        return SUSPICIOUS_PARAMS.stream().anyMatch(pattern -> pattern.matcher(queryString.toLowerCase()).matches());
-    }
-    
     /**
      * 악의적인 요청 로깅
      * @param remoteAddr 원격 주소
@@ -0,0 +1,13 @@
+package footoff.api.global.http;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 서킷 브레이커가 열려 외부 API 호출을 보내지 않고 즉시 실패시킬 때 발생하는 예외
+ */
+public class OutboundCallRejectedException extends RestClientException {
+
+    public OutboundCallRejectedException(String destination, Throwable cause) {
+        super("외부 API 호출 차단 (서킷 열림): " + destination, cause);
+    }
+}
@@ -0,0 +1,152 @@
+package footoff.api.global.http;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import footoff.api.global.config.OutboundHttpProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 API(카카오, 애플, 디스코드) 호출 공용 클라이언트
+ * 대상마다 별도의 커넥션 풀과 타임아웃, 서킷 브레이커를 두어 한 대상의 장애가 다른 대상이나 요청 처리 스레드로 번지지 않도록 한다
+ * 요청 지표(http.client.requests)는 RestTemplateBuilder 가, 커넥션 풀과 서킷 브레이커 지표는 생성 시 등록한다
+ */
+@Slf4j
+@Component
+public class OutboundHttpClient implements DisposableBean {
+
+    public static final String KAKAO = "kakao";
+    public static final String APPLE = "apple";
+    public static final String DISCORD = "discord";
+
+    private static final List<String> DESTINATIONS = List.of(KAKAO, APPLE, DISCORD);
+
+    private final Map<String, Destination> destinations = new HashMap<>();
+
+    public OutboundHttpClient(OutboundHttpProperties properties,
+                              RestTemplateBuilder restTemplateBuilder,
+                              CircuitBreakerRegistry circuitBreakerRegistry,
+                              MeterRegistry meterRegistry) {
+        for (String name : DESTINATIONS) {
+            OutboundHttpProperties.Spec spec = properties.resolve(name);
+            PoolingHttpClientConnectionManager connectionManager = connectionManager(spec);
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+            CloseableHttpClient httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.of(spec.getConnectionRequestTimeout()))
+                            .setResponseTimeout(Timeout.of(spec.getResponseTimeout()))
+                            .build())
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofSeconds(30))
+                    .build();
+            RestTemplate restTemplate = restTemplateBuilder
+                    .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                    .build();
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name, circuitBreakerConfig(spec));
+
+            destinations.put(name, new Destination(restTemplate, httpClient, circuitBreaker));
+        }
+    }
+
+    /**
+     * 대상의 서킷 브레이커를 거쳐 HTTP 요청을 전송하는 메서드
+     * 서킷이 열려 있으면 요청을 보내지 않고 즉시 실패한다
+     *
+     * @param destination 대상 이름 ({@link #KAKAO}, {@link #APPLE}, {@link #DISCORD})
+     * @param url 요청 URL
+     * @param method HTTP 메서드
+     * @param request 요청 헤더/본문
+     * @param responseType 응답 본문 타입
+     * @return 응답
+     * @throws OutboundCallRejectedException 서킷이 열려 있는 경우
+     * @throws org.springframework.web.client.RestClientException 요청이 실패한 경우
+     */
+    public <T> ResponseEntity<T> exchange(String destination, String url, HttpMethod method,
+                                          HttpEntity<?> request, Class<T> responseType) {
+        Destination target = destinations.get(destination);
+        if (target == null) {
+            throw new IllegalArgumentException("등록되지 않은 외부 API 대상입니다: " + destination);
+        }
+        try {
+            return target.circuitBreaker().executeSupplier(
+                    () -> target.restTemplate().exchange(url, method, request, responseType));
+        } catch (CallNotPermittedException e) {
+            log.warn("외부 API 호출 차단 (서킷 열림) - 대상: {}", destination);
+            throw new OutboundCallRejectedException(destination, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Destination destination : destinations.values()) {
+            destination.httpClient().close();
+        }
+    }
+
+    private static PoolingHttpClientConnectionManager connectionManager(OutboundHttpProperties.Spec spec) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(spec.getMaxConnections())
+                .setMaxConnPerRoute(spec.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(spec.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(spec.getResponseTimeout()))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+    }
+
+    private static CircuitBreakerConfig circuitBreakerConfig(OutboundHttpProperties.Spec spec) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(spec.getSlidingWindowSize())
+                .minimumNumberOfCalls(Math.min(10, spec.getSlidingWindowSize()))
+                .failureRateThreshold(spec.getFailureRateThreshold())
+                .slowCallDurationThreshold(spec.getSlowCallDurationThreshold())
+                .waitDurationInOpenState(spec.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(2)
+                .recordException(OutboundHttpClient::isFailure)
+                .build();
+    }
+
+    /**
+     * 서킷 브레이커 실패로 집계할 예외인지 판단하는 메서드
+     * 연결 실패/타임아웃, 5xx, 429 만 대상 장애로 보고, 그 외 4xx 는 요청 자체의 문제이므로 집계하지 않는다
+     */
+    static boolean isFailure(Throwable e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    private record Destination(RestTemplate restTemplate, CloseableHttpClient httpClient, CircuitBreaker circuitBreaker) {
+    }
+}
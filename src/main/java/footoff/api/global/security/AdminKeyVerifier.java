@@ -0,0 +1,36 @@
+package footoff.api.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 API 요청의 X-Admin-Key 헤더를 설정값(admin.api-key)과 비교하는 컴포넌트
+ * 설정값이 비어 있으면 모든 요청을 거부하며, 비교 시간으로 키를 추측할 수 없도록 고정 시간 비교를 사용한다
+ */
+@Component
+public class AdminKeyVerifier {
+
+    public static final String ADMIN_KEY_HEADER = "X-Admin-Key";
+
+    private final byte[] adminApiKey;
+
+    public AdminKeyVerifier(@Value("${admin.api-key:}") String adminApiKey) {
+        this.adminApiKey = adminApiKey.isBlank() ? new byte[0] : adminApiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 관리자 키가 설정값과 일치하는지 확인하는 메서드
+     *
+     * @param adminKey 요청의 관리자 키 (null 허용)
+     * @return 일치 여부
+     */
+    public boolean isAdmin(String adminKey) {
+        if (adminApiKey.length == 0 || adminKey == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(adminApiKey, adminKey.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package footoff.api.global.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 액세스 토큰에서 복원한 인증 사용자 정보
+ * 토큰 클레임만으로 만들어지므로 요청마다 DB를 조회하지 않는다
+ *
+ * @param userId 사용자 ID
+ * @param role 사용자 역할 (예: "USER", "ADMIN")
+ * @param expiresAt 토큰 만료 시각
+ */
+public record AuthenticatedUser(UUID userId, String role, Instant expiresAt) {
+
+    /**
+     * Spring Security 권한 목록 (ROLE_ 접두사)
+     */
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+}
@@ -0,0 +1,93 @@
+package footoff.api.global.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키의 포함 여부를 고정 메모리로 판정하는 Bloom 필터
+ * 없는 키를 있다고 판정할 수 있지만(오탐), 추가한 키를 없다고 판정하지는 않는다
+ * 비트는 원자적으로 설정하므로 조회와 추가를 여러 스레드에서 잠금 없이 함께 사용할 수 있다 (삭제는 지원하지 않는다)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 추가할 것으로 예상되는 키 수
+     * @param falsePositiveRate 예상 키 수만큼 추가했을 때 허용할 오탐률 (0 초과 1 미만)
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom 필터 크기 설정이 올바르지 않습니다: n="
+                    + expectedInsertions + ", p=" + falsePositiveRate);
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) ((Math.max(bits, Long.SIZE) + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(words);
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 키를 추가하는 메서드
+     */
+    public void put(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0) {
+                long witness = words.compareAndExchange(index, word, word | mask);
+                if (witness == word) {
+                    break;
+                }
+                word = witness;
+            }
+        }
+    }
+
+    /**
+     * 키가 추가되었을 수 있는지 확인하는 메서드
+     *
+     * @return 추가된 적이 없으면 반드시 false, 추가된 적이 있으면 true (낮은 확률로 오탐)
+     */
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문자열을 64비트 해시로 변환하는 함수 (String.hashCode 의 32비트 충돌을 피하기 위해 문자를 직접 섞는다)
+     */
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0, n = key.length(); i < n; i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h ^ key.length());
+    }
+
+    /**
+     * 해시 값의 비트를 고르게 섞는 함수 (MurmurHash3 fmix64)
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,86 @@
+package footoff.api.global.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청을 보낸 클라이언트 IP 를 결정하는 컴포넌트
+ * 로드 밸런서/프록시 뒤에서는 모든 요청의 원격 주소가 프록시 IP 가 되므로,
+ * 원격 주소가 신뢰하는 프록시일 때만 X-Forwarded-For 를 오른쪽(가장 가까운 홉)부터 거슬러 올라가
+ * 신뢰하는 프록시가 아닌 첫 주소를 클라이언트 IP 로 사용한다
+ * 클라이언트가 임의로 넣은 왼쪽 값은 신뢰하는 프록시를 거치지 않았으므로 사용하지 않는다
+ */
+@Component
+public class ClientIpResolver {
+
+    static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    /** IPv4/IPv6 리터럴 (호스트 이름은 DNS 조회를 유발하므로 허용하지 않는다) */
+    private static final Pattern IP_LITERAL = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}|[0-9a-fA-F.]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${security.trusted-proxies:10.0.0.0/8,172.16.0.0/12,192.168.0.0/16,127.0.0.0/8,::1}")
+                            String[] trustedProxies) {
+        this.trustedProxies = new ArrayList<>(trustedProxies.length);
+        for (String proxy : trustedProxies) {
+            if (!proxy.isBlank()) {
+                this.trustedProxies.add(new IpAddressMatcher(proxy.trim()));
+            }
+        }
+    }
+
+    /**
+     * 요청의 클라이언트 IP 를 조회하는 메서드
+     *
+     * @param request HTTP 요청
+     * @return 클라이언트 IP (신뢰하는 프록시를 거치지 않은 요청은 원격 주소)
+     */
+    public String resolve(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrustedProxy(client)) {
+            return client;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!isIpLiteral(hop)) {
+                break;
+            }
+            client = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (!isIpLiteral(address)) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher proxy : trustedProxies) {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // 형식만 맞고 주소로 해석할 수 없는 값
+        }
+        return false;
+    }
+
+    private static boolean isIpLiteral(String address) {
+        return address != null && IP_LITERAL.matcher(address).matches();
+    }
+}
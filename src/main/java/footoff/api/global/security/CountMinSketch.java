@@ -0,0 +1,80 @@
+package footoff.api.global.security;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 문자열 키의 빈도를 고정 메모리로 추정하는 Count-Min Sketch
+ * 키 개수와 관계없이 depth x width 개의 카운터만 사용하며, 추정값은 실제 빈도보다 작아지지 않는다
+ * 카운터는 원자적으로 증가시키므로 여러 스레드에서 잠금 없이 사용할 수 있다
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+
+    /**
+     * @param depth 해시 함수(행) 수
+     * @param width 행당 카운터 수 (2의 거듭제곱)
+     */
+    public CountMinSketch(int depth, int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width 는 2의 거듭제곱이어야 합니다: " + width);
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new AtomicIntegerArray(depth * width);
+    }
+
+    /**
+     * 키의 빈도를 1 증가시키고 증가 후 추정 빈도를 반환하는 메서드
+     */
+    public int increment(String key) {
+        int h1 = mix(key.hashCode());
+        int h2 = mix(h1 ^ 0x9E3779B9) | 1;
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int count = counters.incrementAndGet(index(row, h1, h2));
+            estimate = Math.min(estimate, count);
+        }
+        return estimate;
+    }
+
+    /**
+     * 키의 추정 빈도를 조회하는 메서드
+     */
+    public int estimate(String key) {
+        int h1 = mix(key.hashCode());
+        int h2 = mix(h1 ^ 0x9E3779B9) | 1;
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄이는 메서드 (오래된 빈도의 비중을 낮춤)
+     */
+    public void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.updateAndGet(i, count -> count >>> 1);
+        }
+    }
+
+    private int index(int row, int h1, int h2) {
+        return row * (mask + 1) + ((h1 + row * h2) & mask);
+    }
+
+    /**
+     * 해시 값의 비트를 고르게 섞는 함수 (MurmurHash3 fmix32)
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
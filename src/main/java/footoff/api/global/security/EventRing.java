@@ -0,0 +1,70 @@
+package footoff.api.global.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 이벤트를 고정 개수만 보관하는 잠금 없는 링 버퍼
+ * 가득 차면 가장 오래된 이벤트를 덮어쓴다
+ *
+ * @param <T> 이벤트 타입
+ */
+public class EventRing<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param capacity 보관할 이벤트 수 (2의 거듭제곱)
+     */
+    public EventRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 이벤트를 추가하고 지금까지 추가된 총 이벤트 수를 반환하는 메서드
+     */
+    public long add(T event) {
+        long seq = sequence.getAndIncrement();
+        slots.set((int) (seq & mask), event);
+        return seq + 1;
+    }
+
+    /**
+     * 지금까지 추가된 총 이벤트 수 (덮어쓴 이벤트 포함)
+     */
+    public long total() {
+        return sequence.get();
+    }
+
+    /**
+     * 가장 최근 이벤트를 조회하는 메서드
+     */
+    public T latest() {
+        long seq = sequence.get();
+        return seq == 0 ? null : slots.get((int) ((seq - 1) & mask));
+    }
+
+    /**
+     * 보관 중인 이벤트를 최신순으로 조회하는 메서드
+     */
+    public List<T> snapshot() {
+        long seq = sequence.get();
+        int size = (int) Math.min(seq, slots.length());
+        List<T> events = new ArrayList<>(size);
+        for (long i = seq - 1; i >= seq - size; i--) {
+            T event = slots.get((int) (i & mask));
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,78 @@
+package footoff.api.global.security;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 추정 빈도가 가장 높은 상위 K개 키 목록
+ * Count-Min Sketch 의 추정값을 받아 최소 힙으로 유지하며, 현재 K번째 값보다 작은 키는 잠금 없이 바로 건너뛴다
+ */
+public class HeavyHitters {
+
+    private final int capacity;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparingInt(Entry::count));
+    private volatile int threshold;
+
+    /**
+     * @param capacity 보관할 키 수 (K)
+     */
+    public HeavyHitters(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 키의 최신 추정 빈도를 반영하는 메서드
+     *
+     * @param key 키
+     * @param estimate 추정 빈도
+     */
+    public void offer(String key, int estimate) {
+        if (estimate <= threshold) {
+            return;
+        }
+        synchronized (this) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                heap.remove(existing);
+            } else if (heap.size() >= capacity) {
+                if (estimate <= heap.peek().count()) {
+                    return;
+                }
+                entries.remove(heap.poll().key());
+            }
+            Entry entry = new Entry(key, estimate);
+            entries.put(key, entry);
+            heap.add(entry);
+            threshold = heap.size() >= capacity ? heap.peek().count() : 0;
+        }
+    }
+
+    /**
+     * 상위 키 목록을 빈도 내림차순으로 조회하는 메서드
+     */
+    public synchronized List<Entry> top() {
+        List<Entry> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingInt(Entry::count).reversed());
+        return top;
+    }
+
+    /**
+     * 모든 키를 비우는 메서드 (빈도 감쇠 후 다시 채우기 위해 사용)
+     */
+    public synchronized void clear() {
+        entries.clear();
+        heap.clear();
+        threshold = 0;
+    }
+
+    /**
+     * 상위 키와 추정 빈도
+     */
+    public record Entry(String key, int count) {
+    }
+}
@@ -0,0 +1,208 @@
+package footoff.api.global.security;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import footoff.api.global.common.repository.IpBlacklistRepository;
+import footoff.api.global.common.repository.projection.IpBlacklistView;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 간에 공유되는 IP 차단 목록
+ * 차단 기록은 DB(ip_blacklist)에 저장하여 재배포 후에도 유지되고, 서버마다 Bloom 필터와 정확한 목록을 메모리에 두어
+ * 요청마다 하는 차단 확인은 DB 조회 없이 처리한다 (대부분의 정상 IP 는 Bloom 필터에서 바로 걸러진다)
+ * - 몇 초마다 마지막 동기화 이후 변경된 기록만 읽어 다른 서버의 차단/해제를 반영한다
+ * - Bloom 필터는 삭제를 지원하지 않으므로 주기적으로 유효한 기록만으로 다시 만든다
+ */
+@Slf4j
+@Component
+public class IpBlacklistRegistry {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final IpBlacklistRepository ipBlacklistRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int expectedEntries;
+    private final Duration syncOverlap;
+    private final Duration retention;
+
+    private volatile Snapshot snapshot;
+    /** 다음 증분 동기화의 기준 시각 (null 이면 아직 전체 적재 전) */
+    private volatile LocalDateTime syncedAt;
+
+    public IpBlacklistRegistry(IpBlacklistRepository ipBlacklistRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${security.blacklist.expected-entries:100000}") int expectedEntries,
+                               @Value("${security.blacklist.sync-overlap:10s}") Duration syncOverlap,
+                               @Value("${security.blacklist.retention:7d}") Duration retention) {
+        this.ipBlacklistRepository = ipBlacklistRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.expectedEntries = expectedEntries;
+        this.syncOverlap = syncOverlap;
+        this.retention = retention;
+        this.snapshot = new Snapshot(new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE), new ConcurrentHashMap<>());
+    }
+
+    /**
+     * IP가 차단되어 있는지 확인하는 메서드 (메모리만 사용)
+     *
+     * @param ip 확인할 IP
+     * @return 차단 여부
+     */
+    public boolean isBlocked(String ip) {
+        Snapshot current = snapshot;
+        if (!current.filter().mightContain(ip)) {
+            return false;
+        }
+        LocalDateTime expiresAt = current.entries().get(ip);
+        return expiresAt != null && expiresAt.isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * IP를 차단하는 메서드
+     * 이 서버에는 즉시 반영하고, 다른 서버에는 DB를 거쳐 다음 동기화 때 반영된다
+     * 이미 차단된 IP면 만료 시각을 더 늦은 쪽으로 유지한다
+     *
+     * @param ip 차단할 IP
+     * @param reason 차단 사유
+     * @param duration 차단 기간
+     */
+    public void block(String ip, String reason, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(duration);
+        apply(snapshot, ip, expiresAt, now);
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    ipBlacklistRepository.upsert(ip, truncate(reason), expiresAt, now));
+        } catch (DataAccessException e) {
+            // DB 저장에 실패해도 이 서버에서는 차단을 유지한다 (다음 전체 재구성 전까지)
+            log.error("IP 차단 기록 저장 실패: IP={}, 오류={}", ip, e.getMessage());
+        }
+    }
+
+    /**
+     * IP 차단을 해제하는 메서드
+     * 기록을 지우지 않고 만료 시각을 현재로 당겨 다른 서버도 증분 동기화에서 해제를 알 수 있게 한다
+     *
+     * @param ip 해제할 IP
+     */
+    public void unblock(String ip) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> ipBlacklistRepository.expire(ip, now));
+        snapshot.entries().remove(ip);
+    }
+
+    /**
+     * 현재 서버가 보관 중인 차단 기록 수 (만료되었지만 아직 재구성되지 않은 기록 포함)
+     */
+    public int size() {
+        return snapshot.entries().size();
+    }
+
+    /**
+     * 서버 시작 시 유효한 차단 목록 전체를 적재한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 마지막 동기화 이후 추가/변경/해제된 차단 기록을 반영한다
+     * 서버 간 시계 차이와 커밋 지연으로 빠지는 기록이 없도록 기준 시각을 조금 겹쳐서 조회한다
+     */
+    @Scheduled(fixedDelayString = "${security.blacklist.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime since = syncedAt;
+        if (since == null) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<IpBlacklistView> changes = ipBlacklistRepository.findChangedSince(since.minus(syncOverlap));
+            Snapshot current = snapshot;
+            for (IpBlacklistView change : changes) {
+                apply(current, change.getIp(), change.getExpiresAt(), startedAt);
+            }
+            syncedAt = startedAt;
+            if (!changes.isEmpty()) {
+                log.debug("IP 차단 목록 동기화: 변경 {}건", changes.size());
+            }
+        } catch (DataAccessException e) {
+            log.warn("IP 차단 목록 동기화 실패 (다음 주기에 다시 시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 유효한 차단 기록만으로 Bloom 필터와 목록을 새로 만들어 교체한다
+     * 해제/만료된 IP 가 Bloom 필터에 남아 오탐이 늘어나는 것을 막는다
+     */
+    @Scheduled(fixedDelayString = "${security.blacklist.rebuild-interval-ms:600000}",
+            initialDelayString = "${security.blacklist.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<IpBlacklistView> active = ipBlacklistRepository.findActive(startedAt);
+            // 예상보다 기록이 많으면 오탐률이 유지되도록 필터를 키운다
+            BloomFilter filter = new BloomFilter(Math.max(expectedEntries, active.size() * 2), FALSE_POSITIVE_RATE);
+            Snapshot rebuilt = new Snapshot(filter, new ConcurrentHashMap<>(Math.max(16, active.size() * 2)));
+            for (IpBlacklistView entry : active) {
+                apply(rebuilt, entry.getIp(), entry.getExpiresAt(), startedAt);
+            }
+            snapshot = rebuilt;
+            syncedAt = startedAt;
+            log.info("IP 차단 목록 적재 완료: {}건", active.size());
+        } catch (DataAccessException e) {
+            log.warn("IP 차단 목록 적재 실패 (기존 목록 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료 후 보관 기간이 지난 차단 기록을 삭제한다
+     * 매일 새벽 4시 실행 (여러 서버에서 실행되어도 결과는 같다)
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> ipBlacklistRepository.deleteExpiredBefore(before));
+        log.info("만료된 IP 차단 기록 삭제: {}건", deleted);
+    }
+
+    private static void apply(Snapshot target, String ip, LocalDateTime expiresAt, LocalDateTime now) {
+        if (!expiresAt.isAfter(now)) {
+            target.entries().remove(ip);
+            return;
+        }
+        // 목록에 먼저 넣어 Bloom 필터를 통과한 조회가 항상 만료 시각을 찾도록 한다
+        target.entries().merge(ip, expiresAt, (current, next) -> next.isAfter(current) ? next : current);
+        target.filter().put(ip);
+    }
+
+    private static String truncate(String reason) {
+        return reason != null && reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+
+    /**
+     * 요청 처리 스레드가 읽는 차단 목록 (재구성 시 통째로 교체)
+     *
+     * @param filter 차단 IP 의 Bloom 필터
+     * @param entries IP별 차단 만료 시각
+     */
+    private record Snapshot(BloomFilter filter, Map<String, LocalDateTime> entries) {
+    }
+}
@@ -0,0 +1,146 @@
+package footoff.api.global.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import footoff.api.global.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * IP별 요청 속도 제한기 (GCRA, 토큰 버킷과 동일한 동작)
+ * 키마다 "다음 요청의 이론적 도착 시각" 하나만 저장하고 CAS 로 갱신하므로 잠금 없이 동작한다
+ * 키는 개수 상한과 유휴 만료가 있는 캐시에 보관하며, 만료 시간은 버킷이 가득 차는 시간보다 길어 제거해도 판정이 달라지지 않는다
+ */
+@Component
+public class RequestRateLimiter {
+
+    static final String DEFAULT_ROUTE = "default";
+    private static final Duration MIN_IDLE_EXPIRY = Duration.ofMinutes(1);
+
+    private final List<Route> routes = new ArrayList<>();
+    private final Route defaultRoute;
+    private final Ticker ticker;
+    private final Cache<String, AtomicLong> buckets;
+
+    @Autowired
+    public RequestRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    RequestRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        for (Map.Entry<String, RateLimitProperties.Route> entry : properties.getRoutes().entrySet()) {
+            routes.add(new Route(entry.getKey(), entry.getValue().getPathPrefixes(), entry.getValue(), meterRegistry));
+        }
+        this.defaultRoute = new Route(DEFAULT_ROUTE, List.of(), properties.getDefaults(), meterRegistry);
+        this.ticker = ticker;
+
+        // 가장 큰 버킷이 다시 가득 차는 시간보다 오래 유휴 상태인 키는 새로 만든 것과 같으므로 제거한다
+        long idleExpiryNanos = Math.max(MIN_IDLE_EXPIRY.toNanos(), defaultRoute.burstToleranceNanos());
+        for (Route route : routes) {
+            idleExpiryNanos = Math.max(idleExpiryNanos, route.burstToleranceNanos());
+        }
+        this.buckets = Caffeine.newBuilder()
+                .ticker(ticker)
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(idleExpiryNanos, TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    /**
+     * 요청 한 건을 허용할지 판정하는 메서드
+     *
+     * @param clientKey 요청자 식별 키 (IP)
+     * @param path 요청 경로
+     * @return 판정 결과 (거부 시 다시 시도할 수 있을 때까지 남은 시간 포함)
+     */
+    public Decision tryAcquire(String clientKey, String path) {
+        Route route = resolve(path);
+        long now = ticker.read();
+        AtomicLong theoreticalArrival = buckets.get(route.name() + ':' + clientKey, key -> new AtomicLong(now));
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + route.emissionIntervalNanos();
+            long waitNanos = next - now - route.burstToleranceNanos();
+            if (waitNanos > 0) {
+                route.rejected().increment();
+                return new Decision(false, route.name(), waitNanos);
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * 추적 중인 (경로 분류, IP) 수
+     */
+    public long trackedKeys() {
+        return buckets.estimatedSize();
+    }
+
+    private Route resolve(String path) {
+        for (Route route : routes) {
+            for (String prefix : route.pathPrefixes()) {
+                if (path.startsWith(prefix)) {
+                    return route;
+                }
+            }
+        }
+        return defaultRoute;
+    }
+
+    /**
+     * 속도 제한 판정 결과
+     *
+     * @param allowed 허용 여부
+     * @param route 적용된 경로 분류
+     * @param retryAfterNanos 거부된 경우 다시 시도할 수 있을 때까지 남은 시간
+     */
+    public record Decision(boolean allowed, String route, long retryAfterNanos) {
+
+        static final Decision ALLOWED = new Decision(true, null, 0);
+
+        /**
+         * Retry-After 헤더 값 (초 단위 올림)
+         */
+        public long retryAfterSeconds() {
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+    }
+
+    /**
+     * 경로 분류별 한도
+     *
+     * @param emissionIntervalNanos 요청 한 건이 차지하는 시간 (1초 / 초당 허용 수)
+     * @param burstToleranceNanos 미리 앞당겨 쓸 수 있는 시간 (요청 간격 x 최대 몰림 수)
+     */
+    private record Route(String name, List<String> pathPrefixes, long emissionIntervalNanos, long burstToleranceNanos,
+                         Counter rejected) {
+
+        Route(String name, List<String> pathPrefixes, RateLimitProperties.Limit limit, MeterRegistry meterRegistry) {
+            this(name, List.copyOf(pathPrefixes), emissionInterval(limit),
+                    emissionInterval(limit) * Math.max(1, limit.getBurst()),
+                    Counter.builder("security.rate_limit.rejected")
+                            .description("속도 제한으로 거부된 요청 수")
+                            .tag("route", name)
+                            .register(meterRegistry));
+        }
+
+        private static long emissionInterval(RateLimitProperties.Limit limit) {
+            return (long) (TimeUnit.SECONDS.toNanos(1) / limit.getPermitsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package footoff.api.global.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 경로/쿼리 악성 패턴 검사기
+ * 모든 규칙의 핵심 키워드를 하나의 Aho-Corasick 오토마톤으로 합쳐 입력을 한 번만 훑고(대소문자 무시, 소문자 사본 없음),
+ * 키워드가 나온 규칙만 해당 정규식으로 확인한다. 대부분의 정상 요청은 정규식을 한 번도 실행하지 않는다
+ * 판정 결과는 입력 문자열별로 LRU 캐시에 보관한다
+ */
+@Component
+public class RequestScanner {
+
+    /**
+     * 감지 유형 (판정 결과는 유형별 비트를 합친 int 값)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Threat {
+        SUSPICIOUS_PATH("의심스러운 경로"),
+        SUSPICIOUS_QUERY("의심스러운 쿼리"),
+        SQL_INJECTION("SQL 인젝션 시도 감지"),
+        XSS("XSS 공격 시도 감지"),
+        PATH_TRAVERSAL("경로 순회 공격 시도 감지");
+
+        private final String description;
+
+        int bit() {
+            return 1 << ordinal();
+        }
+
+        /**
+         * 판정 결과에 이 유형이 포함되어 있는지 확인
+         */
+        public boolean in(int threats) {
+            return (threats & bit()) != 0;
+        }
+    }
+
+    private static final Pattern SQL_INJECTION_PATTERN = Pattern.compile(
+            "(?i)('|\\s)*(OR|AND)\\s+\\d+\\s*=\\s*\\d+|" +
+            "UNION\\s+SELECT|" +
+            "INSERT\\s+INTO|" +
+            "UPDATE\\s+SET|" +
+            "DELETE\\s+FROM|" +
+            "DROP\\s+TABLE|" +
+            "EXEC\\s+XP_|" +
+            "SELECT\\s+\\*\\s+FROM");
+
+    private static final Pattern XSS_PATTERN = Pattern.compile(
+            "(?i)<script[^>]*>[^<]*</script>|" +
+            "javascript\\s*:|" +
+            "on\\w+\\s*=|" +
+            "eval\\s*\\(|" +
+            "document\\.cookie|" +
+            "document\\.write");
+
+    /** 정규식 \s 에 해당하는 문자 (SQL 키워드 뒤에 반드시 하나 이상 온다) */
+    private static final char[] WHITESPACE = {' ', '\t', '\n', '\u000B', '\f', '\r'};
+
+    /**
+     * 검사 규칙
+     * 경로 규칙은 기존과 같이 대소문자를 구분하므로 키워드(대소문자 무시)가 나온 뒤 정규식으로 다시 확인한다
+     * 확인용 정규식이 없는 규칙은 키워드가 나오는 것만으로 판정한다
+     */
+    private static final List<Rule> RULES = List.of(
+            // 경로: PHP, 셸 스크립트, CGI, 관리/셸 디렉터리, 액추에이터(헬스 체크 제외)
+            Rule.path(Threat.SUSPICIOUS_PATH, List.of(".php"), Pattern.compile(".\\.php$")),
+            Rule.path(Threat.SUSPICIOUS_PATH, List.of(".sh"), Pattern.compile(".\\.sh$")),
+            Rule.path(Threat.SUSPICIOUS_PATH, List.of(".cgi"), Pattern.compile(".\\.cgi$")),
+            Rule.path(Threat.SUSPICIOUS_PATH,
+                    List.of("/wp/", "/wordpress/", "/admin/", "/shell/", "/cmd/", "/powershell/"),
+                    Pattern.compile("/(wp|wordpress|admin|shell|cmd|powershell)/")),
+            Rule.path(Threat.SUSPICIOUS_PATH, List.of("/actuator"), Pattern.compile("/actuator(?!/health$)")),
+            // 경로: SQL 인젝션, XSS, 경로 순회
+            Rule.path(Threat.SQL_INJECTION,
+                    followedByWhitespace("or", "and", "union", "insert", "update", "delete", "drop", "exec", "select"),
+                    SQL_INJECTION_PATTERN),
+            Rule.path(Threat.XSS,
+                    List.of("<script", "javascript", "=", "eval", "document.cookie", "document.write"),
+                    XSS_PATTERN),
+            Rule.path(Threat.PATH_TRAVERSAL,
+                    List.of("../", "..\\", "/etc/passwd", "c:\\windows", "/sys/", "/proc/"),
+                    null),
+            // 쿼리: SQL 인젝션, 명령 실행, 인코딩된 값
+            Rule.query(List.of("select"), Pattern.compile("(?i)select.*from")),
+            Rule.query(List.of("union"), Pattern.compile("(?i)union.*select")),
+            Rule.query(List.of("exec"), null),
+            Rule.query(List.of("'"), Pattern.compile("(?i)'.*or.*'.*'.*=.*'")),
+            Rule.query(List.of("\""), Pattern.compile("(?i)\".*or.*\".*\".*=.*\"")),
+            Rule.query(List.of("\\x"), Pattern.compile("(?i)\\\\x[0-9a-f]{2}"))
+    );
+
+    private static final int ALPHABET = 128;
+    /** 판정 캐시 최대 크기 (캐시된 입력 문자열 길이의 합) */
+    private static final long VERDICT_CACHE_WEIGHT = 1_000_000;
+
+    private final int[][] transitions;
+    private final long[] outputs;
+    private final long pathRules;
+    private final long queryRules;
+
+    private final Cache<String, Integer> pathVerdicts = verdictCache();
+    private final Cache<String, Integer> queryVerdicts = verdictCache();
+    private final Function<String, Integer> scanPath = this::scanPathUncached;
+    private final Function<String, Integer> scanQuery = this::scanQueryUncached;
+
+    public RequestScanner() {
+        long path = 0;
+        long query = 0;
+        Map<String, Long> keywords = new HashMap<>();
+        for (int i = 0; i < RULES.size(); i++) {
+            Rule rule = RULES.get(i);
+            if (rule.threat() == Threat.SUSPICIOUS_QUERY) {
+                query |= 1L << i;
+            } else {
+                path |= 1L << i;
+            }
+            for (String keyword : rule.keywords()) {
+                keywords.merge(fold(keyword), 1L << i, (a, b) -> a | b);
+            }
+        }
+        this.pathRules = path;
+        this.queryRules = query;
+
+        Automaton automaton = Automaton.build(keywords);
+        this.transitions = automaton.transitions();
+        this.outputs = automaton.outputs();
+    }
+
+    /**
+     * 요청 경로를 검사하는 메서드 (캐시 사용)
+     *
+     * @param path 요청 경로
+     * @return 감지된 유형 비트 ({@link Threat#in(int)} 로 확인)
+     */
+    public int scanPath(String path) {
+        return pathVerdicts.get(path, scanPath);
+    }
+
+    /**
+     * 쿼리 문자열을 검사하는 메서드 (캐시 사용)
+     *
+     * @param query 쿼리 문자열
+     * @return 감지된 유형 비트 ({@link Threat#in(int)} 로 확인)
+     */
+    public int scanQuery(String query) {
+        return queryVerdicts.get(query, scanQuery);
+    }
+
+    int scanPathUncached(String path) {
+        return verify(path, match(path) & pathRules);
+    }
+
+    int scanQueryUncached(String query) {
+        return verify(query, match(query) & queryRules);
+    }
+
+    /**
+     * 입력을 한 번 훑어 키워드가 나온 규칙 비트를 모으는 메서드 (할당 없음)
+     * 키워드는 모두 ASCII 이므로 ASCII 가 아닌 문자를 만나면 처음 상태로 돌아간다
+     */
+    private long match(String input) {
+        int state = 0;
+        long hits = 0;
+        for (int i = 0, n = input.length(); i < n; i++) {
+            char c = input.charAt(i);
+            state = c < ALPHABET ? transitions[state][c] : 0;
+            hits |= outputs[state];
+        }
+        return hits;
+    }
+
+    private int verify(String input, long hits) {
+        int threats = 0;
+        while (hits != 0) {
+            Rule rule = RULES.get(Long.numberOfTrailingZeros(hits));
+            hits &= hits - 1;
+            if (!rule.threat().in(threats) && (rule.verifier() == null || rule.verifier().matcher(input).find())) {
+                threats |= rule.threat().bit();
+            }
+        }
+        return threats;
+    }
+
+    private static Cache<String, Integer> verdictCache() {
+        return Caffeine.newBuilder()
+                .maximumWeight(VERDICT_CACHE_WEIGHT)
+                .weigher((String key, Integer value) -> key.length())
+                .build();
+    }
+
+    private static List<String> followedByWhitespace(String... words) {
+        List<String> keywords = new ArrayList<>();
+        for (String word : words) {
+            for (char whitespace : WHITESPACE) {
+                keywords.add(word + whitespace);
+            }
+        }
+        return keywords;
+    }
+
+    private static String fold(String keyword) {
+        StringBuilder folded = new StringBuilder(keyword.length());
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c >= ALPHABET) {
+                throw new IllegalArgumentException("키워드는 ASCII 문자만 사용할 수 있습니다: " + keyword);
+            }
+            folded.append(Character.toLowerCase(c));
+        }
+        return folded.toString();
+    }
+
+    private record Rule(Threat threat, List<String> keywords, Pattern verifier) {
+
+        static Rule path(Threat threat, List<String> keywords, Pattern verifier) {
+            return new Rule(threat, keywords, verifier);
+        }
+
+        static Rule query(List<String> keywords, Pattern verifier) {
+            return new Rule(Threat.SUSPICIOUS_QUERY, keywords, verifier);
+        }
+    }
+
+    /**
+     * 대소문자를 구분하지 않는 Aho-Corasick 오토마톤 (실패 링크를 미리 펼친 DFA)
+     *
+     * @param transitions 상태별 다음 상태 (ASCII 문자 기준)
+     * @param outputs 상태에 도달했을 때 나온 키워드들의 규칙 비트
+     */
+    private record Automaton(int[][] transitions, long[] outputs) {
+
+        static Automaton build(Map<String, Long> keywords) {
+            List<int[]> gotos = new ArrayList<>();
+            List<Long> outs = new ArrayList<>();
+            gotos.add(emptyRow());
+            outs.add(0L);
+
+            // 1. 키워드 트라이 구성
+            for (Map.Entry<String, Long> entry : keywords.entrySet()) {
+                int state = 0;
+                for (char c : entry.getKey().toCharArray()) {
+                    if (gotos.get(state)[c] < 0) {
+                        gotos.get(state)[c] = gotos.size();
+                        gotos.add(emptyRow());
+                        outs.add(0L);
+                    }
+                    state = gotos.get(state)[c];
+                }
+                outs.set(state, outs.get(state) | entry.getValue());
+            }
+
+            // 2. 너비 우선으로 실패 링크를 계산하며 모든 전이를 채운다 (대문자는 소문자 전이를 따른다)
+            int size = gotos.size();
+            int[][] transitions = new int[size][];
+            long[] outputs = new long[size];
+            int[] fail = new int[size];
+            int[] queue = new int[size];
+            int head = 0;
+            int tail = 0;
+
+            transitions[0] = new int[ALPHABET];
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = gotos.get(0)[c];
+                transitions[0][c] = next < 0 ? 0 : next;
+                if (next > 0) {
+                    fail[next] = 0;
+                    queue[tail++] = next;
+                }
+            }
+            outputs[0] = outs.get(0);
+
+            while (head < tail) {
+                int state = queue[head++];
+                outputs[state] = outs.get(state) | outputs[fail[state]];
+                transitions[state] = new int[ALPHABET];
+                for (int c = 0; c < ALPHABET; c++) {
+                    int next = gotos.get(state)[c];
+                    if (next < 0) {
+                        transitions[state][c] = transitions[fail[state]][c];
+                    } else {
+                        fail[next] = transitions[fail[state]][c];
+                        transitions[state][c] = next;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+
+            for (int[] row : transitions) {
+                for (int c = 'A'; c <= 'Z'; c++) {
+                    row[c] = row[Character.toLowerCase(c)];
+                }
+            }
+            return new Automaton(transitions, outputs);
+        }
+
+        private static int[] emptyRow() {
+            int[] row = new int[ALPHABET];
+            Arrays.fill(row, -1);
+            return row;
+        }
+    }
+}
@@ -1,19 +1,17 @@
 package footoff.api.global.security;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import lombok.Setter;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import footoff.api.global.common.component.DiscordNotifier;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 보안 이벤트 모니터링 및 알림 서비스
  * 의심스러운 접근 시도를 모니터링하고 기록합니다.
+ * 모든 자료구조는 크기 상한이 있어 IP를 바꿔가며 대량으로 스캔해도 메모리 사용량이 일정하게 유지됩니다.
  */
 @Slf4j
 @Service
@@ -29,70 +28,84 @@ import lombok.extern.slf4j.Slf4j;
 public class SecurityMonitoringService {
 
     private final DiscordNotifier discordNotifier;
+    private final RequestRateLimiter requestRateLimiter;
+    private final IpBlacklistRegistry ipBlacklistRegistry;
 
-    // IP별 요청 횟수 추적
-    private final Map<String, Integer> requestCountByIp = new ConcurrentHashMap<>();
+    // IP 차단 임계값
+    private static final int IP_BLOCK_THRESHOLD = 30;
 
-    // 의심스러운 IP 목록
-    private final Map<String, List<SecurityEvent>> suspiciousIps = new ConcurrentHashMap<>();
+    // IP별 요청 수 추정용 스케치 크기 (4 x 65536 카운터, 약 1MB)
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1 << 16;
 
-    // IP 차단 목록 (블랙리스트)
-    private final Set<String> ipBlacklist = new HashSet<>();
+    // 요청이 많은 IP 상위 목록 크기
+    private static final int HEAVY_HITTER_COUNT = 20;
 
-    // IP 차단 임계값
-    private static final int IP_BLOCK_THRESHOLD = 30;
+    // 의심스러운 IP 추적 상한과 IP별 보관 이벤트 수
+    private static final int MAX_TRACKED_SUSPICIOUS_IPS = 10_000;
+    private static final int EVENTS_PER_IP = 32;
+    private static final Duration SUSPICIOUS_IP_RETENTION = Duration.ofHours(1);
 
-    // 초당 요청 제한 수
-    private static final int RATE_LIMIT_PER_SECOND = 100;
+    // 차단 유지 기간
+    private static final Duration BLACKLIST_TTL = Duration.ofHours(24);
 
-    // 알려진 악의적 패턴 정규식
-    private static final Pattern SQL_INJECTION_PATTERN = Pattern.compile(
-            "(?i)('|\\s)*(OR|AND)\\s+\\d+\\s*=\\s*\\d+|" + 
-            "UNION\\s+SELECT|" + 
-            "INSERT\\s+INTO|" + 
-            "UPDATE\\s+SET|" + 
-            "DELETE\\s+FROM|" + 
-            "DROP\\s+TABLE|" +
-            "EXEC\\s+XP_|" + 
-            "SELECT\\s+\\*\\s+FROM");
-    
-    private static final Pattern XSS_PATTERN = Pattern.compile(
-            "(?i)<script[^>]*>[^<]*</script>|" +
-            "javascript\\s*:|" +
-            "on\\w+\\s*=|" +
-            "eval\\s*\\(|" +
-            "document\\.cookie|" +
-            "document\\.write");
-    
-    private static final Pattern PATH_TRAVERSAL_PATTERN = Pattern.compile(
-            "(?i)(\\.\\./|\\.\\.\\\\)|" +
-            "/etc/passwd|" +
-            "c:\\\\windows|" +
-            "/sys/|" +
-            "/proc/");
+    // IP별 요청 수 추정 (고정 메모리) 및 요청이 많은 IP 상위 목록
+    private final CountMinSketch requestSketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+    private final HeavyHitters heavyHitters = new HeavyHitters(HEAVY_HITTER_COUNT);
+
+    // 의심스러운 IP 목록 (IP별 최근 이벤트, 추적 IP 수 상한)
+    private final Cache<String, SuspiciousActivity> suspiciousIps = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_SUSPICIOUS_IPS)
+            .expireAfterAccess(SUSPICIOUS_IP_RETENTION)
+            .build();
+
+    // 모니터링 서비스가 기록하는 경로 공격 유형 (먼저 감지된 유형 하나만 기록)
+    private static final RequestScanner.Threat[] MONITORED_THREATS = {
+            RequestScanner.Threat.SQL_INJECTION,
+            RequestScanner.Threat.XSS,
+            RequestScanner.Threat.PATH_TRAVERSAL
+    };
 
     /**
      * IP가 블랙리스트에 있는지 확인
+     * 모든 서버가 공유하는 차단 목록을 메모리에서 확인합니다.
      * 
      * @param ip 확인할 IP 주소
      * @return 차단 여부
      */
     public boolean isBlacklisted(String ip) {
-        return ipBlacklist.contains(ip);
+        return ipBlacklistRegistry.isBlocked(ip);
     }
 
     /**
-     * 요청 이벤트 기록 및 요청 속도 제한 확인
+     * 요청 속도 제한 확인
+     * 경로 분류별 한도를 IP 단위로 적용합니다.
+     * 
+     * @param ip 요청자 IP
+     * @param uri 요청 URI
+     * @return 속도 제한 판정 결과
+     */
+    public RequestRateLimiter.Decision checkRateLimit(String ip, String uri) {
+        // 모든 요청을 IP별 요청 수 추정에 반영
+        heavyHitters.offer(ip, requestSketch.increment(ip));
+
+        RequestRateLimiter.Decision decision = requestRateLimiter.tryAcquire(ip, uri);
+        if (!decision.allowed()) {
+            log.debug("속도 제한 초과: IP={}, URI={}, 분류={}", ip, uri, decision.route());
+        }
+        return decision;
+    }
+
+    /**
+     * 요청 이벤트 기록 및 악의적 패턴 확인
      * 
      * @param ip 요청자 IP
      * @param uri 요청 URI
      * @param userAgent 사용자 에이전트
+     * @param uriThreats 요청 경로 검사 결과 ({@link RequestScanner#scanPath(String)})
      * @return 요청이 차단되어야 하면 true, 아니면 false
      */
-    public boolean recordRequest(String ip, String uri, String userAgent) {
-        // IP별 요청 횟수 증가
-        int count = requestCountByIp.compute(ip, (key, val) -> val == null ? 1 : val + 1);
-        
+    public boolean recordRequest(String ip, String uri, String userAgent, int uriThreats) {
         // 블랙리스트에 있으면 즉시 차단
         if (isBlacklisted(ip)) {
             log.warn("차단된 IP의 접근 시도: {}, URI: {}", ip, uri);
@@ -100,17 +113,7 @@ public class SecurityMonitoringService {
         }
         
         // 악의적인 패턴 검사
-        if (checkMaliciousPattern(ip, uri, userAgent)) {
-            return true;
-        }
-        
-        // 속도 제한 확인
-        if (count > RATE_LIMIT_PER_SECOND) {
-            recordSuspiciousRequest(ip, uri, "속도 제한 초과 (초당 " + count + "회)");
-            return true;
-        }
-        
-        return false;
+        return checkMaliciousPattern(ip, uri, userAgent, uriThreats);
     }
     
     /**
@@ -119,25 +122,16 @@ public class SecurityMonitoringService {
      * @param ip 요청자 IP
      * @param uri 요청 URI
      * @param userAgent 사용자 에이전트
+     * @param uriThreats 요청 경로 검사 결과
      * @return 악의적 패턴이 감지되면 true, 아니면 false
      */
-    private boolean checkMaliciousPattern(String ip, String uri, String userAgent) {
-        // SQL 인젝션 패턴 검사
-        if (SQL_INJECTION_PATTERN.matcher(uri).find()) {
-            recordSuspiciousRequest(ip, uri, "SQL 인젝션 시도 감지");
-            return true;
-        }
-        
-        // XSS 패턴 검사
-        if (XSS_PATTERN.matcher(uri).find()) {
-            recordSuspiciousRequest(ip, uri, "XSS 공격 시도 감지");
-            return true;
-        }
-        
-        // 경로 순회 패턴 검사
-        if (PATH_TRAVERSAL_PATTERN.matcher(uri).find()) {
-            recordSuspiciousRequest(ip, uri, "경로 순회 공격 시도 감지");
-            return true;
+    private boolean checkMaliciousPattern(String ip, String uri, String userAgent, int uriThreats) {
+        // SQL 인젝션, XSS, 경로 순회 패턴 검사
+        for (RequestScanner.Threat threat : MONITORED_THREATS) {
+            if (threat.in(uriThreats)) {
+                recordSuspiciousRequest(ip, uri, threat.getDescription());
+                return true;
+            }
         }
         
         // 비정상적인 User-Agent 검사
@@ -157,14 +151,15 @@ public class SecurityMonitoringService {
      */
     public void recordSuspiciousRequest(String ip, String uri, String details) {
         SecurityEvent event = new SecurityEvent(ip, uri, details, LocalDateTime.now());
-        
-        suspiciousIps.computeIfAbsent(ip, k -> new ArrayList<>()).add(event);
-        
-        // 임계값 초과 시 알림 및 블랙리스트에 추가
-        if (suspiciousIps.get(ip).size() >= IP_BLOCK_THRESHOLD) {
-            // 블랙리스트에 추가
-            ipBlacklist.add(ip);
-            sendBlockAlert(ip);
+        SuspiciousActivity activity = suspiciousIps.get(ip, key -> new SuspiciousActivity());
+        int count = activity.record(event);
+        
+        // 임계값에 도달한 요청 하나만 블랙리스트 추가 및 알림 처리
+        if (count == IP_BLOCK_THRESHOLD) {
+            ipBlacklistRegistry.block(ip, "의심스러운 요청 " + count + "회: " + details, BLACKLIST_TTL);
+            sendBlockAlert(ip, activity, count);
+            // 차단 해제 후 다시 임계값부터 계산하도록 기록 초기화
+            suspiciousIps.invalidate(ip);
         }
         
         log.warn("🚨 의심스러운 요청 발생: IP={}, URI={}, 상세={}", ip, uri, details);
@@ -173,32 +168,25 @@ public class SecurityMonitoringService {
     /**
      * IP 차단 알림 전송
      * @param ip 차단할 IP
+     * @param activity 차단 대상 IP의 최근 이벤트
+     * @param eventCount 누적 이벤트 수
      */
-    private void sendBlockAlert(String ip) {
-        List<SecurityEvent> events = suspiciousIps.get(ip);
-        if (events == null || events.isEmpty()) {
+    private void sendBlockAlert(String ip, SuspiciousActivity activity, int eventCount) {
+        SecurityEvent lastEvent = activity.events().latest();
+        if (lastEvent == null) {
             return;
         }
         
-        // IP가 이미 차단 알림이 발송되었는지 확인 (중복 알림 방지)
-        if (events.get(0).isAlertSent()) {
-            return;
-        }
-        
-        log.error("🛑 차단 대상 IP 감지: {}. 지난 이벤트 수: {}", ip, events.size());
+        log.error("🛑 차단 대상 IP 감지: {}. 지난 이벤트 수: {}", ip, eventCount);
         
         // 디스코드 알림 전송
-        SecurityEvent lastEvent = events.get(events.size() - 1);
         Map<String, String> notificationData = new HashMap<>();
         notificationData.put("ip", ip);
-        notificationData.put("eventCount", String.valueOf(events.size()));
+        notificationData.put("eventCount", String.valueOf(eventCount));
         notificationData.put("lastUri", lastEvent.getUri());
         notificationData.put("details", lastEvent.getDetails());
         
         discordNotifier.sendDiscordSecurityMessage(notificationData);
-        
-        // 알림 발송 표시
-        events.forEach(event -> event.setAlertSent(true));
     }
     
     /**
@@ -207,7 +195,7 @@ public class SecurityMonitoringService {
      * @param ip 제거할 IP 주소
      */
     public void removeFromBlacklist(String ip) {
-        ipBlacklist.remove(ip);
+        ipBlacklistRegistry.unblock(ip);
         log.info("IP가 블랙리스트에서 제거되었습니다: {}", ip);
     }
     
@@ -217,21 +205,29 @@ public class SecurityMonitoringService {
      */
     @Scheduled(fixedRate = 3600000) // 1시간마다
     public void logStatisticsAndCleanup() {
-        log.info("보안 모니터링 통계: 추적 중인 IP 수={}, 의심스러운 IP 수={}, 블랙리스트 IP 수={}", 
-                requestCountByIp.size(), suspiciousIps.size(), ipBlacklist.size());
+        // 속도 제한 키, 의심스러운 IP 는 캐시가 크기 상한과 만료로 직접 정리하고, 블랙리스트는 DB 만료 시각으로 관리한다
+        log.info("보안 모니터링 통계: 속도 제한 추적 키 수={}, 의심스러운 IP 수={}, 블랙리스트 IP 수={}", 
+                requestRateLimiter.trackedKeys(), suspiciousIps.estimatedSize(), ipBlacklistRegistry.size());
+        log.info("요청이 많은 IP (추정): {}", heavyHitters.top());
+        
+        // 오래된 요청 수의 비중을 낮추고 상위 목록을 새로 채운다
+        requestSketch.halve();
+        heavyHitters.clear();
+    }
+    
+    /**
+     * 의심스러운 IP의 누적 이벤트 수와 최근 이벤트
+     */
+    private record SuspiciousActivity(AtomicInteger count, EventRing<SecurityEvent> events) {
         
-        LocalDateTime now = LocalDateTime.now();
+        SuspiciousActivity() {
+            this(new AtomicInteger(), new EventRing<>(EVENTS_PER_IP));
+        }
         
-        // 30분 이상 요청이 없는 IP는 요청 카운터에서 제거
-        requestCountByIp.entrySet().removeIf(entry -> {
-            List<SecurityEvent> events = suspiciousIps.get(entry.getKey());
-            if (events == null || events.isEmpty()) {
-                return true;
-            }
-            
-            SecurityEvent lastEvent = events.get(events.size() - 1);
-            return lastEvent.getTimestamp().plusMinutes(30).isBefore(now);
-        });
+        int record(SecurityEvent event) {
+            events.add(event);
+            return count.incrementAndGet();
+        }
     }
     
     /**
@@ -244,8 +240,6 @@ public class SecurityMonitoringService {
         private final String uri;
         private final String details;
         private final LocalDateTime timestamp;
-        @Setter
-        private boolean alertSent = false;
         
         public SecurityEvent(String ip, String uri, String details, LocalDateTime timestamp) {
             this.ip = ip;
@@ -254,4 +248,4 @@ public class SecurityMonitoringService {
             this.timestamp = timestamp;
         }
     }
-}
\ No newline at end of file
+}
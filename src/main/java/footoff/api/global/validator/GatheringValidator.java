@@ -182,13 +182,12 @@ public class GatheringValidator {
     
     /**
      * 모임의 승인된 참가자 수를 반환
+     * 참가자 목록을 읽지 않고 비정규화된 카운터를 사용한다
      * 
      * @param gathering 모임
      * @return 승인된 참가자 수
      */
     public static long getApprovedMemberCount(Gathering gathering) {
-        return gathering.getUsers().stream()
-                .filter(gu -> GatheringUserStatus.APPROVED.equals(gu.getStatus()))
-                .count();
+        return gathering.getApprovedCount();
     }
 } 
\ No newline at end of file
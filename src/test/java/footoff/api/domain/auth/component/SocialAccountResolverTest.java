@@ -0,0 +1,99 @@
+package footoff.api.domain.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import footoff.api.domain.auth.entity.UserSocialAccount;
+import footoff.api.domain.auth.repository.UserSocialAccountRepository;
+import footoff.api.domain.user.entity.User;
+import footoff.api.global.common.enums.SocialProvider;
+
+public class SocialAccountResolverTest {
+
+    @Mock
+    private UserSocialAccountRepository userSocialAccountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SocialAccountResolver socialAccountResolver;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        socialAccountResolver = new SocialAccountResolver(userSocialAccountRepository, transactionManager,
+                new ConcurrentMapCacheManager(SocialAccountResolver.CACHE_NAME));
+    }
+
+    @Test
+    public void resolveUserId_ShouldSkipRepositoryOnRepeatLogin() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(userSocialAccountRepository.findUserIdBySocialProviderAndSocialProviderId(SocialProvider.KAKAO, "123"))
+                .thenReturn(Optional.of(userId));
+
+        // When
+        UUID first = socialAccountResolver.resolveUserId(SocialProvider.KAKAO, "123", () -> fail("계정을 생성하면 안 됩니다."));
+        UUID second = socialAccountResolver.resolveUserId(SocialProvider.KAKAO, "123", () -> fail("계정을 생성하면 안 됩니다."));
+
+        // Then
+        assertEquals(userId, first);
+        assertEquals(userId, second);
+        verify(userSocialAccountRepository, times(1))
+                .findUserIdBySocialProviderAndSocialProviderId(SocialProvider.KAKAO, "123");
+    }
+
+    @Test
+    public void resolveUserId_ShouldCacheCreatedAccount() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(userSocialAccountRepository.findUserIdBySocialProviderAndSocialProviderId(SocialProvider.APPLE, "sub"))
+                .thenReturn(Optional.empty());
+
+        // When
+        UUID created = socialAccountResolver.resolveUserId(SocialProvider.APPLE, "sub", () -> account(userId));
+        UUID cached = socialAccountResolver.resolveUserId(SocialProvider.APPLE, "sub", () -> fail("계정을 생성하면 안 됩니다."));
+
+        // Then
+        assertEquals(userId, created);
+        assertEquals(userId, cached);
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    public void resolveUserId_WhenConcurrentlyCreated_ShouldUseExistingAccount() {
+        // Given
+        UUID existingUserId = UUID.randomUUID();
+        when(userSocialAccountRepository.findUserIdBySocialProviderAndSocialProviderId(SocialProvider.KAKAO, "123"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(existingUserId));
+
+        // When
+        UUID result = socialAccountResolver.resolveUserId(SocialProvider.KAKAO, "123", () -> {
+            throw new DataIntegrityViolationException("Duplicate entry");
+        });
+
+        // Then
+        assertEquals(existingUserId, result);
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    private static UserSocialAccount account(UUID userId) {
+        return UserSocialAccount.builder()
+                .user(User.builder().id(userId).build())
+                .socialProvider(SocialProvider.APPLE)
+                .socialProviderId("sub")
+                .build();
+    }
+}
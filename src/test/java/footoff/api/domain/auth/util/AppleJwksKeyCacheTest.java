@@ -0,0 +1,114 @@
+package footoff.api.domain.auth.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class AppleJwksKeyCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final AtomicReference<String> jwks = new AtomicReference<>();
+
+    private AppleJwksKeyCache keyCache;
+    private RSAPublicKey firstKey;
+    private RSAPublicKey rotatedKey;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        firstKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+        rotatedKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+
+        jwks.set(jwks(jwk("kid-1", firstKey)));
+        keyCache = new AppleJwksKeyCache(() -> {
+            fetches.incrementAndGet();
+            return jwks.get();
+        }, new ObjectMapper(), nanos::get, Runnable::run);
+    }
+
+    @Test
+    public void getKey_ShouldServeRepeatedLookupsFromSingleFetch() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            assertEquals(firstKey, keyCache.getKey("kid-1"));
+        }
+
+        // Then
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    public void getKey_WithUnknownKid_ShouldRefreshOnceAndFindRotatedKey() {
+        // Given
+        keyCache.getKey("kid-1");
+        jwks.set(jwks(jwk("kid-1", firstKey) + "," + jwk("kid-2", rotatedKey)));
+
+        // When
+        var key = keyCache.getKey("kid-2");
+
+        // Then
+        assertEquals(rotatedKey, key);
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void getKey_WithUnknownKid_ShouldLimitForcedRefreshes() {
+        // Given
+        keyCache.getKey("kid-1");
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertNull(keyCache.getKey("unknown"));
+        }
+
+        // Then: 최초 조회 1회 + 강제 갱신 1회
+        assertEquals(2, fetches.get());
+
+        // When: 최소 간격이 지난 후
+        nanos.addAndGet(AppleJwksKeyCache.MIN_FORCED_REFRESH_INTERVAL.toNanos());
+        keyCache.getKey("unknown");
+
+        // Then
+        assertEquals(3, fetches.get());
+    }
+
+    @Test
+    public void getKey_AfterRefreshInterval_ShouldReloadKeySet() {
+        // Given
+        keyCache.getKey("kid-1");
+        jwks.set(jwks(jwk("kid-2", rotatedKey)));
+
+        // When
+        nanos.addAndGet(AppleJwksKeyCache.REFRESH_AFTER.plus(Duration.ofSeconds(1)).toNanos());
+        keyCache.getKey("kid-1");
+
+        // Then: 갱신 시점 이후 조회는 백그라운드에서 새 목록을 가져온다
+        assertEquals(2, fetches.get());
+        assertEquals(rotatedKey, keyCache.getKey("kid-2"));
+        assertEquals(2, fetches.get());
+    }
+
+    private static String jwks(String keys) {
+        return "{\"keys\":[" + keys + "]}";
+    }
+
+    private static String jwk(String kid, RSAPublicKey key) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"kty\":\"RSA\",\"kid\":\"" + kid + "\",\"use\":\"sig\",\"alg\":\"RS256\","
+                + "\"n\":\"" + encoder.encodeToString(key.getModulus().toByteArray()) + "\","
+                + "\"e\":\"" + encoder.encodeToString(key.getPublicExponent().toByteArray()) + "\"}";
+    }
+}
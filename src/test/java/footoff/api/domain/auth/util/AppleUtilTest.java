@@ -0,0 +1,82 @@
+package footoff.api.domain.auth.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import footoff.api.domain.auth.exception.AuthHandler;
+import footoff.api.domain.auth.exception.ErrorStatus;
+import footoff.api.global.http.OutboundHttpClient;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+public class AppleUtilTest {
+
+    private static final String CLIENT_ID = "com.footoff.app";
+
+    private final AtomicReference<Supplier<String>> jwksSource = new AtomicReference<>();
+
+    private AppleUtil appleUtil;
+    private String idToken;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        AppleJwksKeyCache keyCache = new AppleJwksKeyCache(
+                () -> jwksSource.get().get(), objectMapper, System::nanoTime, Runnable::run);
+        appleUtil = new AppleUtil(mock(OutboundHttpClient.class), objectMapper, keyCache);
+        ReflectionTestUtils.setField(appleUtil, "clientId", CLIENT_ID);
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        idToken = Jwts.builder()
+                .setHeaderParam("kid", "kid-1")
+                .setIssuer("https://appleid.apple.com")
+                .setAudience(CLIENT_ID)
+                .setSubject("apple-user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    @Test
+    public void requestProfile_WhenJwksFetchFails_ShouldReportProviderUnavailable() {
+        // Given
+        jwksSource.set(() -> {
+            throw new UncheckedIOException(new IOException("Connection refused"));
+        });
+
+        // When
+        AuthHandler exception = assertThrows(AuthHandler.class, () -> appleUtil.requestProfile(idToken));
+
+        // Then
+        assertEquals(ErrorStatus._PROVIDER_UNAVAILABLE, exception.getErrorStatus());
+        assertInstanceOf(UncheckedIOException.class, exception.getCause());
+    }
+
+    @Test
+    public void requestProfile_WhenJwksHasNoSigningKeys_ShouldReportProviderUnavailable() {
+        // Given
+        jwksSource.set(() -> "{\"keys\":[]}");
+
+        // When
+        AuthHandler exception = assertThrows(AuthHandler.class, () -> appleUtil.requestProfile(idToken));
+
+        // Then
+        assertEquals(ErrorStatus._PROVIDER_UNAVAILABLE, exception.getErrorStatus());
+    }
+}
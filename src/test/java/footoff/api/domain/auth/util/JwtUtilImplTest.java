@@ -0,0 +1,56 @@
+package footoff.api.domain.auth.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import footoff.api.global.security.AuthenticatedUser;
+
+public class JwtUtilImplTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String OTHER_SECRET = Base64.getEncoder().encodeToString("another-secret-key-of-32-bytes!!".getBytes());
+
+    private final JwtUtilImpl jwtUtil = new JwtUtilImpl(SECRET, Duration.ofHours(1));
+
+    @Test
+    public void verify_ShouldRestoreUserFromIssuedToken() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String token = jwtUtil.createAccessToken(userId, "USER");
+
+        // When
+        Optional<AuthenticatedUser> user = jwtUtil.verify(token);
+
+        // Then
+        assertTrue(user.isPresent());
+        assertEquals(userId, user.get().userId());
+        assertEquals("USER", user.get().role());
+        assertEquals("ROLE_USER", user.get().authorities().get(0).getAuthority());
+    }
+
+    @Test
+    public void verify_WithTokenSignedByOtherKey_ShouldReject() {
+        // Given
+        String token = new JwtUtilImpl(OTHER_SECRET, Duration.ofHours(1)).createAccessToken(UUID.randomUUID(), "USER");
+
+        // When & Then
+        assertTrue(jwtUtil.verify(token).isEmpty());
+        assertTrue(jwtUtil.verify("not-a-jwt").isEmpty());
+    }
+
+    @Test
+    public void verify_WithExpiredToken_ShouldReject() {
+        // Given
+        JwtUtilImpl expiredIssuer = new JwtUtilImpl(SECRET, Duration.ofSeconds(-1));
+        String token = expiredIssuer.createAccessToken(UUID.randomUUID(), "USER");
+
+        // When & Then
+        assertTrue(jwtUtil.verify(token).isEmpty());
+    }
+}
@@ -0,0 +1,85 @@
+package footoff.api.domain.gathering.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import footoff.api.domain.gathering.util.GeoUtil;
+
+public class GatheringGeoIndexTest {
+
+    private static final double CENTER_LATITUDE = 37.5665;
+    private static final double CENTER_LONGITUDE = 126.9780;
+
+    private GatheringGeoIndex index;
+    private List<GatheringGeoIndex.Entry> entries;
+
+    @BeforeEach
+    public void setup() {
+        // 서울 중심 약 ±30km 범위에 모임 5000개
+        Random random = new Random(42);
+        entries = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            entries.add(new GatheringGeoIndex.Entry(id,
+                    CENTER_LATITUDE + (random.nextDouble() - 0.5) * 0.5,
+                    CENTER_LONGITUDE + (random.nextDouble() - 0.5) * 0.6));
+        }
+        index = new GatheringGeoIndex();
+        index.replaceAll(entries);
+    }
+
+    @Test
+    public void withinRadius_ShouldMatchBruteForceInDistanceOrder() {
+        for (double radius : new double[]{0.5, 2.0, 5.0, 50.0}) {
+            // When
+            List<GatheringGeoIndex.Hit> hits = index.withinRadius(CENTER_LATITUDE, CENTER_LONGITUDE, radius);
+
+            // Then
+            List<Long> expected = bruteForce(radius).stream().map(GatheringGeoIndex.Hit::gatheringId).toList();
+            assertEquals(expected, hits.stream().map(GatheringGeoIndex.Hit::gatheringId).toList(), "반경 " + radius + "km");
+        }
+    }
+
+    @Test
+    public void nearest_ShouldReturnClosestK() {
+        // When
+        List<GatheringGeoIndex.Hit> hits = index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, 10, 50.0);
+
+        // Then
+        List<GatheringGeoIndex.Hit> expected = bruteForce(50.0).subList(0, 10);
+        assertEquals(expected.stream().map(GatheringGeoIndex.Hit::gatheringId).toList(),
+                hits.stream().map(GatheringGeoIndex.Hit::gatheringId).toList());
+    }
+
+    @Test
+    public void putAndRemove_ShouldMoveAndDropGatherings() {
+        // When: 1번 모임을 중심으로 옮기고 2번 모임은 제거
+        index.put(1L, CENTER_LATITUDE, CENTER_LONGITUDE);
+        index.remove(2L);
+
+        // Then
+        assertEquals(1L, index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, 1, 1.0).get(0).gatheringId());
+        assertTrue(index.contains(1L, CENTER_LATITUDE, CENTER_LONGITUDE));
+        assertFalse(index.contains(2L, entries.get(1).latitude(), entries.get(1).longitude()));
+        assertEquals(4999, index.size());
+    }
+
+    private List<GatheringGeoIndex.Hit> bruteForce(double radiusKm) {
+        List<GatheringGeoIndex.Hit> hits = new ArrayList<>();
+        for (GatheringGeoIndex.Entry entry : entries) {
+            double distance = GeoUtil.distanceKm(CENTER_LATITUDE, CENTER_LONGITUDE, entry.latitude(), entry.longitude());
+            if (distance <= radiusKm) {
+                hits.add(new GatheringGeoIndex.Hit(entry.gatheringId(), distance));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(GatheringGeoIndex.Hit::distanceKm)
+                .thenComparingLong(GatheringGeoIndex.Hit::gatheringId));
+        return hits;
+    }
+}
@@ -0,0 +1,158 @@
+package footoff.api.domain.gathering.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GatheringSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 1, 12, 0);
+
+    private GatheringSearchIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new GatheringSearchIndex();
+        index.replaceAll(List.of(
+                source(1, "주말 축구 모임", "한강 공원에서 가볍게 뛰어요", "여의도 한강공원", 37.5284, 126.9327, 3),
+                source(2, "보드게임 번개", "축구 보고 나서 보드게임 하실 분", "강남역 카페", 37.4979, 127.0276, 1),
+                source(3, "풋살 한 판", "실내 풋살장 대관했습니다", "성수 풋살장", 37.5446, 127.0559, 2),
+                source(4, "지난 축구 모임", "이미 끝난 모임", "상암 경기장", 37.5683, 126.8972, -1)));
+    }
+
+    @Test
+    public void search_WithKeyword_ShouldRankTitleMatchFirstAndExcludePastGatherings() {
+        // When
+        List<Long> ids = ids(index.search(query("축구")));
+
+        // Then: 제목에 나온 모임이 설명에만 나온 모임보다 앞선다
+        assertEquals(List.of(1L, 2L), ids);
+    }
+
+    @Test
+    public void search_WithTypo_ShouldStillFindGathering() {
+        // When: "보드게임" 대신 "보드개임"
+        List<Long> ids = ids(index.search(query("보드개임")));
+
+        // Then
+        assertEquals(List.of(2L), ids);
+    }
+
+    @Test
+    public void search_ShouldMatchPlaceNameAndAddress() {
+        // When
+        List<Long> ids = ids(index.search(query("성수동")));
+
+        // Then
+        assertEquals(List.of(3L), ids);
+    }
+
+    @Test
+    public void search_WithLocation_ShouldFilterByRadiusAndOrderByDistance() {
+        // Given: 여의도 기준 15km
+        GatheringSearchIndex.Query query = new GatheringSearchIndex.Query(
+                null, 37.5284, 126.9327, 15.0, null, null, NOW);
+
+        // When
+        List<GatheringSearchIndex.Hit> hits = index.search(query);
+
+        // Then: 지난 모임(4)은 제외, 가까운 순
+        assertEquals(List.of(1L, 2L, 3L), ids(hits));
+        assertEquals(0.0, hits.get(0).distanceKm(), 1e-9);
+    }
+
+    @Test
+    public void search_WithDateRange_ShouldOrderByGatheringDate() {
+        // Given
+        GatheringSearchIndex.Query query = new GatheringSearchIndex.Query(
+                null, null, null, null, NOW.minusDays(2), NOW.plusDays(2), NOW);
+
+        // When
+        List<Long> ids = ids(index.search(query));
+
+        // Then
+        assertEquals(List.of(4L, 2L, 3L), ids);
+    }
+
+    @Test
+    public void search_WithTypo_ShouldLimitFuzzyExpansions() {
+        // Given: "가" 로 시작하는 bigram 이 많은 색인
+        GatheringSearchIndex crowded = new GatheringSearchIndex();
+        List<GatheringSearchIndex.Source> sources = new ArrayList<>();
+        String seconds = "나다라마바사아자차카타파하";
+        for (int i = 0; i < seconds.length(); i++) {
+            sources.add(source(i + 1, "가" + seconds.charAt(i), "", "광장", 37.5, 127.0, 1));
+        }
+        crowded.replaceAll(sources);
+
+        // When: 색인에 없는 bigram
+        List<GatheringSearchIndex.Hit> hits = crowded.search(query("가힣"));
+
+        // Then: 한 글자 다른 bigram 중 일부만 대신 사용한다
+        assertEquals(GatheringSearchIndex.MAX_FUZZY_EXPANSIONS, hits.size());
+    }
+
+    @Test
+    public void putAndRemove_ShouldKeepFuzzyCandidatesInSync() {
+        // Given
+        index.remove(2);
+
+        // When & Then: 제거된 모임의 bigram 은 오타 후보로도 쓰이지 않는다
+        assertEquals(List.of(), ids(index.search(query("보드개임"))));
+
+        // When & Then: 다시 추가하면 오타 후보로 찾는다
+        index.put(source(2, "보드게임 번개", "축구 보고 나서 보드게임 하실 분", "강남역 카페", 37.4979, 127.0276, 1));
+        assertEquals(List.of(2L), ids(index.search(query("보드개임"))));
+    }
+
+    @Test
+    public void putAndRemove_ShouldUpdatePostingsIncrementally() {
+        // When
+        index.put(source(1, "주말 등산 모임", "북한산 등산", "북한산성 입구", 37.6593, 126.9780, 3));
+        index.remove(2);
+
+        // Then
+        assertEquals(List.of(), ids(index.search(query("축구"))));
+        assertEquals(List.of(1L), ids(index.search(query("등산"))));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void postingList_ShouldRoundTripCompressedEntries() {
+        // Given
+        long[] ids = {3, 17, 18, 1_000_000_007L};
+        int[] frequencies = {1, 300, 2, 5};
+
+        // When
+        PostingList postingList = PostingList.encode(ids, frequencies, ids.length)
+                .with(10, 4)
+                .with(17, 1)
+                .without(18);
+
+        // Then
+        List<String> entries = new ArrayList<>();
+        postingList.forEach((id, tf) -> entries.add(id + ":" + tf));
+        assertEquals(List.of("3:1", "10:4", "17:1", "1000000007:5"), entries);
+        assertEquals(4, postingList.size());
+        assertTrue(postingList.byteSize() < ids.length * 12);
+    }
+
+    private static GatheringSearchIndex.Query query(String keyword) {
+        return new GatheringSearchIndex.Query(keyword, null, null, null, null, null, NOW);
+    }
+
+    private static GatheringSearchIndex.Source source(long id, String title, String description, String placeName,
+                                                      double latitude, double longitude, int daysFromNow) {
+        return new GatheringSearchIndex.Source(id, title, description, placeName, "서울 " + placeName.split(" ")[0] + "동",
+                NOW.plusDays(daysFromNow), latitude, longitude);
+    }
+
+    private static List<Long> ids(List<GatheringSearchIndex.Hit> hits) {
+        return hits.stream().map(GatheringSearchIndex.Hit::gatheringId).toList();
+    }
+}
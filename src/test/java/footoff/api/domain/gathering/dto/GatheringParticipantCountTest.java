@@ -0,0 +1,96 @@
+package footoff.api.domain.gathering.dto;
+
+import footoff.api.domain.gathering.entity.Gathering;
+import footoff.api.domain.gathering.entity.GatheringUser;
+import footoff.api.domain.user.entity.User;
+import footoff.api.domain.user.entity.UserProfile;
+import footoff.api.global.common.enums.GatheringUserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 모임 DTO 의 userCount 가 승인/대기 중인 참가자만 세는지 고정하는 테스트
+ * 거절/취소된 참가 기록은 참가자 목록에는 남지만 userCount 에는 포함되지 않는다
+ */
+public class GatheringParticipantCountTest {
+
+    private Gathering gathering;
+
+    @BeforeEach
+    public void setUp() {
+        User organizer = mock(User.class);
+        UserProfile profile = mock(UserProfile.class);
+        when(organizer.getId()).thenReturn(UUID.randomUUID());
+        when(organizer.getProfile()).thenReturn(profile);
+        when(profile.getNickname()).thenReturn("주최자");
+
+        gathering = Gathering.builder()
+                .id(1L)
+                .title("테스트 모임")
+                .description("테스트 모임 설명")
+                .gatheringDate(LocalDateTime.now().plusDays(7))
+                .minUsers(1)
+                .maxUsers(10)
+                .fee(0)
+                .organizer(organizer)
+                .build();
+
+        addParticipant(GatheringUserStatus.APPROVED);
+        addParticipant(GatheringUserStatus.APPROVED);
+        addParticipant(GatheringUserStatus.PENDING);
+        addParticipant(GatheringUserStatus.REJECTED);
+        addParticipant(GatheringUserStatus.CANCELLED);
+        gathering.applyParticipantCountDelta(2, 1);
+    }
+
+    @Test
+    public void gatheringDtoCountsApprovedAndPendingOnly() {
+        // When
+        GatheringDto dto = GatheringDto.fromEntity(gathering);
+
+        // Then
+        assertEquals(3, dto.getUserCount());
+    }
+
+    @Test
+    public void gatheringUsersWithStatusDtoCountsApprovedAndPendingOnly() {
+        // When
+        GatheringUsersWithStatusDto dto = GatheringUsersWithStatusDto.fromEntity(gathering);
+
+        // Then
+        assertEquals(3, dto.getUserCount());
+        assertEquals(5, dto.getUsers().size());
+    }
+
+    @Test
+    public void gatheringDetailResponseDtoCountsApprovedAndPendingOnly() {
+        // When
+        GatheringDetailResponseDto dto = GatheringDetailResponseDto.fromEntity(gathering, null);
+
+        // Then
+        assertEquals(3, dto.getUserCount());
+        assertEquals(2, dto.getApprovedUserCount());
+        assertEquals(1, dto.getPendingUserCount());
+        assertEquals(5, dto.getParticipants().size());
+    }
+
+    private void addParticipant(GatheringUserStatus status) {
+        User user = mock(User.class);
+        UserProfile profile = mock(UserProfile.class);
+        when(user.getId()).thenReturn(UUID.randomUUID());
+        when(user.getProfile()).thenReturn(profile);
+
+        gathering.addUser(GatheringUser.builder()
+                .gathering(gathering)
+                .user(user)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,88 @@
+package footoff.api.domain.gathering.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import footoff.api.domain.gathering.component.GatheringSearchIndex;
+import footoff.api.domain.gathering.repository.GatheringRepository;
+import footoff.api.domain.gathering.repository.projection.GatheringSearchDocumentView;
+import footoff.api.global.common.enums.GatheringStatus;
+
+public class GatheringSearchIndexUpdaterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private GatheringRepository gatheringRepository;
+
+    private GatheringSearchIndex index;
+    private GatheringSearchIndexUpdater updater;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        index = new GatheringSearchIndex();
+        updater = new GatheringSearchIndexUpdater(index, gatheringRepository);
+    }
+
+    @Test
+    public void rebuild_ShouldReapplyChangesCommittedWhileLoading() {
+        // Given: 전체 목록을 읽은 직후 새 모임이 커밋되어 이벤트가 이전 색인에 반영되는 경우
+        GatheringSearchDocumentView existing = document(1L, "주말 축구 모임");
+        GatheringSearchDocumentView created = document(2L, "평일 풋살 모임");
+        when(gatheringRepository.findSearchDocumentsByIdIn(anyCollection())).thenReturn(List.of(created));
+        when(gatheringRepository.findSearchDocumentsByStatus(GatheringStatus.RECRUITMENT)).thenAnswer(invocation -> {
+            updater.onGatheringChanged(GatheringChangedEvent.of(2L));
+            return List.of(existing);
+        });
+
+        // When
+        int indexed = updater.rebuild();
+
+        // Then: 교체 후 다시 반영되어 새 모임이 사라지지 않는다
+        assertEquals(1, indexed);
+        assertEquals(2, index.size());
+        assertEquals(List.of(2L), ids(index.search(query("풋살"))));
+    }
+
+    @Test
+    public void onGatheringChanged_AfterRebuild_ShouldNotRecordChanges() {
+        // Given
+        when(gatheringRepository.findSearchDocumentsByStatus(GatheringStatus.RECRUITMENT)).thenReturn(List.of());
+        when(gatheringRepository.findSearchDocumentsByIdIn(anyCollection())).thenReturn(List.of());
+        updater.rebuild();
+
+        // When
+        updater.onGatheringChanged(GatheringChangedEvent.of(3L));
+        updater.rebuild();
+
+        // Then: 재색인 중이 아닐 때의 변경은 다음 재색인에서 다시 읽지 않는다
+        verify(gatheringRepository, times(1)).findSearchDocumentsByIdIn(anyCollection());
+    }
+
+    private static GatheringSearchDocumentView document(Long id, String title) {
+        GatheringSearchDocumentView document = mock(GatheringSearchDocumentView.class);
+        when(document.getId()).thenReturn(id);
+        when(document.getStatus()).thenReturn(GatheringStatus.RECRUITMENT);
+        when(document.getTitle()).thenReturn(title);
+        when(document.getGatheringDate()).thenReturn(NOW.plusDays(1));
+        return document;
+    }
+
+    private static GatheringSearchIndex.Query query(String keyword) {
+        return new GatheringSearchIndex.Query(keyword, null, null, null, null, null, NOW);
+    }
+
+    private static List<Long> ids(List<GatheringSearchIndex.Hit> hits) {
+        return hits.stream().map(GatheringSearchIndex.Hit::gatheringId).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package footoff.api.domain.gathering.service;
+
+import footoff.api.domain.gathering.component.GatheringGeoIndex;
+import footoff.api.domain.gathering.component.GatheringSearchIndex;
+import footoff.api.domain.gathering.repository.GatheringRepository;
+import footoff.api.global.exception.InvalidOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class GatheringSearchServiceImplTest {
+
+    @InjectMocks
+    private GatheringSearchServiceImpl gatheringSearchService;
+
+    @Mock
+    private GatheringRepository gatheringRepository;
+
+    @Mock
+    private GatheringGeoIndex gatheringGeoIndex;
+
+    @Mock
+    private GatheringSearchIndex gatheringSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void searchRecruitingNearby_ShouldClampLargeSize() {
+        // Given
+        when(gatheringGeoIndex.nearest(anyDouble(), anyDouble(), anyInt(), anyDouble())).thenReturn(new ArrayList<>());
+
+        // When
+        gatheringSearchService.searchRecruitingNearby(37.5, 127.0, 5.0, 1_000_000);
+
+        // Then
+        verify(gatheringGeoIndex).nearest(37.5, 127.0, 50, 5.0);
+    }
+
+    @Test
+    public void searchByKeyword_ShouldClampLargeSize() {
+        // Given
+        when(gatheringRepository.findIdsByKeyword(anyString(), any(), any()))
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
+
+        // When
+        var result = gatheringSearchService.searchByKeyword("풋살", 0, 1000);
+
+        // Then
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(gatheringRepository).findIdsByKeyword(anyString(), any(), pageable.capture());
+        assertEquals(50, pageable.getValue().getPageSize());
+        assertEquals(50, result.getSize());
+    }
+
+    @Test
+    public void search_WithInvalidPageOrSize_ShouldThrowInvalidOperationException() {
+        assertThrows(InvalidOperationException.class,
+                () -> gatheringSearchService.search("풋살", null, null, null, null, null, -1, 10));
+        assertThrows(InvalidOperationException.class,
+                () -> gatheringSearchService.search("풋살", null, null, null, null, null, 0, 0));
+        assertThrows(InvalidOperationException.class,
+                () -> gatheringSearchService.searchByLocation(37.5, 127.0, 5.0, 0, -5));
+        assertThrows(InvalidOperationException.class,
+                () -> gatheringSearchService.searchRecruitingNearby(37.5, 127.0, 5.0, 0));
+        verifyNoInteractions(gatheringSearchIndex, gatheringGeoIndex, gatheringRepository);
+    }
+}
@@ -1,6 +1,8 @@
 package footoff.api.domain.gathering.service;
 
 import footoff.api.domain.gathering.dto.GatheringDto;
+import footoff.api.domain.gathering.dto.GatheringFeedCursor;
+import footoff.api.domain.gathering.dto.GatheringFeedResponseDto;
 import footoff.api.domain.gathering.dto.GatheringRequestDto;
 import footoff.api.domain.gathering.dto.GatheringUsersWithStatusDto;
 import footoff.api.domain.gathering.entity.Gathering;
@@ -8,15 +10,19 @@ import footoff.api.domain.gathering.entity.GatheringLocation;
 import footoff.api.domain.gathering.entity.GatheringUser;
 import footoff.api.domain.gathering.repository.GatheringRepository;
 import footoff.api.domain.gathering.repository.GatheringUserRepository;
+import footoff.api.domain.gathering.repository.projection.GatheringSummaryView;
+import footoff.api.domain.user.component.BlockGraph;
 import footoff.api.domain.user.entity.User;
 import footoff.api.domain.user.repository.UserRepository;
 import footoff.api.global.common.enums.*;
+import footoff.api.global.exception.InvalidOperationException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -26,6 +32,9 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class GatheringServiceImplTest {
@@ -42,6 +51,15 @@ public class GatheringServiceImplTest {
     @Mock
     private UserRepository systemUserRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BlockGraph blockGraph;
+
+    @Mock
+    private GatheringSummaryAssembler gatheringSummaryAssembler;
+
     private User testUser;
     private Gathering testGathering;
     private GatheringLocation testLocation;
@@ -154,7 +172,7 @@ public class GatheringServiceImplTest {
         Long gatheringId = 1L;
         // Set up the testGathering to have a location
         testGathering.setLocation(testLocation);
-        when(gatheringRepository.findById(gatheringId)).thenReturn(Optional.of(testGathering));
+        when(gatheringRepository.findSummaryById(gatheringId)).thenReturn(Optional.of(testGathering));
 
         // When
         GatheringDto result = gatheringService.getGathering(gatheringId);
@@ -165,21 +183,21 @@ public class GatheringServiceImplTest {
         assertEquals("테스트 모임", result.getTitle());
         assertEquals("서울시 강남구", result.getAddress()); // This should come from the location
 
-        verify(gatheringRepository, times(1)).findById(gatheringId);
+        verify(gatheringRepository, times(1)).findSummaryById(gatheringId);
     }
 
     @Test
     public void getGathering_NonExistingId_ThrowsException() {
         // Given
         Long gatheringId = 99L;
-        when(gatheringRepository.findById(gatheringId)).thenReturn(Optional.empty());
+        when(gatheringRepository.findSummaryById(gatheringId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(EntityNotFoundException.class, () -> {
             gatheringService.getGathering(gatheringId);
         });
 
-        verify(gatheringRepository, times(1)).findById(gatheringId);
+        verify(gatheringRepository, times(1)).findSummaryById(gatheringId);
     }
 
     @Test
@@ -227,4 +245,153 @@ public class GatheringServiceImplTest {
 
         verify(gatheringRepository, times(1)).findAllByStatus(GatheringStatus.RECRUITMENT);
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void approveUser_ByNonOrganizer_ThrowsInvalidOperationException() {
+        // Given
+        UUID applicantId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        when(gatheringRepository.findById(1L)).thenReturn(Optional.of(testGathering));
+
+        // When & Then
+        assertThrows(InvalidOperationException.class,
+                () -> gatheringService.approveUser(1L, applicantId, otherUserId));
+        verify(gatheringRepository, never()).incrementApprovedCountIfNotFull(any(), anyInt());
+        verifyNoInteractions(systemUserRepository, userRepository, eventPublisher);
+    }
+
+    @Test
+    public void rejectUser_ByNonOrganizer_ThrowsInvalidOperationException() {
+        // Given
+        UUID applicantId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        when(gatheringRepository.findById(1L)).thenReturn(Optional.of(testGathering));
+
+        // When & Then
+        assertThrows(InvalidOperationException.class,
+                () -> gatheringService.rejectUser(1L, applicantId, otherUserId));
+        verifyNoInteractions(systemUserRepository, userRepository, eventPublisher);
+    }
+
+    @Test
+    public void cancelGatheringBySystem_WhenMinimumReachedAfterSelection_ShouldSkip() {
+        // Given: 자동 취소 대상으로 선정된 뒤 참가가 승인되어 최소 인원을 채운 모임
+        Gathering gathering = Gathering.builder()
+                .id(2L)
+                .title("최소 인원 충족 모임")
+                .gatheringDate(LocalDateTime.now().plusDays(1))
+                .minUsers(3)
+                .maxUsers(10)
+                .fee(0)
+                .organizer(testUser)
+                .build();
+        gathering.applyParticipantCountDelta(3, 0);
+        when(gatheringRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(gathering));
+
+        // When
+        gatheringService.cancelGatheringBySystem(2L);
+
+        // Then
+        assertEquals(GatheringStatus.RECRUITMENT, gathering.getStatus());
+        verify(gatheringRepository, never()).resetParticipantCounts(any());
+        verifyNoInteractions(userRepository, eventPublisher);
+    }
+
+    @Test
+    public void cancelGatheringBySystem_WhenStillUnderMinimum_ShouldCancelParticipants() {
+        // Given: 주최자와 대기 중인 참가자 1명만 있는 모임
+        Gathering gathering = Gathering.builder()
+                .id(2L)
+                .title("최소 인원 미달 모임")
+                .gatheringDate(LocalDateTime.now().plusDays(1))
+                .minUsers(3)
+                .maxUsers(10)
+                .fee(0)
+                .organizer(testUser)
+                .build();
+        gathering.applyParticipantCountDelta(1, 1);
+        GatheringUser organizer = GatheringUser.builder()
+                .gathering(gathering)
+                .user(testUser)
+                .status(GatheringUserStatus.APPROVED)
+                .role(GatheringUserRole.ORGANIZER)
+                .build();
+        when(gatheringRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(gathering));
+        when(userRepository.findByGathering(gathering)).thenReturn(List.of(organizer));
+
+        // When
+        gatheringService.cancelGatheringBySystem(2L);
+
+        // Then
+        assertEquals(GatheringStatus.CANCELLED, gathering.getStatus());
+        assertEquals(0, gathering.getApprovedCount());
+        verify(gatheringRepository).resetParticipantCounts(2L);
+        verify(userRepository, never()).countByGatheringId(any());
+    }
+
+    @Test
+    public void getGatheringFeed_WhenBlockedGatheringsFillEveryBatch_ShouldStopAndReturnCursorOfLastScannedRow() {
+        // Given: 모든 구간이 차단한 주최자의 모임으로만 채워진 경우
+        UUID blockedOrganizerId = UUID.randomUUID();
+        BlockGraph.HiddenUsers hidden = mock(BlockGraph.HiddenUsers.class);
+        when(hidden.contains(blockedOrganizerId)).thenReturn(true);
+        when(blockGraph.hiddenFor(testUserId)).thenReturn(hidden);
+        when(gatheringSummaryAssembler.withParticipants(anyList())).thenReturn(new ArrayList<>());
+
+        LocalDateTime date = LocalDateTime.now().plusDays(1);
+        when(gatheringRepository.findFeedFirstPage(eq(GatheringStatus.RECRUITMENT), any()))
+                .thenReturn(feedRows(date, blockedOrganizerId, 1L, 2L, 3L));
+        when(gatheringRepository.findFeedAfterCursor(eq(GatheringStatus.RECRUITMENT), eq(date), eq(3L), any()))
+                .thenReturn(feedRows(date, blockedOrganizerId, 4L, 5L, 6L));
+        when(gatheringRepository.findFeedAfterCursor(eq(GatheringStatus.RECRUITMENT), eq(date), eq(6L), any()))
+                .thenReturn(feedRows(date, blockedOrganizerId, 7L, 8L, 9L));
+
+        // When
+        GatheringFeedResponseDto result = gatheringService.getGatheringFeed(testUserId, null, 2);
+
+        // Then: 3개 구간만 조회하고, 마지막으로 조회한 행부터 이어서 조회하도록 커서를 반환한다
+        assertTrue(result.isHasNext());
+        assertEquals(new GatheringFeedCursor(date, 9L).encode(), result.getNextCursor());
+        verify(gatheringRepository, times(1)).findFeedFirstPage(eq(GatheringStatus.RECRUITMENT), any());
+        verify(gatheringRepository, times(2)).findFeedAfterCursor(eq(GatheringStatus.RECRUITMENT), any(), any(), any());
+        verify(gatheringSummaryAssembler).withParticipants(List.of());
+    }
+
+    @Test
+    public void getGatheringFeed_WhenPageFilled_ShouldReturnCursorOfLastReturnedGathering() {
+        // Given: 첫 구간의 일부가 차단되어 다음 구간에서 페이지를 채우는 경우
+        UUID blockedOrganizerId = UUID.randomUUID();
+        UUID organizerId = UUID.randomUUID();
+        BlockGraph.HiddenUsers hidden = mock(BlockGraph.HiddenUsers.class);
+        when(hidden.contains(blockedOrganizerId)).thenReturn(true);
+        when(blockGraph.hiddenFor(testUserId)).thenReturn(hidden);
+        when(gatheringSummaryAssembler.withParticipants(anyList())).thenReturn(new ArrayList<>());
+
+        LocalDateTime date = LocalDateTime.now().plusDays(1);
+        List<GatheringSummaryView> first = feedRows(date, blockedOrganizerId, 1L, 2L);
+        first.addAll(feedRows(date, organizerId, 3L));
+        when(gatheringRepository.findFeedFirstPage(eq(GatheringStatus.RECRUITMENT), any())).thenReturn(first);
+        when(gatheringRepository.findFeedAfterCursor(eq(GatheringStatus.RECRUITMENT), eq(date), eq(3L), any()))
+                .thenReturn(feedRows(date, organizerId, 4L, 5L, 6L));
+
+        // When
+        GatheringFeedResponseDto result = gatheringService.getGatheringFeed(testUserId, null, 2);
+
+        // Then
+        assertTrue(result.isHasNext());
+        assertEquals(new GatheringFeedCursor(date, 4L).encode(), result.getNextCursor());
+        verify(gatheringRepository, times(1)).findFeedAfterCursor(eq(GatheringStatus.RECRUITMENT), any(), any(), any());
+    }
+
+    private static List<GatheringSummaryView> feedRows(LocalDateTime date, UUID organizerId, Long... ids) {
+        List<GatheringSummaryView> rows = new ArrayList<>();
+        for (Long id : ids) {
+            GatheringSummaryView row = mock(GatheringSummaryView.class);
+            when(row.getId()).thenReturn(id);
+            when(row.getGatheringDate()).thenReturn(date);
+            when(row.getOrganizerId()).thenReturn(organizerId);
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,60 @@
+package footoff.api.domain.gathering.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class GeoUtilTest {
+
+    @Test
+    public void distanceKm_ShouldMatchGreatCircleDistance() {
+        // When: 위도 1도 차이
+        double distance = GeoUtil.distanceKm(37.0, 127.0, 38.0, 127.0);
+
+        // Then
+        assertEquals(111.19, distance, 0.01);
+        assertEquals(0.0, GeoUtil.distanceKm(37.5665, 126.9780, 37.5665, 126.9780), 1e-9);
+    }
+
+    @Test
+    public void boundingBox_ShouldContainEveryPointWithinRadius() {
+        // Given
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+        double radiusKm = 5.0;
+        GeoUtil.BoundingBox box = GeoUtil.boundingBox(latitude, longitude, radiusKm);
+
+        // When & Then: 반경 경계 바로 안쪽의 점들이 모두 사각형 안에 있어야 한다
+        for (int bearing = 0; bearing < 360; bearing += 5) {
+            double[] point = destination(latitude, longitude, radiusKm * 0.999, bearing);
+            assertTrue(GeoUtil.distanceKm(latitude, longitude, point[0], point[1]) <= radiusKm);
+            assertTrue(box.contains(point[0], point[1]), "방위각 " + bearing + "도의 점이 사각형 밖에 있습니다.");
+        }
+
+        // 사각형은 반경보다 지나치게 크지 않아야 한다
+        assertEquals(2 * radiusKm, GeoUtil.distanceKm(box.minLatitude(), longitude, box.maxLatitude(), longitude), 0.01);
+    }
+
+    @Test
+    public void boundingBox_NearPole_ShouldCoverAllLongitudes() {
+        // When
+        GeoUtil.BoundingBox box = GeoUtil.boundingBox(89.99, 10.0, 5.0);
+
+        // Then
+        assertEquals(-180, box.minLongitude());
+        assertEquals(180, box.maxLongitude());
+        assertEquals(90, box.maxLatitude());
+    }
+
+    private static double[] destination(double latitude, double longitude, double distanceKm, double bearingDegrees) {
+        double angular = distanceKm / GeoUtil.EARTH_RADIUS_KM;
+        double bearing = Math.toRadians(bearingDegrees);
+        double lat1 = Math.toRadians(latitude);
+        double lon1 = Math.toRadians(longitude);
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular)
+                + Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+        double lon2 = lon1 + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+        return new double[]{Math.toDegrees(lat2), Math.toDegrees(lon2)};
+    }
+}
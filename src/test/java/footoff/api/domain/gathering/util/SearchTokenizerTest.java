@@ -0,0 +1,40 @@
+package footoff.api.domain.gathering.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchTokenizerTest {
+
+    @Test
+    public void bigrams_ShouldSplitKoreanWordsIntoOverlappingPairs() {
+        // When
+        List<String> bigrams = SearchTokenizer.bigrams("축구모임을 합니다!", "Futsal 5");
+
+        // Then: 한 글자 단어는 제외, 영문은 소문자로
+        assertEquals(List.of("축구", "구모", "모임", "임을", "합니", "니다", "fu", "ut", "ts", "sa", "al"), bigrams);
+    }
+
+    @Test
+    public void toBooleanQuery_ShouldRequireEveryBigramAndIgnoreOperators() {
+        // When
+        String query = SearchTokenizer.toBooleanQuery("모임* -축구 \"풋살\"");
+
+        // Then
+        assertEquals("+모임 +축구 +풋살", query);
+        assertEquals("", SearchTokenizer.toBooleanQuery("가 나"));
+    }
+
+    @Test
+    public void toIndexText_ShouldContainEveryBigramOfMatchingKeyword() {
+        // Given
+        String indexText = SearchTokenizer.toIndexText("주말 한강 러닝모임", "초보자도 환영합니다");
+
+        // When & Then: 색인에 검색어 "러닝모임"의 모든 bigram 이 들어 있다
+        List<String> indexed = List.of(indexText.split(" "));
+        assertTrue(indexed.containsAll(SearchTokenizer.bigrams("러닝모임")));
+        assertFalse(indexed.containsAll(SearchTokenizer.bigrams("등산모임")));
+    }
+}
@@ -0,0 +1,118 @@
+package footoff.api.domain.user.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BlockGraphTest {
+
+    private BlockGraph blockGraph;
+    private UUID alice;
+    private UUID bob;
+    private UUID carol;
+
+    @BeforeEach
+    public void setup() {
+        blockGraph = new BlockGraph();
+        alice = UUID.randomUUID();
+        bob = UUID.randomUUID();
+        carol = UUID.randomUUID();
+    }
+
+    @Test
+    public void block_ShouldHideUsersFromEachOther() {
+        // When
+        blockGraph.block(alice, bob);
+
+        // Then: 차단은 한 방향으로 기록되지만 양쪽 모두에게 숨겨진다
+        assertTrue(blockGraph.blocks(alice, bob));
+        assertFalse(blockGraph.blocks(bob, alice));
+        assertTrue(blockGraph.isHidden(alice, bob));
+        assertTrue(blockGraph.isHidden(bob, alice));
+        assertTrue(blockGraph.hiddenFor(alice).contains(bob));
+        assertTrue(blockGraph.hiddenFor(bob).contains(alice.toString()));
+        assertTrue(blockGraph.hiddenFor(carol).isEmpty());
+    }
+
+    @Test
+    public void unblock_ShouldRemoveOnlyThatDirection() {
+        // Given
+        blockGraph.block(alice, bob);
+        blockGraph.block(bob, alice);
+        blockGraph.block(alice, carol);
+
+        // When
+        blockGraph.unblock(alice, bob);
+
+        // Then
+        assertFalse(blockGraph.blocks(alice, bob));
+        assertTrue(blockGraph.isHidden(alice, bob));
+        assertEquals(2, blockGraph.hiddenFor(alice).size());
+
+        // When
+        blockGraph.unblock(bob, alice);
+
+        // Then
+        assertFalse(blockGraph.isHidden(alice, bob));
+        assertEquals(1, blockGraph.edgeCount());
+    }
+
+    @Test
+    public void randomOperations_ShouldMatchReferenceSet() {
+        // Given
+        Random random = new Random(7);
+        UUID[] users = new UUID[200];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = UUID.randomUUID();
+        }
+        Set<List<UUID>> expected = new HashSet<>();
+
+        // When: 차단/해제를 섞어 반복 (해시 테이블 확장과 삭제 포함)
+        for (int i = 0; i < 50_000; i++) {
+            UUID user = users[random.nextInt(users.length)];
+            UUID blocked = users[random.nextInt(users.length)];
+            if (random.nextInt(3) > 0) {
+                blockGraph.block(user, blocked);
+                expected.add(List.of(user, blocked));
+            } else {
+                blockGraph.unblock(user, blocked);
+                expected.remove(List.of(user, blocked));
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), blockGraph.edgeCount());
+        for (UUID user : users) {
+            BlockGraph.HiddenUsers hidden = blockGraph.hiddenFor(user);
+            for (UUID other : users) {
+                assertEquals(expected.contains(List.of(user, other)), blockGraph.blocks(user, other));
+                boolean either = expected.contains(List.of(user, other)) || expected.contains(List.of(other, user));
+                assertEquals(either, hidden.contains(other));
+            }
+        }
+    }
+
+    @Test
+    public void replaceAll_ShouldDiscardPreviousEdges() {
+        // Given
+        blockGraph.block(alice, bob);
+        List<BlockGraph.Edge> edges = new ArrayList<>();
+        edges.add(new BlockGraph.Edge(bob, carol));
+
+        // When
+        blockGraph.replaceAll(edges);
+
+        // Then
+        assertFalse(blockGraph.isHidden(alice, bob));
+        assertTrue(blockGraph.isHidden(carol, bob));
+        assertEquals(1, blockGraph.edgeCount());
+    }
+}
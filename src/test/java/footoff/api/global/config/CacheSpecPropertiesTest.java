@@ -0,0 +1,81 @@
+package footoff.api.global.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CacheSpecPropertiesTest {
+
+    private CacheSpecProperties properties;
+
+    @BeforeEach
+    public void setup() {
+        properties = new CacheSpecProperties();
+        properties.getDefaults().setMaximumSize(500L);
+        properties.getDefaults().setExpireAfterWrite(Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void resolve_ShouldReturnDefaultsForUnconfiguredCache() {
+        // When
+        CacheSpecProperties.Spec spec = properties.resolve("gatheringsCache");
+
+        // Then
+        assertEquals(500L, spec.getMaximumSize());
+        assertEquals(Duration.ofMinutes(10), spec.getExpireAfterWrite());
+    }
+
+    @Test
+    public void resolve_WithSizeOnlyOverride_ShouldKeepDefaultExpiry() {
+        // Given
+        CacheSpecProperties.Spec override = new CacheSpecProperties.Spec();
+        override.setMaximumSize(16L);
+        properties.getSpecs().put("gatheringsCache", override);
+
+        // When
+        CacheSpecProperties.Spec spec = properties.resolve("gatheringsCache");
+
+        // Then
+        assertEquals(16L, spec.getMaximumSize());
+        assertNull(spec.getMaximumWeight());
+        assertEquals(Duration.ofMinutes(10), spec.getExpireAfterWrite());
+        assertNull(spec.getExpireAfterAccess());
+    }
+
+    @Test
+    public void resolve_WithWeightAndAccessExpiryOverride_ShouldReplaceDefaultBoundAndExpiry() {
+        // Given: 크기 제한과 만료 정책은 각각 한 묶음으로 덮어쓴다
+        CacheSpecProperties.Spec override = new CacheSpecProperties.Spec();
+        override.setMaximumWeight(200_000L);
+        override.setExpireAfterAccess(Duration.ofHours(1));
+        properties.getSpecs().put("socialAccountCache", override);
+
+        // When
+        CacheSpecProperties.Spec spec = properties.resolve("socialAccountCache");
+
+        // Then
+        assertEquals(200_000L, spec.getMaximumWeight());
+        assertNull(spec.getMaximumSize());
+        assertEquals(Duration.ofHours(1), spec.getExpireAfterAccess());
+        assertNull(spec.getExpireAfterWrite());
+    }
+
+    @Test
+    public void resolve_WithoutConfiguredDefaults_ShouldUseBuiltInSize() {
+        // Given
+        CacheSpecProperties unconfigured = new CacheSpecProperties();
+        CacheSpecProperties.Spec override = new CacheSpecProperties.Spec();
+        override.setExpireAfterWrite(Duration.ofMinutes(1));
+        unconfigured.getSpecs().put("upcomingGatheringsCache", override);
+
+        // When
+        CacheSpecProperties.Spec spec = unconfigured.resolve("upcomingGatheringsCache");
+
+        // Then
+        assertEquals(1_000L, spec.getMaximumSize());
+        assertEquals(Duration.ofMinutes(1), spec.getExpireAfterWrite());
+    }
+}
@@ -0,0 +1,67 @@
+package footoff.api.global.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OutboundHttpPropertiesTest {
+
+    private OutboundHttpProperties properties;
+
+    @BeforeEach
+    public void setup() {
+        properties = new OutboundHttpProperties();
+        properties.getDefaults().setMaxConnections(40);
+        properties.getDefaults().setResponseTimeout(Duration.ofSeconds(4));
+    }
+
+    @Test
+    public void resolve_ShouldReturnDefaultsForUnconfiguredDestination() {
+        // When
+        OutboundHttpProperties.Spec spec = properties.resolve("kakao");
+
+        // Then
+        assertEquals(40, spec.getMaxConnections());
+        assertEquals(Duration.ofSeconds(4), spec.getResponseTimeout());
+        assertEquals(Duration.ofSeconds(2), spec.getConnectTimeout());
+    }
+
+    @Test
+    public void resolve_ShouldMergeDestinationOverDefaultsFieldByField() {
+        // Given
+        OutboundHttpProperties.Spec discord = new OutboundHttpProperties.Spec();
+        discord.setMaxConnections(5);
+        discord.setSlowCallDurationThreshold(Duration.ofSeconds(8));
+        properties.getDestinations().put("discord", discord);
+
+        // When
+        OutboundHttpProperties.Spec spec = properties.resolve("discord");
+
+        // Then
+        assertEquals(5, spec.getMaxConnections());
+        assertEquals(Duration.ofSeconds(8), spec.getSlowCallDurationThreshold());
+        assertEquals(Duration.ofSeconds(4), spec.getResponseTimeout());
+        assertEquals(Duration.ofSeconds(1), spec.getConnectionRequestTimeout());
+        assertEquals(50f, spec.getFailureRateThreshold());
+        assertEquals(20, spec.getSlidingWindowSize());
+        assertEquals(Duration.ofSeconds(30), spec.getWaitDurationInOpenState());
+    }
+
+    @Test
+    public void resolve_ShouldNotModifyDestinationOrDefaults() {
+        // Given
+        OutboundHttpProperties.Spec apple = new OutboundHttpProperties.Spec();
+        apple.setConnectTimeout(Duration.ofMillis(500));
+        properties.getDestinations().put("apple", apple);
+
+        // When
+        properties.resolve("apple");
+
+        // Then
+        assertNull(apple.getMaxConnections());
+        assertEquals(Duration.ofSeconds(2), properties.getDefaults().getConnectTimeout());
+    }
+}
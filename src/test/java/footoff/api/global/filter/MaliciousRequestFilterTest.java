@@ -0,0 +1,78 @@
+package footoff.api.global.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import footoff.api.global.security.ClientIpResolver;
+import footoff.api.global.security.RequestRateLimiter;
+import footoff.api.global.security.RequestScanner;
+import footoff.api.global.security.SecurityMonitoringService;
+
+public class MaliciousRequestFilterTest {
+
+    private static final String LOAD_BALANCER = "10.0.1.20";
+
+    @Mock
+    private SecurityMonitoringService securityMonitoringService;
+
+    private MaliciousRequestFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(securityMonitoringService.checkRateLimit(anyString(), anyString()))
+                .thenReturn(new RequestRateLimiter.Decision(true, null, 0));
+        filter = new MaliciousRequestFilter(securityMonitoringService, new RequestScanner(),
+                new ClientIpResolver(new String[] {"10.0.0.0/8"}));
+    }
+
+    @Test
+    public void doFilter_BehindLoadBalancer_ShouldKeyChecksOnForwardedClient() throws Exception {
+        // Given
+        MockHttpServletRequest first = forwarded("203.0.113.7");
+        MockHttpServletRequest second = forwarded("198.51.100.9");
+
+        // When
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(second, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then: 두 클라이언트가 로드 밸런서 IP 하나로 묶이지 않는다
+        verify(securityMonitoringService).isBlacklisted("203.0.113.7");
+        verify(securityMonitoringService).checkRateLimit("203.0.113.7", "/api/gatherings");
+        verify(securityMonitoringService).checkRateLimit("198.51.100.9", "/api/gatherings");
+        verify(securityMonitoringService, never()).checkRateLimit(eq(LOAD_BALANCER), anyString());
+    }
+
+    @Test
+    public void doFilter_WhenForwardedClientIsLimited_ShouldRejectWith429() throws Exception {
+        // Given
+        when(securityMonitoringService.checkRateLimit("203.0.113.7", "/api/gatherings"))
+                .thenReturn(new RequestRateLimiter.Decision(false, "default", 1_000_000_000L));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(forwarded("203.0.113.7"), response, chain);
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest forwarded(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/gatherings");
+        request.setRemoteAddr(LOAD_BALANCER);
+        request.addHeader("X-Forwarded-For", client);
+        return request;
+    }
+}
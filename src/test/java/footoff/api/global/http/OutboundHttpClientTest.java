@@ -0,0 +1,37 @@
+package footoff.api.global.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+public class OutboundHttpClientTest {
+
+    @Test
+    public void isFailure_ShouldCountConnectionFailuresAndServerErrors() {
+        assertTrue(OutboundHttpClient.isFailure(new ResourceAccessException("Read timed out")));
+        assertTrue(OutboundHttpClient.isFailure(
+                HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", HttpHeaders.EMPTY, null, null)));
+        assertTrue(OutboundHttpClient.isFailure(
+                HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", HttpHeaders.EMPTY, null, null)));
+    }
+
+    @Test
+    public void isFailure_ShouldCountTooManyRequests() {
+        assertTrue(OutboundHttpClient.isFailure(
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", HttpHeaders.EMPTY, null, null)));
+    }
+
+    @Test
+    public void isFailure_ShouldIgnoreOtherClientErrors() {
+        assertFalse(OutboundHttpClient.isFailure(
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY, null, null)));
+        assertFalse(OutboundHttpClient.isFailure(
+                HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", HttpHeaders.EMPTY, null, null)));
+        assertFalse(OutboundHttpClient.isFailure(new IllegalStateException("unexpected")));
+    }
+}
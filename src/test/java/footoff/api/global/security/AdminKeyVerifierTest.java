@@ -0,0 +1,33 @@
+package footoff.api.global.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class AdminKeyVerifierTest {
+
+    @Test
+    public void isAdmin_WithMatchingKey_ShouldReturnTrue() {
+        // Given
+        AdminKeyVerifier verifier = new AdminKeyVerifier("secret-key");
+
+        // When & Then
+        assertTrue(verifier.isAdmin("secret-key"));
+        assertFalse(verifier.isAdmin("secret-kez"));
+        assertFalse(verifier.isAdmin("secret"));
+        assertFalse(verifier.isAdmin(null));
+    }
+
+    @Test
+    public void isAdmin_WhenKeyNotConfigured_ShouldRejectEveryRequest() {
+        // Given
+        AdminKeyVerifier verifier = new AdminKeyVerifier("");
+        AdminKeyVerifier blankVerifier = new AdminKeyVerifier("   ");
+
+        // When & Then
+        assertFalse(verifier.isAdmin(""));
+        assertFalse(blankVerifier.isAdmin("   "));
+        assertFalse(verifier.isAdmin("anything"));
+        assertFalse(verifier.isAdmin(null));
+    }
+}
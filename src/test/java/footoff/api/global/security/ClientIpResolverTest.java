@@ -0,0 +1,66 @@
+package footoff.api.global.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(new String[] {"10.0.0.0/8", "::1"});
+
+    @Test
+    public void resolve_WithoutForwardedHeader_ShouldUseRemoteAddress() {
+        // Given
+        MockHttpServletRequest request = request("203.0.113.7", null);
+
+        // When & Then
+        assertEquals("203.0.113.7", resolver.resolve(request));
+    }
+
+    @Test
+    public void resolve_FromTrustedProxy_ShouldUseForwardedClient() {
+        // Given
+        MockHttpServletRequest request = request("10.0.1.20", "203.0.113.7");
+
+        // When & Then
+        assertEquals("203.0.113.7", resolver.resolve(request));
+    }
+
+    @Test
+    public void resolve_ThroughProxyChain_ShouldSkipTrustedHopsAndIgnoreSpoofedEntries() {
+        // Given: 클라이언트가 임의로 넣은 1.1.1.1 뒤에 로드 밸런서가 실제 주소를 덧붙인 경우
+        MockHttpServletRequest request = request("10.0.1.20", "1.1.1.1, 203.0.113.7, 10.0.2.30");
+
+        // When & Then
+        assertEquals("203.0.113.7", resolver.resolve(request));
+    }
+
+    @Test
+    public void resolve_FromUntrustedRemote_ShouldIgnoreForwardedHeader() {
+        // Given
+        MockHttpServletRequest request = request("198.51.100.9", "203.0.113.7");
+
+        // When & Then
+        assertEquals("198.51.100.9", resolver.resolve(request));
+    }
+
+    @Test
+    public void resolve_WithNonAddressHop_ShouldStopAtLastValidHop() {
+        // Given
+        MockHttpServletRequest request = request("10.0.1.20", "evil.example.com, 10.0.2.30");
+
+        // When & Then
+        assertEquals("10.0.2.30", resolver.resolve(request));
+        assertEquals("0:0:0:0:0:0:0:1", resolver.resolve(request("0:0:0:0:0:0:0:1", "not-an-ip")));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/gatherings");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader(ClientIpResolver.FORWARDED_FOR, forwardedFor);
+        }
+        return request;
+    }
+}
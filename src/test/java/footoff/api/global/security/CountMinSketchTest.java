@@ -0,0 +1,69 @@
+package footoff.api.global.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CountMinSketchTest {
+
+    @Test
+    public void increment_ShouldNeverUnderestimateAndFindHeavyHitters() {
+        // Given: IP 10만 개가 한 번씩 요청하는 동안 두 IP가 대량으로 요청
+        CountMinSketch sketch = new CountMinSketch(4, 1 << 16);
+        HeavyHitters heavyHitters = new HeavyHitters(5);
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            String ip = "10." + (i >> 16) + "." + ((i >> 8) & 0xFF) + "." + (i & 0xFF);
+            heavyHitters.offer(ip, sketch.increment(ip));
+            if (i % 10 == 0) {
+                heavyHitters.offer("1.1.1.1", sketch.increment("1.1.1.1"));
+            }
+            if (i % 20 == 0) {
+                heavyHitters.offer("2.2.2.2", sketch.increment("2.2.2.2"));
+            }
+        }
+
+        // Then
+        assertTrue(sketch.estimate("1.1.1.1") >= 10_000);
+        assertTrue(sketch.estimate("2.2.2.2") >= 5_000);
+        assertTrue(sketch.estimate("10.0.0.1") >= 1);
+
+        List<HeavyHitters.Entry> top = heavyHitters.top();
+        assertEquals("1.1.1.1", top.get(0).key());
+        assertEquals("2.2.2.2", top.get(1).key());
+    }
+
+    @Test
+    public void halve_ShouldDecayCounts() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(2, 1 << 4);
+        for (int i = 0; i < 8; i++) {
+            sketch.increment("1.1.1.1");
+        }
+
+        // When
+        sketch.halve();
+
+        // Then
+        assertEquals(4, sketch.estimate("1.1.1.1"));
+    }
+
+    @Test
+    public void eventRing_ShouldKeepOnlyLatestEvents() {
+        // Given
+        EventRing<Integer> ring = new EventRing<>(4);
+
+        // When
+        for (int i = 1; i <= 6; i++) {
+            ring.add(i);
+        }
+
+        // Then
+        assertEquals(6, ring.total());
+        assertEquals(6, ring.latest());
+        assertEquals(List.of(6, 5, 4, 3), ring.snapshot());
+    }
+}
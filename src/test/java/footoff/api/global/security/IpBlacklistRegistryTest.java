@@ -0,0 +1,125 @@
+package footoff.api.global.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import footoff.api.global.common.repository.IpBlacklistRepository;
+import footoff.api.global.common.repository.projection.IpBlacklistView;
+
+public class IpBlacklistRegistryTest {
+
+    @Mock
+    private IpBlacklistRepository ipBlacklistRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IpBlacklistRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        registry = new IpBlacklistRegistry(ipBlacklistRepository, new TransactionTemplate(transactionManager),
+                1000, Duration.ofSeconds(10), Duration.ofDays(7));
+    }
+
+    @Test
+    public void rebuild_ShouldLoadActiveEntriesFromDatabase() {
+        // Given: 다른 서버가 차단한 IP
+        when(ipBlacklistRepository.findActive(any())).thenReturn(List.of(view("1.1.1.1", Duration.ofHours(1))));
+
+        // When
+        registry.rebuild();
+
+        // Then
+        assertTrue(registry.isBlocked("1.1.1.1"));
+        assertFalse(registry.isBlocked("2.2.2.2"));
+    }
+
+    @Test
+    public void sync_ShouldApplyBlocksAndUnblocksFromOtherNodes() {
+        // Given
+        when(ipBlacklistRepository.findActive(any())).thenReturn(List.of(view("1.1.1.1", Duration.ofHours(1))));
+        registry.rebuild();
+
+        // When: 1.1.1.1 은 해제(만료 시각이 현재로 당겨짐), 3.3.3.3 은 새로 차단
+        when(ipBlacklistRepository.findChangedSince(any())).thenReturn(List.of(
+                view("1.1.1.1", Duration.ofSeconds(-1)),
+                view("3.3.3.3", Duration.ofHours(1))));
+        registry.sync();
+
+        // Then
+        assertFalse(registry.isBlocked("1.1.1.1"));
+        assertTrue(registry.isBlocked("3.3.3.3"));
+    }
+
+    @Test
+    public void block_ShouldApplyLocallyEvenWhenDatabaseFails() {
+        // Given
+        when(ipBlacklistRepository.upsert(anyString(), anyString(), any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // When
+        registry.block("4.4.4.4", "테스트", Duration.ofHours(1));
+
+        // Then
+        assertTrue(registry.isBlocked("4.4.4.4"));
+        verify(ipBlacklistRepository).upsert(eq("4.4.4.4"), eq("테스트"), any(), any());
+    }
+
+    @Test
+    public void bloomFilter_ShouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("10.0." + (i >> 8) + "." + (i & 0xFF));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("172.16." + (i >> 8) + "." + (i & 0xFF))) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("10.0." + (i >> 8) + "." + (i & 0xFF)));
+        }
+        assertTrue(falsePositives < 2_000, "오탐 수: " + falsePositives);
+    }
+
+    private static IpBlacklistView view(String ip, Duration expiresIn) {
+        LocalDateTime now = LocalDateTime.now();
+        return new IpBlacklistView() {
+            @Override
+            public String getIp() {
+                return ip;
+            }
+
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return now.plus(expiresIn);
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return now;
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package footoff.api.global.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import footoff.api.global.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RequestRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RequestRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setup() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getDefaults().setPermitsPerSecond(10);
+        properties.getDefaults().setBurst(5);
+
+        RateLimitProperties.Route auth = new RateLimitProperties.Route();
+        auth.setPathPrefixes(List.of("/auth/"));
+        auth.setPermitsPerSecond(1);
+        auth.setBurst(2);
+        properties.getRoutes().put("auth", auth);
+
+        rateLimiter = new RequestRateLimiter(properties, meterRegistry, nanos::get);
+    }
+
+    @Test
+    public void tryAcquire_ShouldAllowBurstThenReject() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimiter.tryAcquire("1.1.1.1", "/api/gatherings").allowed());
+        }
+        RequestRateLimiter.Decision rejected = rateLimiter.tryAcquire("1.1.1.1", "/api/gatherings");
+
+        // Then
+        assertFalse(rejected.allowed());
+        assertEquals(RequestRateLimiter.DEFAULT_ROUTE, rejected.route());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), rejected.retryAfterNanos());
+        assertEquals(1.0, meterRegistry.counter("security.rate_limit.rejected", "route", "default").count());
+    }
+
+    @Test
+    public void tryAcquire_ShouldRefillOverTime() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("1.1.1.1", "/api/gatherings");
+        }
+
+        // When: 한 건이 차지하는 시간(100ms)이 지나면 한 건만 다시 허용
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // Then
+        assertTrue(rateLimiter.tryAcquire("1.1.1.1", "/api/gatherings").allowed());
+        assertFalse(rateLimiter.tryAcquire("1.1.1.1", "/api/gatherings").allowed());
+    }
+
+    @Test
+    public void tryAcquire_ShouldApplyLimitPerIpAndRouteClass() {
+        // Given
+        assertTrue(rateLimiter.tryAcquire("1.1.1.1", "/auth/kakao").allowed());
+        assertTrue(rateLimiter.tryAcquire("1.1.1.1", "/auth/kakao").allowed());
+
+        // When & Then
+        RequestRateLimiter.Decision rejected = rateLimiter.tryAcquire("1.1.1.1", "/auth/apple");
+        assertFalse(rejected.allowed());
+        assertEquals("auth", rejected.route());
+        assertEquals(1, rejected.retryAfterSeconds());
+        assertTrue(rateLimiter.tryAcquire("2.2.2.2", "/auth/kakao").allowed());
+        assertTrue(rateLimiter.tryAcquire("1.1.1.1", "/api/gatherings").allowed());
+    }
+}
@@ -0,0 +1,79 @@
+package footoff.api.global.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import footoff.api.global.security.RequestScanner.Threat;
+
+public class RequestScannerTest {
+
+    // 기존 필터의 경로/쿼리 정규식 (판정이 같아야 함)
+    private static final List<Pattern> LEGACY_PATHS = List.of(
+            Pattern.compile(".+\\.php$"),
+            Pattern.compile(".+\\.sh$"),
+            Pattern.compile(".+\\.cgi$"),
+            Pattern.compile(".*/(wp|wordpress|admin|shell|cmd|powershell)/.*"),
+            Pattern.compile(".*/actuator(?!/health$).*"));
+    private static final List<Pattern> LEGACY_PARAMS = List.of(
+            Pattern.compile(".*select.*from.*"),
+            Pattern.compile(".*union.*select.*"),
+            Pattern.compile(".*exec.*"),
+            Pattern.compile(".*'.*or.*'.*'.*=.*'"),
+            Pattern.compile(".*\".*or.*\".*\".*=.*\""),
+            Pattern.compile(".*\\\\x[0-9a-fA-F]{2}.*"));
+
+    private final RequestScanner requestScanner = new RequestScanner();
+
+    @Test
+    public void scanPath_ShouldMatchLegacyPathPatterns() {
+        // Given
+        List<String> paths = List.of("/api/gatherings", "/index.php", "/x/Index.PHP", "/a.sh", "/cgi-bin/test.cgi",
+                "/wp/login", "/WP/login", "/api/admin/caches", "/api/management/caches", "/manage/actuator/health", "/actuator/env",
+                "/download/powershell/x", "/api/report", "/api/gatherings/location");
+
+        // When & Then
+        for (String path : paths) {
+            boolean legacy = LEGACY_PATHS.stream().anyMatch(pattern -> pattern.matcher(path).matches());
+            assertEquals(legacy, Threat.SUSPICIOUS_PATH.in(requestScanner.scanPath(path)), path);
+        }
+    }
+
+    @Test
+    public void scanQuery_ShouldMatchLegacyParamPatternsIgnoringCase() {
+        // Given
+        List<String> queries = List.of("page=1&size=20", "q=SELECT+a+FROM+b", "q=union select", "q=EXEC",
+                "a='x' or '1'='1'", "a=\"x\" OR \"1\"=\"1\"", "a=\\x4A", "a=\\xZZ", "q=selection", "keyword=형식",
+                "q=from select");
+
+        // When & Then
+        for (String query : queries) {
+            boolean legacy = LEGACY_PARAMS.stream().anyMatch(pattern -> pattern.matcher(query.toLowerCase()).matches());
+            assertEquals(legacy, Threat.SUSPICIOUS_QUERY.in(requestScanner.scanQuery(query)), query);
+        }
+    }
+
+    @Test
+    public void scanPath_ShouldDetectMonitoredAttacks() {
+        // When & Then
+        assertTrue(Threat.SQL_INJECTION.in(requestScanner.scanPath("/api/user/1 OR 1=1")));
+        assertTrue(Threat.SQL_INJECTION.in(requestScanner.scanPath("/api/x/UNION\tSELECT")));
+        assertTrue(Threat.XSS.in(requestScanner.scanPath("/a/<ScRipT>alert(1)</script>")));
+        assertTrue(Threat.XSS.in(requestScanner.scanPath("/a/onload=1")));
+        assertTrue(Threat.PATH_TRAVERSAL.in(requestScanner.scanPath("/../etc/passwd")));
+        assertTrue(Threat.PATH_TRAVERSAL.in(requestScanner.scanPath("/C:\\Windows")));
+        assertEquals(0, requestScanner.scanPath("/api/user/x%20or%201=1"));
+        assertEquals(0, requestScanner.scanPath("/api/report/3"));
+    }
+
+    @Test
+    public void scanPath_ShouldNotFlagManagementApi() {
+        // When & Then: 관리자 API 는 /admin/ 경로 규칙에 걸리지 않는 /api/management 아래에 둔다
+        assertEquals(0, requestScanner.scanPath("/api/management/caches"));
+        assertEquals(0, requestScanner.scanPath("/api/management/caches/feedCache"));
+        assertEquals(0, requestScanner.scanPath("/api/management/search-index/rebuild"));
+    }
+}